@@ -0,0 +1,13 @@
+package br.com.beca.banksimulator;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class BankAccountSimulatorApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(BankAccountSimulatorApplication.class, args);
+	}
+
+}
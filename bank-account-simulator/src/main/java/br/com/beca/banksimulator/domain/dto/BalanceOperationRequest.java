@@ -0,0 +1,8 @@
+package br.com.beca.banksimulator.domain.dto;
+
+import java.math.BigDecimal;
+
+public record BalanceOperationRequest(
+        BigDecimal amount
+) {
+}
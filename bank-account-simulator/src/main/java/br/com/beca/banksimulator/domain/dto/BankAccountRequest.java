@@ -0,0 +1,13 @@
+package br.com.beca.banksimulator.domain.dto;
+
+import java.math.BigDecimal;
+
+// campos nulos no PUT mantêm o valor atual, como na MockAPI
+public record BankAccountRequest(
+        String userId,
+        BigDecimal balance,
+        String currency,
+        Boolean active,
+        String ownerEmail
+) {
+}
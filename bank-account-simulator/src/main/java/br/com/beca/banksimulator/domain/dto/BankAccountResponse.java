@@ -0,0 +1,13 @@
+package br.com.beca.banksimulator.domain.dto;
+
+import java.math.BigDecimal;
+
+public record BankAccountResponse(
+        Long id,
+        String userId,
+        BigDecimal balance,
+        String currency,
+        boolean active,
+        String ownerEmail
+) {
+}
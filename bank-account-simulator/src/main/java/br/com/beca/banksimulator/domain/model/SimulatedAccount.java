@@ -0,0 +1,71 @@
+package br.com.beca.banksimulator.domain.model;
+
+import br.com.beca.banksimulator.domain.dto.BankAccountResponse;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Conta mantida em memória. O saldo é atômico para aguentar PUTs concorrentes do teste de carga.
+ */
+public class SimulatedAccount {
+
+    private final Long id;
+    private final String userId;
+    private final AtomicReference<BigDecimal> balance;
+    private volatile String currency;
+    private volatile boolean active;
+    private volatile String ownerEmail;
+
+    public SimulatedAccount(Long id, String userId, BigDecimal balance, String currency, boolean active, String ownerEmail) {
+        this.id = id;
+        this.userId = userId;
+        this.balance = new AtomicReference<>(balance);
+        this.currency = currency;
+        this.active = active;
+        this.ownerEmail = ownerEmail;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance.get();
+    }
+
+    public void setBalance(BigDecimal newBalance) {
+        balance.set(newBalance);
+    }
+
+    // crédito/débito atômico; um débito que deixaria o saldo negativo não é aplicado
+    public BigDecimal addToBalance(BigDecimal delta) {
+        return balance.updateAndGet(current -> {
+            BigDecimal updated = current.add(delta);
+            if (updated.signum() < 0) {
+                throw new IllegalStateException("Saldo insuficiente na conta " + id);
+            }
+            return updated;
+        });
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public void setOwnerEmail(String ownerEmail) {
+        this.ownerEmail = ownerEmail;
+    }
+
+    public BankAccountResponse toResponse() {
+        return new BankAccountResponse(id, userId, balance.get(), currency, active, ownerEmail);
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.beca.banksimulator.infrastructure.chaos;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Aplica throttling (429), latência e falhas injetadas antes de chegar ao controller.
+ */
+public class ChaosInterceptor implements HandlerInterceptor {
+
+    private final ChaosState state;
+
+    public ChaosInterceptor(ChaosState state) {
+        this.state = state;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!state.tryAcquire()) {
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit excedido");
+            return false;
+        }
+
+        ChaosSettings settings = state.get();
+        long latency = settings.latency().sampleMillis(settings);
+        if (latency > 0) {
+            Thread.sleep(latency);
+        }
+
+        if (settings.errorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.errorRate()) {
+            response.sendError(settings.errorStatus(), "Falha injetada pelo simulador");
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.beca.banksimulator.infrastructure.chaos;
+
+/**
+ * Condições simuladas da API bancária.
+ *
+ * @param latency           distribuição da latência
+ * @param latencyMs         valor fixo, mínimo (UNIFORM) ou mediana (LOGNORMAL)
+ * @param latencyMaxMs      máximo (UNIFORM) ou teto da cauda (LOGNORMAL, 0 = sem teto)
+ * @param sigma             desvio do log da latência (LOGNORMAL)
+ * @param spikeRate         fração das requisições que recebe um pico extra
+ * @param spikeMs           duração do pico
+ * @param errorRate         fração das requisições que falha com errorStatus
+ * @param errorStatus       status HTTP devolvido na falha injetada
+ * @param rateLimitPerSecond requisições por segundo antes de responder 429 (0 = sem limite)
+ */
+public record ChaosSettings(
+        LatencyDistribution latency,
+        long latencyMs,
+        long latencyMaxMs,
+        double sigma,
+        double spikeRate,
+        long spikeMs,
+        double errorRate,
+        int errorStatus,
+        int rateLimitPerSecond
+) {
+
+    // PUT /admin/chaos parcial: sem distribuição é sem latência, sem status a falha é 503
+    public ChaosSettings {
+        if (latency == null) {
+            latency = LatencyDistribution.NONE;
+        }
+        if (errorStatus <= 0) {
+            errorStatus = 503;
+        }
+    }
+}
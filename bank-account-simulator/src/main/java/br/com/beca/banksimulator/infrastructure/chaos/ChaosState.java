@@ -0,0 +1,58 @@
+package br.com.beca.banksimulator.infrastructure.chaos;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Configuração atual do simulador, alterável em tempo de execução via /admin/chaos,
+ * e o token bucket usado para o throttling.
+ */
+@Component
+public class ChaosState {
+
+    private final AtomicReference<ChaosSettings> settings;
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    public ChaosState(
+            @Value("${simulator.latency.distribution:NONE}") LatencyDistribution latency,
+            @Value("${simulator.latency.ms:0}") long latencyMs,
+            @Value("${simulator.latency.max-ms:0}") long latencyMaxMs,
+            @Value("${simulator.latency.sigma:0.5}") double sigma,
+            @Value("${simulator.latency.spike-rate:0}") double spikeRate,
+            @Value("${simulator.latency.spike-ms:0}") long spikeMs,
+            @Value("${simulator.errors.rate:0}") double errorRate,
+            @Value("${simulator.errors.status:503}") int errorStatus,
+            @Value("${simulator.throttle.requests-per-second:0}") int rateLimitPerSecond
+    ) {
+        this.settings = new AtomicReference<>(new ChaosSettings(
+                latency, latencyMs, latencyMaxMs, sigma, spikeRate, spikeMs, errorRate, errorStatus, rateLimitPerSecond));
+        this.tokens = rateLimitPerSecond;
+    }
+
+    public ChaosSettings get() {
+        return settings.get();
+    }
+
+    public synchronized void set(ChaosSettings newSettings) {
+        settings.set(newSettings);
+        tokens = Math.min(tokens, newSettings.rateLimitPerSecond());
+    }
+
+    public synchronized boolean tryAcquire() {
+        int rate = settings.get().rateLimitPerSecond();
+        if (rate <= 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        tokens = Math.min(rate, tokens + (now - lastRefillNanos) * rate / 1e9);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.beca.banksimulator.infrastructure.chaos;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum LatencyDistribution {
+    NONE {
+        @Override
+        long baseMillis(ChaosSettings s, ThreadLocalRandom random) {
+            return 0;
+        }
+    },
+    FIXED {
+        @Override
+        long baseMillis(ChaosSettings s, ThreadLocalRandom random) {
+            return s.latencyMs();
+        }
+    },
+    UNIFORM {
+        @Override
+        long baseMillis(ChaosSettings s, ThreadLocalRandom random) {
+            return s.latencyMaxMs() <= s.latencyMs() ? s.latencyMs() : random.nextLong(s.latencyMs(), s.latencyMaxMs() + 1);
+        }
+    },
+    // cauda longa típica de serviço remoto: latencyMs é a mediana e sigma controla a cauda
+    LOGNORMAL {
+        @Override
+        long baseMillis(ChaosSettings s, ThreadLocalRandom random) {
+            return Math.round(s.latencyMs() * Math.exp(s.sigma() * random.nextGaussian()));
+        }
+    };
+
+    abstract long baseMillis(ChaosSettings s, ThreadLocalRandom random);
+
+    /** Latência sorteada, incluindo picos ocasionais e limitada por latencyMaxMs quando configurado. */
+    public long sampleMillis(ChaosSettings s) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long millis = baseMillis(s, random);
+        if (s.spikeRate() > 0 && random.nextDouble() < s.spikeRate()) {
+            millis += s.spikeMs();
+        }
+        if (this == LOGNORMAL && s.latencyMaxMs() > 0) {
+            millis = Math.min(millis, s.latencyMaxMs());
+        }
+        return Math.max(0, millis);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.beca.banksimulator.infrastructure.config;
+
+import br.com.beca.banksimulator.infrastructure.chaos.ChaosInterceptor;
+import br.com.beca.banksimulator.infrastructure.chaos.ChaosState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ChaosState chaosState;
+    private final String resource;
+
+    public WebConfig(ChaosState chaosState, @Value("${simulator.resource:/BankAccount}") String resource) {
+        this.chaosState = chaosState;
+        this.resource = resource;
+    }
+
+    // só o contrato da API bancária sofre o caos; /admin e /actuator respondem normalmente
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ChaosInterceptor(chaosState))
+                .addPathPatterns(resource, resource + "/**");
+    }
+}
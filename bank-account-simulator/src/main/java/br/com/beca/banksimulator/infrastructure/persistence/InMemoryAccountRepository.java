@@ -0,0 +1,84 @@
+package br.com.beca.banksimulator.infrastructure.persistence;
+
+import br.com.beca.banksimulator.domain.dto.BankAccountRequest;
+import br.com.beca.banksimulator.domain.model.SimulatedAccount;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+public class InMemoryAccountRepository {
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, SimulatedAccount> byId = new ConcurrentHashMap<>();
+    private final Map<String, SimulatedAccount> byUserId = new ConcurrentHashMap<>();
+
+    public SimulatedAccount create(BankAccountRequest request) {
+        SimulatedAccount account = new SimulatedAccount(
+                sequence.incrementAndGet(),
+                request.userId(),
+                request.balance() == null ? BigDecimal.ZERO : request.balance(),
+                request.currency() == null ? "BRL" : request.currency(),
+                request.active() == null || request.active(),
+                request.ownerEmail()
+        );
+        byId.put(account.getId(), account);
+        if (account.getUserId() != null) {
+            byUserId.put(account.getUserId(), account);
+        }
+        return account;
+    }
+
+    /** Cria a conta na primeira consulta; usado quando o teste de carga não passa pelo user-service. */
+    public SimulatedAccount findOrCreate(String userId, BigDecimal initialBalance) {
+        return byUserId.computeIfAbsent(userId, id -> {
+            SimulatedAccount account = new SimulatedAccount(sequence.incrementAndGet(), id, initialBalance, "BRL", true, null);
+            byId.put(account.getId(), account);
+            return account;
+        });
+    }
+
+    public List<SimulatedAccount> findByUserId(String userId) {
+        SimulatedAccount account = byUserId.get(userId);
+        return account == null ? List.of() : List.of(account);
+    }
+
+    public Optional<SimulatedAccount> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Collection<SimulatedAccount> findAll() {
+        return byId.values();
+    }
+
+    public Optional<SimulatedAccount> update(Long id, BankAccountRequest request) {
+        SimulatedAccount account = byId.get(id);
+        if (account == null) {
+            return Optional.empty();
+        }
+        if (request.balance() != null) account.setBalance(request.balance());
+        if (request.currency() != null) account.setCurrency(request.currency());
+        if (request.active() != null) account.setActive(request.active());
+        if (request.ownerEmail() != null) account.setOwnerEmail(request.ownerEmail());
+        return Optional.of(account);
+    }
+
+    public Optional<SimulatedAccount> delete(Long id) {
+        SimulatedAccount account = byId.remove(id);
+        if (account != null && account.getUserId() != null) {
+            byUserId.remove(account.getUserId(), account);
+        }
+        return Optional.ofNullable(account);
+    }
+
+    public void clear() {
+        byId.clear();
+        byUserId.clear();
+    }
+}
@@ -0,0 +1,100 @@
+package br.com.beca.banksimulator.infrastructure.web.controller;
+
+import br.com.beca.banksimulator.domain.dto.BalanceOperationRequest;
+import br.com.beca.banksimulator.domain.dto.BankAccountRequest;
+import br.com.beca.banksimulator.domain.dto.BankAccountResponse;
+import br.com.beca.banksimulator.domain.model.SimulatedAccount;
+import br.com.beca.banksimulator.infrastructure.persistence.InMemoryAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * Mesmo contrato da MockAPI usado pelo MockApiAdapter: lista por userId, POST, PUT e DELETE por id.
+ * Depósito e saque por id são extras do simulador: alteram o saldo atomicamente, sem a corrida do GET+PUT.
+ */
+@RestController
+@RequestMapping("${simulator.resource:/BankAccount}")
+public class BankAccountController {
+
+    private final InMemoryAccountRepository repository;
+    private final boolean autoCreate;
+    private final BigDecimal initialBalance;
+
+    public BankAccountController(
+            InMemoryAccountRepository repository,
+            @Value("${simulator.accounts.auto-create:false}") boolean autoCreate,
+            @Value("${simulator.accounts.initial-balance:1000000}") BigDecimal initialBalance
+    ) {
+        this.repository = repository;
+        this.autoCreate = autoCreate;
+        this.initialBalance = initialBalance;
+    }
+
+    @GetMapping
+    public List<BankAccountResponse> list(@RequestParam(required = false) String userId) {
+        Collection<SimulatedAccount> accounts;
+        if (userId == null) {
+            accounts = repository.findAll();
+        } else if (autoCreate) {
+            accounts = List.of(repository.findOrCreate(userId, initialBalance));
+        } else {
+            accounts = repository.findByUserId(userId);
+        }
+        return accounts.stream().map(SimulatedAccount::toResponse).toList();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BankAccountResponse> findById(@PathVariable Long id) {
+        return ResponseEntity.of(repository.findById(id).map(SimulatedAccount::toResponse));
+    }
+
+    @PostMapping
+    public ResponseEntity<BankAccountResponse> create(@RequestBody BankAccountRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(repository.create(request).toResponse());
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<BankAccountResponse> update(@PathVariable Long id, @RequestBody BankAccountRequest request) {
+        return ResponseEntity.of(repository.update(id, request).map(SimulatedAccount::toResponse));
+    }
+
+    @PostMapping("/{id}/deposit")
+    public ResponseEntity<BankAccountResponse> deposit(@PathVariable Long id, @RequestBody BalanceOperationRequest request) {
+        return applyToBalance(id, request, UnaryOperator.identity());
+    }
+
+    @PostMapping("/{id}/withdrawal")
+    public ResponseEntity<BankAccountResponse> withdrawal(@PathVariable Long id, @RequestBody BalanceOperationRequest request) {
+        return applyToBalance(id, request, BigDecimal::negate);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<BankAccountResponse> delete(@PathVariable Long id) {
+        return ResponseEntity.of(repository.delete(id).map(SimulatedAccount::toResponse));
+    }
+
+    private ResponseEntity<BankAccountResponse> applyToBalance(
+            Long id, BalanceOperationRequest request, UnaryOperator<BigDecimal> toDelta) {
+        if (request.amount() == null || request.amount().signum() <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        Optional<SimulatedAccount> account = repository.findById(id);
+        if (account.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            account.get().addToBalance(toDelta.apply(request.amount()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.unprocessableEntity().body(account.get().toResponse());
+        }
+        return ResponseEntity.ok(account.get().toResponse());
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.beca.banksimulator.infrastructure.web.controller;
+
+import br.com.beca.banksimulator.infrastructure.chaos.ChaosSettings;
+import br.com.beca.banksimulator.infrastructure.chaos.ChaosState;
+import br.com.beca.banksimulator.infrastructure.persistence.InMemoryAccountRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin")
+public class SimulatorAdminController {
+
+    private final ChaosState chaosState;
+    private final InMemoryAccountRepository repository;
+
+    public SimulatorAdminController(ChaosState chaosState, InMemoryAccountRepository repository) {
+        this.chaosState = chaosState;
+        this.repository = repository;
+    }
+
+    @GetMapping("/chaos")
+    public ChaosSettings chaos() {
+        return chaosState.get();
+    }
+
+    // troca as condições no meio de um teste de carga sem reiniciar o simulador
+    @PutMapping("/chaos")
+    public ChaosSettings updateChaos(@RequestBody ChaosSettings settings) {
+        chaosState.set(settings);
+        return chaosState.get();
+    }
+
+    @DeleteMapping("/accounts")
+    public ResponseEntity<Void> reset() {
+        repository.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
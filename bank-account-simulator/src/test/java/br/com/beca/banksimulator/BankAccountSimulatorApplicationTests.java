@@ -0,0 +1,13 @@
+package br.com.beca.banksimulator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BankAccountSimulatorApplicationTests {
+
+	@Test
+	void contextLoads() {
+	}
+
+}
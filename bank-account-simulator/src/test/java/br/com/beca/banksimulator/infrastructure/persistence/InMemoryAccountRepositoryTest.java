@@ -0,0 +1,59 @@
+package br.com.beca.banksimulator.infrastructure.persistence;
+
+import br.com.beca.banksimulator.domain.dto.BankAccountRequest;
+import br.com.beca.banksimulator.domain.model.SimulatedAccount;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryAccountRepositoryTest {
+
+    private final InMemoryAccountRepository repository = new InMemoryAccountRepository();
+
+    @Test
+    void shouldFindCreatedAccountByUserId() {
+        SimulatedAccount created = repository.create(new BankAccountRequest("u1", BigDecimal.TEN, null, null, "a@b.com"));
+
+        assertEquals(created.getId(), repository.findByUserId("u1").get(0).getId());
+        assertEquals("BRL", created.toResponse().currency());
+        assertTrue(created.toResponse().active());
+    }
+
+    @Test
+    void shouldKeepFieldsNotSentOnUpdate() {
+        SimulatedAccount created = repository.create(new BankAccountRequest("u1", BigDecimal.TEN, "BRL", true, "a@b.com"));
+
+        repository.update(created.getId(), new BankAccountRequest(null, new BigDecimal("5"), null, null, null));
+
+        assertEquals(new BigDecimal("5"), created.getBalance());
+        assertEquals("a@b.com", created.toResponse().ownerEmail());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentBalanceUpdates() throws Exception {
+        SimulatedAccount account = repository.findOrCreate("u1", BigDecimal.ZERO);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            executor.submit(() -> account.addToBalance(BigDecimal.ONE));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(new BigDecimal("10000"), account.getBalance());
+    }
+
+    @Test
+    void shouldRemoveUserIndexOnDelete() {
+        SimulatedAccount created = repository.create(new BankAccountRequest("u1", BigDecimal.TEN, null, null, null));
+
+        repository.delete(created.getId());
+
+        assertTrue(repository.findByUserId("u1").isEmpty());
+        assertTrue(repository.findById(created.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.beca.banksimulator.infrastructure.web.controller;
+
+import br.com.beca.banksimulator.domain.dto.BalanceOperationRequest;
+import br.com.beca.banksimulator.domain.dto.BankAccountRequest;
+import br.com.beca.banksimulator.domain.model.SimulatedAccount;
+import br.com.beca.banksimulator.infrastructure.persistence.InMemoryAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Depósito e saque atômicos do simulador:
+ *  - requisições concorrentes não perdem atualização de saldo
+ *  - saque maior que o saldo responde 422 sem alterar a conta
+ *  - valor ausente ou não positivo responde 400; conta inexistente responde 404
+ */
+class BankAccountControllerTest {
+
+    private final InMemoryAccountRepository repository = new InMemoryAccountRepository();
+    private final BankAccountController controller = new BankAccountController(repository, false, BigDecimal.ZERO);
+
+    @Test
+    void shouldApplyConcurrentDepositsAndWithdrawalsAtomically() throws Exception {
+        SimulatedAccount account = repository.create(new BankAccountRequest("u1", new BigDecimal("1000"), null, null, null));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 5_000; i++) {
+            executor.submit(() -> controller.deposit(account.getId(), new BalanceOperationRequest(new BigDecimal("2"))));
+            executor.submit(() -> controller.withdrawal(account.getId(), new BalanceOperationRequest(BigDecimal.ONE)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(new BigDecimal("6000"), account.getBalance());
+    }
+
+    @Test
+    void shouldRejectWithdrawalAboveBalance() {
+        SimulatedAccount account = repository.create(new BankAccountRequest("u1", BigDecimal.TEN, null, null, null));
+
+        var response = controller.withdrawal(account.getId(), new BalanceOperationRequest(new BigDecimal("10.01")));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertEquals(BigDecimal.TEN, account.getBalance());
+    }
+
+    @Test
+    void shouldValidateAmountAndAccount() {
+        SimulatedAccount account = repository.create(new BankAccountRequest("u1", BigDecimal.TEN, null, null, null));
+
+        assertEquals(HttpStatus.BAD_REQUEST, controller.deposit(account.getId(), new BalanceOperationRequest(null)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST,
+                controller.withdrawal(account.getId(), new BalanceOperationRequest(BigDecimal.ONE.negate())).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, controller.deposit(999L, new BalanceOperationRequest(BigDecimal.ONE)).getStatusCode());
+    }
+}
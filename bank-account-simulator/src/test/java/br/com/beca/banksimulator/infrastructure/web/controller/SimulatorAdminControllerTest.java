@@ -0,0 +1,24 @@
+package br.com.beca.banksimulator.infrastructure.web.controller;
+
+import br.com.beca.banksimulator.infrastructure.chaos.ChaosSettings;
+import br.com.beca.banksimulator.infrastructure.chaos.ChaosState;
+import br.com.beca.banksimulator.infrastructure.chaos.LatencyDistribution;
+import br.com.beca.banksimulator.infrastructure.persistence.InMemoryAccountRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorAdminControllerTest {
+
+    private final ChaosState state = new ChaosState(LatencyDistribution.FIXED, 50, 0, 0.5, 0, 0, 0, 503, 0);
+    private final SimulatorAdminController controller = new SimulatorAdminController(state, new InMemoryAccountRepository());
+
+    @Test
+    void shouldDefaultMissingLatencyAndErrorStatus() {
+        ChaosSettings updated = controller.updateChaos(new ChaosSettings(null, 0, 0, 0, 0, 0, 0.1, 0, 0));
+
+        assertEquals(LatencyDistribution.NONE, updated.latency());
+        assertEquals(0, updated.latency().sampleMillis(updated));
+        assertEquals(503, updated.errorStatus());
+    }
+}
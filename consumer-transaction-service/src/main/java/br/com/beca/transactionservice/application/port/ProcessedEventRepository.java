@@ -0,0 +1,8 @@
+package br.com.beca.transactionservice.application.port;
+
+import java.util.UUID;
+
+public interface ProcessedEventRepository {
+    boolean isProcessed(UUID transactionId);
+    void markProcessed(UUID transactionId);
+}
@@ -0,0 +1,7 @@
+package br.com.beca.transactionservice.application.port;
+
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+
+public interface TransactionOutcomePublisher {
+    void publish(TransactionOutcomeEvent event);
+}
@@ -1,12 +1,20 @@
 package br.com.beca.transactionservice.application.port;
 
 import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionRepository {
     Transaction save(Transaction transaction);
     Optional<Transaction> findById(UUID id);
+    // serializa o processamento do id até o fim da transação corrente (sem travar a linha) e devolve o status já com o lock obtido
+    Optional<TransactionStatus> lockStatus(UUID id);
+    // trava a linha só para a gravação final; false se o MS2 já tirou a transação de PENDENTE (cancelamento)
+    boolean lockIfPending(UUID id);
+    List<UUID> findFinalizedIdsSince(LocalDateTime since, int limit);
 }
@@ -0,0 +1,8 @@
+package br.com.beca.transactionservice.application.port;
+
+import br.com.beca.transactionservice.domain.model.Transaction;
+
+public interface UserTransactionSummaryRepository {
+    // soma a transação aprovada no total do usuário/mês/tipo/categoria/moeda
+    void addApproved(Transaction transaction);
+}
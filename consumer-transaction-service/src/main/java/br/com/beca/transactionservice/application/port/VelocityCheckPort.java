@@ -0,0 +1,13 @@
+package br.com.beca.transactionservice.application.port;
+
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface VelocityCheckPort {
+    // a transação em processamento entra na conta mesmo que o agregado ainda não a tenha visto;
+    // o valor é o nominal na moeda do pedido, comparado com o teto dessa moeda
+    Optional<VelocitySignalEvent> currentSignal(UUID userId, UUID transactionId, BigDecimal amount, String currency);
+}
@@ -1,15 +1,39 @@
 package br.com.beca.transactionservice.application.usecase;
 
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+
+import java.util.Optional;
 
 public record ControllerUseCase(
         ProcessDepositUseCase processDepositUseCase,
         ProcessWithdrawalUseCase processWithdrawalUseCase,
         ProcessTransferUseCase processTransferUseCase,
-        ProcessBuyUseCase processBuyUseCase
+        ProcessBuyUseCase processBuyUseCase,
+        ProcessedEventRepository processedEvents,
+        TransactionRepository repository
 ) {
 
-    public void execute(TransactionRequestedEvent event) throws Exception {
+    /**
+     * @return {@code false} quando o evento já estava processado e nada foi feito
+     */
+    public boolean execute(TransactionRequestedEvent event) throws Exception {
+
+        // replay de um evento já confirmado no banco: pula sem tocar em API bancária nem câmbio
+        if (processedEvents.isProcessed(event.transactionId())) {
+            return false;
+        }
+
+        // lock por id até o commit: listener, retry topic e re-drive do mesmo evento passam um de cada vez
+        // e quem chega depois já enxerga o status final, sem chamar a API bancária de novo. Não é lock da
+        // linha, então um cancelamento no MS2 não fica esperando as chamadas HTTP desta entrega
+        Optional<TransactionStatus> status = repository.lockStatus(event.transactionId());
+        if (status.isPresent() && status.get() != TransactionStatus.PENDENTE) {
+            processedEvents.markProcessed(event.transactionId());
+            return false;
+        }
 
         switch (event.type()) {
             case DEPOSITO -> processDepositUseCase.execute(event);
@@ -18,5 +42,7 @@ public record ControllerUseCase(
             case COMPRA -> processBuyUseCase.execute(event);
         }
 
+        processedEvents.markProcessed(event.transactionId());
+        return true;
     }
 }
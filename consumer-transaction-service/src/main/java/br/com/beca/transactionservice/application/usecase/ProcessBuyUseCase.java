@@ -2,92 +2,121 @@ package br.com.beca.transactionservice.application.usecase;
 
 import br.com.beca.transactionservice.application.port.BankAccountPort;
 import br.com.beca.transactionservice.application.port.CurrencyConverterPort;
-import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.VelocityCheckPort;
 import br.com.beca.transactionservice.domain.dto.BankAccount;
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import br.com.beca.transactionservice.domain.exception.CurrencyConversionException;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException;
 import br.com.beca.transactionservice.domain.model.Transaction;
 import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.valueobject.FixedMoney;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
-public record ProcessBuyUseCase(TransactionRepository repository, BankAccountPort bankRepository, CurrencyConverterPort converter, TransactionEventPublisher publisher) {
+public record ProcessBuyUseCase(TransactionRepository repository, BankAccountPort bankRepository, CurrencyConverterPort converter, TransactionFinalizer finalizer, VelocityCheckPort velocityCheck) {
     public void execute(TransactionRequestedEvent event) throws Exception {
 
         Transaction transaction = repository.findById(event.transactionId()).orElseThrow(() -> new IllegalArgumentException("Transaction not found: " + event.transactionId()));
-        BankAccount account = bankRepository.findByUserId(transaction.getUserId().toString());
+
+        // redelivery de evento já finalizado: encerra antes de qualquer chamada remota
+        if (transaction.getStatus() == TransactionStatus.APROVADA || transaction.getStatus() == TransactionStatus.REJEITADA) {
+            return;
+        }
+
+        // sem valor ou moeda a transação é rejeitada; casas além da moeda são arredondadas (HALF_EVEN)
+        FixedMoney amount;
+        try {
+            amount = FixedMoney.of(event.amount(), event.currency());
+        } catch (IllegalArgumentException e) {
+            transaction.reject(e.getMessage());
+            finalizer.finish(transaction);
+            return;
+        }
 
         if (event.record() != null) {
             if (!event.currency().equals("BRL")) {
                 try {
-                    BigDecimal newAmount = converter.toBrl(event.amount(), event.currency());
                     BigDecimal fxRate = converter.fxRate(event.currency());
+                    FixedMoney brl = FixedMoney.convert(event.amount(), fxRate, "BRL");
                     transaction.approve();
-                    transaction.toBrl(newAmount, fxRate);
-                    repository.save(transaction);
+                    transaction.toBrl(brl.toBigDecimal(), fxRate);
+                    finalizer.finish(transaction);
                     return;
+                } catch (DependencyUnavailableException | CurrencyConversionException e) {
+                    throw e;
                 } catch (Exception e) {
                     transaction.reject(e.getMessage());
-                    repository.save(transaction);
-                    publisher.publish(event, e.getMessage());
+                    finalizer.finish(transaction);
                     return;
                 }
             }
             transaction.approve();
-            repository.save(transaction);
+            finalizer.finish(transaction);
             return;
         }
 
+        // usuário acima do limite de velocidade: bloqueia antes de tocar na API bancária
+        Optional<VelocitySignalEvent> velocity = velocityCheck.currentSignal(transaction.getUserId(), event.transactionId(), event.amount(), event.currency());
+        if (velocity.isPresent()) {
+            transaction.reject("Transação bloqueada por velocidade anormal: " + velocity.get().reason());
+            finalizer.finish(transaction);
+            return;
+        }
+
+        BankAccount account = bankRepository.findByUserId(transaction.getUserId().toString());
+
         if (account.id() == null) {
             transaction.reject("Não foi possível encontrar carteira de usuário " + event.uuid());
-            repository.save(transaction);
+            finalizer.finish(transaction);
             return;
         }
 
-        if (!hasSufficientBalance(event.amount(), account.balance())) {
+        if (event.currency().equals("BRL") && !hasSufficientBalance(amount, account.balance())) {
             transaction.reject("Saldo insuficiente na carteira!");
-            repository.save(transaction);
+            finalizer.finish(transaction);
             return;
         }
 
         if (!account.currency().equals("BRL")) {
             transaction.reject("Só aceitamos contas em brasileiras, formato " + account.currency() + " inválido!");
-            repository.save(transaction);
-            return;
-        }
-
-        if (transaction.getStatus() == TransactionStatus.APROVADA || transaction.getStatus() == TransactionStatus.REJEITADA) {
+            finalizer.finish(transaction);
             return;
         }
 
         if (!event.currency().equals("BRL")) {
             try {
-                BigDecimal newAmount = converter.toBrl(event.amount(), event.currency());
                 BigDecimal fxRate = converter.fxRate(event.currency());
-                if (!hasSufficientBalance(newAmount, account.balance())) {
+                FixedMoney brl = FixedMoney.convert(event.amount(), fxRate, "BRL");
+                if (!hasSufficientBalance(brl, account.balance())) {
                     transaction.reject("Saldo insuficiente na carteira!");
-                    repository.save(transaction);
+                    finalizer.finish(transaction);
                     return;
                 }
-                bankRepository.withdrawal(event.uuid().toString(), newAmount);
+                bankRepository.withdrawal(event.uuid().toString(), brl.toBigDecimal());
                 transaction.approve();
-                transaction.toBrl(newAmount, fxRate);
-                repository.save(transaction);
+                transaction.toBrl(brl.toBigDecimal(), fxRate);
+                finalizer.finish(transaction);
                 return;
+            } catch (DependencyUnavailableException | CurrencyConversionException | UnconfirmedBankWriteException e) {
+                throw e;
             } catch (Exception e) {
                 transaction.reject(e.getMessage());
-                repository.save(transaction);
-                publisher.publish(event, e.getMessage());
+                finalizer.finish(transaction);
                 return;
             }
         }
 
-        bankRepository.withdrawal(event.uuid().toString(), event.amount());
+        bankRepository.withdrawal(event.uuid().toString(), amount.toBigDecimal());
         transaction.approve();
-        repository.save(transaction);
+        finalizer.finish(transaction);
     }
 
-    private boolean hasSufficientBalance(BigDecimal amount, BigDecimal balance) {
-        return balance.compareTo(amount) >= 0;
+    // saldo e valor já em BRL; fração de centavo no saldo externo não conta
+    private boolean hasSufficientBalance(FixedMoney amount, BigDecimal balance) {
+        return FixedMoney.floorOf(balance, amount.currency()).covers(amount);
     }
 }
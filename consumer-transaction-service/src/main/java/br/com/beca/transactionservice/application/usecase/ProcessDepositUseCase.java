@@ -2,12 +2,15 @@ package br.com.beca.transactionservice.application.usecase;
 
 import br.com.beca.transactionservice.application.port.BankAccountPort;
 import br.com.beca.transactionservice.application.port.CurrencyConverterPort;
-import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
 import br.com.beca.transactionservice.domain.dto.BankAccount;
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.exception.CurrencyConversionException;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException;
 import br.com.beca.transactionservice.domain.model.Transaction;
 import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.valueobject.FixedMoney;
 
 import java.math.BigDecimal;
 
@@ -15,71 +18,85 @@ public record ProcessDepositUseCase(
         TransactionRepository repository,
         BankAccountPort bankRepository,
         CurrencyConverterPort converter,
-        TransactionEventPublisher publisher
+        TransactionFinalizer finalizer
 ) {
     public void execute(TransactionRequestedEvent event) throws Exception {
 
         Transaction transaction = repository.findById(event.transactionId()).orElseThrow(() -> new IllegalArgumentException("Transaction not found: " + event.transactionId()));
-        BankAccount account = bankRepository.findByUserId(transaction.getUserId().toString());
+
+        // redelivery de evento já finalizado: encerra antes de qualquer chamada remota
+        if (transaction.getStatus() == TransactionStatus.APROVADA || transaction.getStatus() == TransactionStatus.REJEITADA) {
+            return;
+        }
+
+        // sem valor ou moeda a transação é rejeitada; casas além da moeda são arredondadas (HALF_EVEN)
+        FixedMoney amount;
+        try {
+            amount = FixedMoney.of(event.amount(), event.currency());
+        } catch (IllegalArgumentException e) {
+            transaction.reject(e.getMessage());
+            finalizer.finish(transaction);
+            return;
+        }
 
         if (event.record() != null) {
             if (!event.currency().equals("BRL")) {
                 try {
-                    BigDecimal newAmount = converter.toBrl(event.amount(), event.currency());
                     BigDecimal fxRate = converter.fxRate(event.currency());
+                    FixedMoney brl = FixedMoney.convert(event.amount(), fxRate, "BRL");
                     transaction.approve();
-                    transaction.toBrl(newAmount, fxRate);
-                    repository.save(transaction);
+                    transaction.toBrl(brl.toBigDecimal(), fxRate);
+                    finalizer.finish(transaction);
                     return;
+                } catch (DependencyUnavailableException | CurrencyConversionException e) {
+                    throw e;
                 } catch (Exception e) {
                     transaction.reject(e.getMessage());
-                    repository.save(transaction);
-                    publisher.publish(event, e.getMessage());
+                    finalizer.finish(transaction);
                     return;
                 }
 
             }
             transaction.approve();
-            repository.save(transaction);
+            finalizer.finish(transaction);
             return;
         }
 
+        BankAccount account = bankRepository.findByUserId(transaction.getUserId().toString());
+
 
         if (account.id() == null) {
             transaction.reject("Não foi possível encontrar carteira de usuário " + event.uuid());
-            repository.save(transaction);
+            finalizer.finish(transaction);
             return;
         }
 
         if (!account.currency().equals("BRL")) {
             transaction.reject("Só aceitamos contas em brasileiras, formato " + account.currency() + " inválido!");
-            repository.save(transaction);
-            return;
-        }
-
-        if (transaction.getStatus() == TransactionStatus.APROVADA || transaction.getStatus() == TransactionStatus.REJEITADA) {
+            finalizer.finish(transaction);
             return;
         }
 
         if (!event.currency().equals("BRL")) {
             try {
-                BigDecimal newAmount = converter.toBrl(event.amount(), event.currency());
                 BigDecimal fxRate = converter.fxRate(event.currency());
-                bankRepository.deposit(event.uuid().toString(), newAmount);
+                FixedMoney brl = FixedMoney.convert(event.amount(), fxRate, "BRL");
+                bankRepository.deposit(event.uuid().toString(), brl.toBigDecimal());
                 transaction.approve();
-                transaction.toBrl(newAmount, fxRate);
-                repository.save(transaction);
+                transaction.toBrl(brl.toBigDecimal(), fxRate);
+                finalizer.finish(transaction);
                 return;
+            } catch (DependencyUnavailableException | CurrencyConversionException | UnconfirmedBankWriteException e) {
+                throw e;
             } catch (Exception e) {
                 transaction.reject(e.getMessage());
-                repository.save(transaction);
-                publisher.publish(event, e.getMessage());
+                finalizer.finish(transaction);
                 return;
             }
         }
 
-            bankRepository.deposit(event.uuid().toString(), event.amount());
+            bankRepository.deposit(event.uuid().toString(), amount.toBigDecimal());
             transaction.approve();
-            repository.save(transaction);
+            finalizer.finish(transaction);
     }
 }
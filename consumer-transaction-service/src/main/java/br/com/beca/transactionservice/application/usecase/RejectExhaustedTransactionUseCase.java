@@ -0,0 +1,27 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+
+import java.util.UUID;
+
+// tentativas esgotadas (evento na DLQ): a transação não pode ficar PENDENTE para sempre
+public record RejectExhaustedTransactionUseCase(
+        TransactionRepository repository,
+        TransactionFinalizer finalizer,
+        ProcessedEventRepository processedEvents
+) {
+
+    public boolean execute(UUID transactionId, String reason) {
+        Transaction transaction = repository.findById(transactionId).orElse(null);
+        if (transaction == null || transaction.getStatus() != TransactionStatus.PENDENTE) {
+            return false;
+        }
+        transaction.reject("Não foi possível processar a transação: " + (reason == null || reason.isBlank() ? "tentativas esgotadas" : reason));
+        finalizer.finish(transaction);
+        processedEvents.markProcessed(transactionId);
+        return true;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionOutcomePublisher;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+
+// ponto único onde uma transação aprovada/rejeitada é gravada e anunciada para os agregados
+public record TransactionFinalizer(
+        TransactionRepository repository,
+        TransactionOutcomePublisher publisher,
+        UserTransactionSummaryRepository summaries
+) {
+
+    public void finish(Transaction transaction) {
+        // linha travada só daqui até o commit; cancelada no meio do processamento, o cancelamento prevalece
+        if (!repository.lockIfPending(transaction.getId())) {
+            return;
+        }
+        repository.save(transaction);
+        // mesma transação de banco do save: redelivery para no check de status e não soma de novo
+        if (transaction.getStatus() == TransactionStatus.APROVADA) {
+            summaries.addApproved(transaction);
+        }
+        publisher.publish(TransactionOutcomeEvent.from(transaction));
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.beca.transactionservice.domain.event;
+
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TransactionOutcomeEvent(
+        UUID transactionId,
+        UUID userId,
+        TransactionType type,
+        TransactionStatus status,
+        BigDecimal amount,
+        String currency,
+        BigDecimal amountBrl,
+        BigDecimal fxRate,
+        String category,
+        String rejectionReason,
+        LocalDateTime occurredAt
+) {
+    public static TransactionOutcomeEvent from(Transaction transaction) {
+        BigDecimal amountBrl = transaction.getBrl() != null
+                ? transaction.getBrl()
+                : "BRL".equals(transaction.getAmount().currency()) ? transaction.getAmount().value() : null;
+
+        return new TransactionOutcomeEvent(
+                transaction.getId(),
+                transaction.getUserId(),
+                transaction.getType(),
+                transaction.getStatus(),
+                transaction.getAmount().value(),
+                transaction.getAmount().currency(),
+                amountBrl,
+                transaction.getFxRate(),
+                transaction.getCategory(),
+                transaction.getRejectionReason(),
+                transaction.getProcessAt() != null ? transaction.getProcessAt() : LocalDateTime.now()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.beca.transactionservice.domain.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record VelocitySignalEvent(
+        UUID userId,
+        Instant windowStart,
+        Instant windowEnd,
+        long count,
+        // moeda cuja soma estourou o teto; null quando o excesso foi de quantidade
+        String currency,
+        BigDecimal amount,
+        String reason
+) {
+}
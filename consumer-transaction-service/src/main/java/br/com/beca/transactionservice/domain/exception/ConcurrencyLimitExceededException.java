@@ -0,0 +1,10 @@
+package br.com.beca.transactionservice.domain.exception;
+
+/**
+ * O limite adaptativo de chamadas simultâneas à dependência está saturado.
+ */
+public class ConcurrencyLimitExceededException extends DependencyUnavailableException {
+    public ConcurrencyLimitExceededException(String dependency) {
+        super(dependency, "Limite de chamadas simultâneas para " + dependency + " saturado");
+    }
+}
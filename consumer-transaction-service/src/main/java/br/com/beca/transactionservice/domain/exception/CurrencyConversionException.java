@@ -0,0 +1,15 @@
+package br.com.beca.transactionservice.domain.exception;
+
+/**
+ * Falha transitória ao obter a cotação (timeout, 5xx ou resposta vazia da BrasilAPI).
+ * O evento segue para os tópicos de retry em vez de rejeitar a transação.
+ */
+public class CurrencyConversionException extends RuntimeException {
+    public CurrencyConversionException(String message) {
+        super(message);
+    }
+
+    public CurrencyConversionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.beca.transactionservice.domain.exception;
+
+/**
+ * Dependência externa indisponível (circuito aberto, limite de concorrência ou falha de rede).
+ * A transação não deve ser rejeitada: o evento é reprocessado quando a dependência voltar.
+ */
+public class DependencyUnavailableException extends RuntimeException {
+
+    private final String dependency;
+
+    public DependencyUnavailableException(String dependency, String message) {
+        super(message);
+        this.dependency = dependency;
+    }
+
+    public DependencyUnavailableException(String dependency, String message, Throwable cause) {
+        super(message, cause);
+        this.dependency = dependency;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.beca.transactionservice.domain.exception;
+
+/**
+ * A escrita na API bancária já tinha sido enviada quando falhou (timeout de leitura, 5xx, 429, conexão
+ * caída no meio) ou uma escrita anterior da mesma operação já foi aplicada. O PUT grava saldo absoluto,
+ * então repetir pode debitar/creditar de novo: não é re-tentada nem rejeitada, vai para conciliação manual.
+ */
+public class UnconfirmedBankWriteException extends RuntimeException {
+
+    public UnconfirmedBankWriteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,5 +3,7 @@ package br.com.beca.transactionservice.domain.model;
 public enum TransactionStatus {
     PENDENTE,
     APROVADA,
-    REJEITADA
+    REJEITADA,
+    // gravado só pelo MS2; o MS3 lê para não finalizar por cima de um cancelamento
+    CANCELADA
 }
@@ -0,0 +1,184 @@
+package br.com.beca.transactionservice.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Valor monetário em ponto fixo: quantidade de unidades mínimas da moeda (centavos no BRL,
+ * ienes inteiros no JPY) em um long. Aritmética exata com checagem de overflow
+ * ({@link ArithmeticException}); a conversão de/para BigDecimal só acontece nas bordas
+ * (JSON, JPA, APIs externas). A conversão de câmbio parte do valor de borda e arredonda uma única vez,
+ * no produto final.
+ */
+public record FixedMoney(long minorUnits, String currency) implements Comparable<FixedMoney> {
+
+    public static final int RATE_SCALE = 8;
+    private static final int DEFAULT_SCALE = 2;
+    // Currency.getInstance + toUpperCase a cada of/scale/convert pesava no caminho quente; só códigos ISO entram
+    private static final Map<String, Integer> SCALES = new ConcurrentHashMap<>();
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+            10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    public FixedMoney {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("Tipo de moeda é obrigatório");
+        }
+    }
+
+    // casas decimais da moeda pela ISO 4217 (JPY 0, BRL 2, KWD 3); código desconhecido fica com 2
+    public static int scaleOf(String currency) {
+        Integer cached = SCALES.get(currency);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            int digits = Currency.getInstance(currency.trim().toUpperCase(Locale.ROOT)).getDefaultFractionDigits();
+            int scale = digits >= 0 ? digits : DEFAULT_SCALE;
+            SCALES.put(currency, scale);
+            return scale;
+        } catch (IllegalArgumentException e) {
+            return DEFAULT_SCALE;
+        }
+    }
+
+    // o MS2 normaliza tudo para 2 casas: JPY 100.50 chega aqui e vira 100 (HALF_EVEN), como antes do FixedMoney.
+    // Para converter, use convert(BigDecimal, ...) com o valor de borda, que não arredonda antes do produto
+    public static FixedMoney of(BigDecimal value, String currency) {
+        if (value == null) {
+            throw new IllegalArgumentException("Quantidade é obrigatória");
+        }
+        int scale = scaleOf(currency);
+        return new FixedMoney(toUnits(value.setScale(scale, RoundingMode.HALF_EVEN), scale), currency);
+    }
+
+    // para saldo vindo de fora: fração abaixo da unidade mínima não pode ser gasta, então é descartada
+    public static FixedMoney floorOf(BigDecimal value, String currency) {
+        if (value == null) {
+            throw new IllegalArgumentException("Quantidade é obrigatória");
+        }
+        int scale = scaleOf(currency);
+        return new FixedMoney(toUnits(value.setScale(scale, RoundingMode.FLOOR), scale), currency);
+    }
+
+    public static long rateUnits(BigDecimal rate) {
+        if (rate == null || rate.signum() <= 0) {
+            throw new IllegalArgumentException("Cotação precisa ser maior que zero");
+        }
+        return toUnits(rate.setScale(RATE_SCALE, RoundingMode.HALF_EVEN), RATE_SCALE);
+    }
+
+    /**
+     * Converte um valor de borda em qualquer escala (ex.: 1234.565) sem arredondá-lo antes:
+     * o único arredondamento é HALF_EVEN no produto, igual a {@code amount.multiply(rate).setScale(...)}.
+     */
+    public static FixedMoney convert(BigDecimal amount, BigDecimal rate, String targetCurrency) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Quantidade é obrigatória");
+        }
+        requirePositive(rate);
+        BigDecimal exactAmount = amount.scale() < 0 ? amount.setScale(0) : amount;
+        BigDecimal exactRate = rate.scale() < 0 ? rate.setScale(0) : rate;
+        return multiply(toUnits(exactAmount, exactAmount.scale()), exactAmount.scale(),
+                toUnits(exactRate, exactRate.scale()), exactRate.scale(), targetCurrency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale());
+    }
+
+    public int scale() {
+        return scaleOf(currency);
+    }
+
+    public FixedMoney plus(FixedMoney other) {
+        requireSameCurrency(other);
+        return new FixedMoney(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public FixedMoney minus(FixedMoney other) {
+        requireSameCurrency(other);
+        return new FixedMoney(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean covers(FixedMoney amount) {
+        return compareTo(amount) >= 0;
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    // cotação exata, em qualquer escala
+    public FixedMoney convert(BigDecimal rate, String targetCurrency) {
+        requirePositive(rate);
+        BigDecimal exactRate = rate.scale() < 0 ? rate.setScale(0) : rate;
+        return multiply(minorUnits, scale(), toUnits(exactRate, exactRate.scale()), exactRate.scale(), targetCurrency);
+    }
+
+    /**
+     * Converte usando uma cotação em unidades de {@link #RATE_SCALE} casas
+     * (ver {@link #rateUnits(BigDecimal)}), arredondando HALF_EVEN para a escala da moeda destino.
+     */
+    public FixedMoney convert(long rateUnits, String targetCurrency) {
+        return multiply(minorUnits, scale(), rateUnits, RATE_SCALE, targetCurrency);
+    }
+
+    @Override
+    public int compareTo(FixedMoney other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void requireSameCurrency(FixedMoney other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Moedas diferentes: " + currency + " e " + other.currency);
+        }
+    }
+
+    private static void requirePositive(BigDecimal rate) {
+        if (rate == null || rate.signum() <= 0) {
+            throw new IllegalArgumentException("Cotação precisa ser maior que zero");
+        }
+    }
+
+    private static FixedMoney multiply(long units, int unitsScale, long rateUnits, int rateScale, String targetCurrency) {
+        int targetScale = scaleOf(targetCurrency);
+        int shift = unitsScale + rateScale - targetScale;
+        if (shift > 0 && shift < POWERS_OF_TEN.length) {
+            try {
+                return new FixedMoney(divideHalfEven(units, rateUnits, POWERS_OF_TEN[shift]), targetCurrency);
+            } catch (ArithmeticException e) {
+                // produto intermediário não coube no long; o caminho exato abaixo decide se o resultado cabe
+            }
+        }
+        BigDecimal product = BigDecimal.valueOf(units, unitsScale).multiply(BigDecimal.valueOf(rateUnits, rateScale));
+        return new FixedMoney(toUnits(product.setScale(targetScale, RoundingMode.HALF_EVEN), targetScale), targetCurrency);
+    }
+
+    // a * r / f decomposto para não estourar o long no produto intermediário
+    private static long divideHalfEven(long a, long r, long f) {
+        long high = Math.multiplyExact(a / f, r);
+        long low = Math.multiplyExact(a % f, r);
+        long quotient = Math.addExact(high, low / f);
+        long remainder = low % f;
+
+        long twice = Math.multiplyExact(Math.abs(remainder), 2);
+        if (twice > f || (twice == f && (quotient & 1) != 0)) {
+            quotient = Math.addExact(quotient, Long.signum(remainder));
+        }
+        return quotient;
+    }
+
+    private static long toUnits(BigDecimal value, int scale) {
+        // value já está na escala; scaleByPowerOfTen mantém o valor compacto, então longValueExact não aloca BigInteger
+        return value.scaleByPowerOfTen(scale).longValueExact();
+    }
+}
@@ -4,7 +4,7 @@ import java.math.BigDecimal;
 
 public record Money(BigDecimal value, String currency) {
     public Money{
-        if (value == null || value.compareTo(BigDecimal.ZERO) <= 0){
+        if (value == null || value.signum() <= 0){
             throw new IllegalArgumentException("Quantidade precisa ser maior que zero!");
         }
         if (currency == null || currency.isBlank()){
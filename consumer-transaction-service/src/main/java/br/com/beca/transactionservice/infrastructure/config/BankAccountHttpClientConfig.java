@@ -0,0 +1,115 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.infrastructure.gateway.http.DeadlineHttpRequestFactory;
+import br.com.beca.transactionservice.infrastructure.gateway.http.HttpClientMetricsInterceptor;
+import br.com.beca.transactionservice.infrastructure.gateway.http.InstrumentedConnectionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+@Configuration
+public class BankAccountHttpClientConfig {
+
+    private static final String POOL = "mockapi";
+
+    // removeOnCancel: prazos cancelados (resposta já fechada) saem da fila na hora, sem segurar a requisição
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService bankAccountDeadlineScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "mockapi-deadline");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Bean
+    public RestClient bankAccountRestClient(
+            @Value("${mockapi.base-url}") String baseUrl,
+            @Value("${mockapi.http.max-connections-per-host:20}") int maxPerHost,
+            @Value("${mockapi.http.max-connections-total:50}") int maxTotal,
+            @Value("${mockapi.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${mockapi.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${mockapi.http.pool-wait-timeout:1s}") Duration poolWaitTimeout,
+            @Value("${mockapi.http.deadline:8s}") Duration deadline,
+            @Value("${mockapi.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${mockapi.http.connection-ttl:5m}") Duration connectionTtl,
+            @Value("${mockapi.http.http2-enabled:false}") boolean http2,
+            ScheduledExecutorService bankAccountDeadlineScheduler,
+            MeterRegistry meterRegistry
+    ) {
+        ClientHttpRequestFactory requestFactory = http2
+                ? http2RequestFactory(connectTimeout, deadline)
+                : pooledRequestFactory(maxPerHost, maxTotal, connectTimeout, readTimeout, poolWaitTimeout, deadline, keepAlive, connectionTtl,
+                bankAccountDeadlineScheduler, meterRegistry);
+
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .requestInterceptor(new HttpClientMetricsInterceptor(POOL, meterRegistry))
+                .build();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(
+            int maxPerHost,
+            int maxTotal,
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration poolWaitTimeout,
+            Duration deadline,
+            Duration keepAlive,
+            Duration connectionTtl,
+            ScheduledExecutorService scheduler,
+            MeterRegistry meterRegistry
+    ) {
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(POOL, meterRegistry);
+        connectionManager.setDefaultMaxPerRoute(maxPerHost);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(connectionTtl))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolWaitTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+
+        return new DeadlineHttpRequestFactory(httpClient, deadline, scheduler);
+    }
+
+    // HTTP/2 usa o HttpClient do JDK, que multiplexa em uma conexão por host; o pool é gerenciado pelo JDK
+    private ClientHttpRequestFactory http2RequestFactory(Duration connectTimeout, Duration deadline) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(deadline);
+        return factory;
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.application.port.BankAccountPort;
+import br.com.beca.transactionservice.domain.exception.ConcurrencyLimitExceededException;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException;
+import br.com.beca.transactionservice.infrastructure.gateway.AdaptiveConcurrencyLimiter;
+import br.com.beca.transactionservice.infrastructure.gateway.HedgeBudget;
+import br.com.beca.transactionservice.infrastructure.gateway.HedgingBankAccountAdapter;
+import br.com.beca.transactionservice.infrastructure.gateway.LatencyWindow;
+import br.com.beca.transactionservice.infrastructure.gateway.LimitedBankAccountAdapter;
+import br.com.beca.transactionservice.infrastructure.gateway.MockApiAdapter;
+import br.com.beca.transactionservice.infrastructure.gateway.ResilientBankAccountAdapter;
+import br.com.beca.transactionservice.infrastructure.web.kafka.ListenerPartitionPauser;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class BankAccountPortConfig {
+
+    private static final String NAME = "bankAccount";
+    private static final String LIMITER = "bank.concurrency";
+
+    @Bean
+    public CircuitBreaker bankAccountCircuitBreaker(
+            @Value("${resilience.bank.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${resilience.bank.slow-call-threshold:3s}") Duration slowCallThreshold,
+            @Value("${resilience.bank.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${resilience.bank.minimum-calls:10}") int minimumCalls,
+            @Value("${resilience.bank.open-wait:10s}") Duration openWait,
+            @Value("${resilience.bank.half-open-calls:3}") int halfOpenCalls,
+            ListenerPartitionPauser pauser,
+            MeterRegistry meterRegistry
+    ) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(openWait)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class,
+                        HttpClientErrorException.TooManyRequests.class, UnconfirmedBankWriteException.class)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(NAME);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            meterRegistry.counter("bank.circuitbreaker.transitions",
+                    "from", transition.getFromState().name(),
+                    "to", transition.getToState().name()).increment();
+            // HALF_OPEN libera as partições pausadas para que os próprios eventos sirvam de sonda
+            if (transition.getToState() == CircuitBreaker.State.HALF_OPEN
+                    || transition.getToState() == CircuitBreaker.State.CLOSED) {
+                pauser.resume(ResilientBankAccountAdapter.DEPENDENCY);
+            }
+        });
+        circuitBreaker.getEventPublisher().onCallNotPermitted(event ->
+                meterRegistry.counter("bank.circuitbreaker.rejected").increment());
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead bankAccountBulkhead(
+            @Value("${resilience.bank.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${resilience.bank.max-wait:200ms}") Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        Bulkhead bulkhead = registry.bulkhead(NAME);
+        bulkhead.getEventPublisher().onCallRejected(event ->
+                meterRegistry.counter("bank.bulkhead.rejected").increment());
+        return bulkhead;
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bankAccountHedgingExecutor(@Value("${resilience.bank.hedging.max-threads:16}") int maxThreads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "bank-hedge-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter bankAccountLimiter(
+            @Value("${resilience.bank.limiter.initial-limit:10}") int initialLimit,
+            @Value("${resilience.bank.limiter.min-limit:1}") int minLimit,
+            @Value("${resilience.bank.limiter.max-limit:50}") int maxLimit,
+            @Value("${resilience.bank.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${resilience.bank.limiter.rtt-tolerance:2.0}") double rttTolerance,
+            @Value("${resilience.bank.limiter.max-queue-time:100ms}") Duration maxQueueTime,
+            ListenerPartitionPauser pauser,
+            MeterRegistry meterRegistry
+    ) {
+        // circuito aberto e o próprio limite saturado não dizem nada sobre a latência da API
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(LIMITER, initialLimit, minLimit, maxLimit,
+                backoffRatio, rttTolerance, maxQueueTime,
+                e -> e instanceof UnconfirmedBankWriteException
+                        || e instanceof DependencyUnavailableException
+                        && !(e instanceof ConcurrencyLimitExceededException)
+                        && !(e.getCause() instanceof CallNotPermittedException),
+                meterRegistry);
+        limiter.onCapacityAvailable(() -> pauser.resume(LIMITER));
+        return limiter;
+    }
+
+    // ordem: limite adaptativo -> circuit breaker -> bulkhead -> hedge (só GET) -> MockAPI
+    @Bean
+    @Primary
+    public BankAccountPort bankAccountPort(
+            @Qualifier("bankAccountLimiter") AdaptiveConcurrencyLimiter bankAccountLimiter,
+            MockApiAdapter mockApiAdapter,
+            CircuitBreaker bankAccountCircuitBreaker,
+            Bulkhead bankAccountBulkhead,
+            ExecutorService bankAccountHedgingExecutor,
+            @Value("${resilience.bank.hedging.enabled:false}") boolean hedgingEnabled,
+            @Value("${resilience.bank.hedging.budget-ratio:0.1}") double hedgingBudgetRatio,
+            @Value("${resilience.bank.hedging.min-delay:20ms}") Duration hedgingMinDelay,
+            MeterRegistry meterRegistry
+    ) {
+        BankAccountPort port = mockApiAdapter;
+        if (hedgingEnabled) {
+            port = new HedgingBankAccountAdapter(
+                    port,
+                    bankAccountHedgingExecutor,
+                    new LatencyWindow(512, 0.95, 32),
+                    new HedgeBudget(hedgingBudgetRatio, 10),
+                    hedgingMinDelay,
+                    meterRegistry
+            );
+        }
+        port = new ResilientBankAccountAdapter(port, bankAccountCircuitBreaker, bankAccountBulkhead);
+        return new LimitedBankAccountAdapter(port, bankAccountLimiter);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.application.port.CurrencyConverterPort;
+import br.com.beca.transactionservice.domain.exception.ConcurrencyLimitExceededException;
+import br.com.beca.transactionservice.infrastructure.gateway.AdaptiveConcurrencyLimiter;
+import br.com.beca.transactionservice.infrastructure.gateway.BrasilApiCurrencyConverterGateway;
+import br.com.beca.transactionservice.infrastructure.gateway.SnapshotCurrencyConverterGateway;
+import br.com.beca.transactionservice.infrastructure.web.kafka.ListenerPartitionPauser;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@Configuration
+public class CurrencyConverterPortConfig {
+
+    private static final String LIMITER = "fx.concurrency";
+
+    @Bean
+    public AdaptiveConcurrencyLimiter currencyConverterLimiter(
+            @Value("${resilience.fx.limiter.initial-limit:5}") int initialLimit,
+            @Value("${resilience.fx.limiter.min-limit:1}") int minLimit,
+            @Value("${resilience.fx.limiter.max-limit:20}") int maxLimit,
+            @Value("${resilience.fx.limiter.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${resilience.fx.limiter.rtt-tolerance:2.0}") double rttTolerance,
+            @Value("${resilience.fx.limiter.max-queue-time:100ms}") Duration maxQueueTime,
+            ListenerPartitionPauser pauser,
+            MeterRegistry meterRegistry
+    ) {
+        // moeda inválida/sem cotação é erro de negócio, não sinal de sobrecarga
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(LIMITER, initialLimit, minLimit, maxLimit,
+                backoffRatio, rttTolerance, maxQueueTime,
+                e -> !(e instanceof IllegalArgumentException) && !(e instanceof ConcurrencyLimitExceededException),
+                meterRegistry);
+        limiter.onCapacityAvailable(() -> pauser.resume(LIMITER));
+        return limiter;
+    }
+
+    @Bean
+    @Primary
+    public CurrencyConverterPort currencyConverterPort(
+            ObjectProvider<BrasilApiCurrencyConverterGateway> brasilApi,
+            ObjectProvider<SnapshotCurrencyConverterGateway> snapshot
+    ) {
+        // o perfil offline-fx decide qual gateway existe no contexto; a BrasilAPI aplica o limitador só nas idas à rede
+        CurrencyConverterPort converter = brasilApi.getIfAvailable();
+        if (converter == null) {
+            converter = snapshot.getObject();
+        }
+        return converter;
+    }
+}
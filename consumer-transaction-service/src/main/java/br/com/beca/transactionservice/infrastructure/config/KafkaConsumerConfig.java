@@ -1,17 +1,34 @@
 package br.com.beca.transactionservice.infrastructure.config;
 
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import br.com.beca.transactionservice.infrastructure.web.kafka.RecentlyFinalizedTransactions;
+import br.com.beca.transactionservice.infrastructure.web.kafka.TransactionDltHandler;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,12 +39,17 @@ public class KafkaConsumerConfig {
     @Bean
     public ConsumerFactory<String, TransactionRequestedEvent> consumerFactory(
             @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
-            @Value("${spring.kafka.consumer.group-id}") String groupId
+            @Value("${spring.kafka.consumer.group-id}") String groupId,
+            @Value("${app.kafka.exactly-once:false}") boolean exactlyOnce
     ) {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        if (exactlyOnce) {
+            // só enxerga registros de transações confirmadas (ex.: re-envios para a DLQ abortados)
+            props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        }
 
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JacksonJsonDeserializer.class);
@@ -44,11 +66,94 @@ public class KafkaConsumerConfig {
 
     @Bean(name = "kafkaListenerContainerFactory")
     public ConcurrentKafkaListenerContainerFactory<String, TransactionRequestedEvent> kafkaListenerContainerFactory(
-            ConsumerFactory<String, TransactionRequestedEvent> consumerFactory
+            ConsumerFactory<String, TransactionRequestedEvent> consumerFactory,
+            ProducerFactory<String, Object> producerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            RecentlyFinalizedTransactions recentlyFinalized,
+            TransactionDltHandler dltHandler,
+            @Value("${app.kafka.listener.concurrency:1}") int concurrency,
+            @Value("${app.kafka.exactly-once:false}") boolean exactlyOnce,
+            @Value("${app.kafka.topics.requested.dlq}") String dlqTopic,
+            @Value("${app.kafka.retry.attempts:4}") int attempts,
+            @Value("${app.kafka.retry.initial-delay:5s}") Duration initialDelay,
+            @Value("${app.kafka.retry.multiplier:4}") double multiplier,
+            @Value("${app.kafka.retry.max-delay:5m}") Duration maxDelay
     ) {
         ConcurrentKafkaListenerContainerFactory<String, TransactionRequestedEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency);
+        // redelivery de transação já finalizada é descartada antes do listener (sem transação, sem banco)
+        factory.setRecordFilterStrategy(record ->
+                record.value() != null && recentlyFinalized.isDuplicate(record.value().transactionId()));
+        factory.setAckDiscarded(true);
+
+        if (exactlyOnce) {
+            // o KafkaTransactionManager não é bean para não disputar com o transactionManager do JPA;
+            // ele só envolve o poll: offsets e envios do listener entram na mesma transação Kafka
+            factory.getContainerProperties()
+                    .setKafkaAwareTransactionManager(new KafkaTransactionManager<>(producerFactory));
+            factory.setAfterRollbackProcessor(afterRollbackProcessor(
+                    kafkaTemplate, dltHandler, dlqTopic, attempts, initialDelay, multiplier, maxDelay));
+        }
         return factory;
     }
+
+    /**
+     * Substitui os tópicos de retry no modo exactly-once: o registro é re-buscado após o rollback
+     * com backoff exponencial e, esgotadas as tentativas, vai para a DLQ dentro da transação que
+     * também confirma o offset, e o {@link TransactionDltHandler} encerra a transação.
+     * Dependência indisponível é re-tentada sem limite (partição pausada); escrita bancária sem
+     * confirmação vai direto para a DLQ, sem nova tentativa.
+     */
+    private DefaultAfterRollbackProcessor<Object, Object> afterRollbackProcessor(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            TransactionDltHandler dltHandler,
+            String dlqTopic,
+            int attempts,
+            Duration initialDelay,
+            double multiplier,
+            Duration maxDelay
+    ) {
+        DeadLetterPublishingRecoverer dlq = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(dlqTopic, record.partition()));
+        dlq.setHeadersFunction((record, ex) -> {
+            Headers headers = new RecordHeaders();
+            headers.add(KafkaRetryTopicConfig.FAILURE_REASON_HEADER, failureReason(ex));
+            if (KafkaRetryTopicConfig.isUnconfirmedWrite(ex)) {
+                headers.add(KafkaRetryTopicConfig.RECONCILE_HEADER, new byte[]{1});
+            }
+            return headers;
+        });
+        ConsumerRecordRecoverer recoverer = (record, ex) -> {
+            dlq.accept(record, ex);
+            if (record.value() instanceof TransactionRequestedEvent event) {
+                dltHandler.onExhausted(event, failureReason(ex),
+                        KafkaRetryTopicConfig.isUnconfirmedWrite(ex) ? new byte[]{1} : null);
+            }
+        };
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(attempts - 1, 0));
+        backOff.setInitialInterval(initialDelay.toMillis());
+        backOff.setMultiplier(multiplier);
+        backOff.setMaxInterval(maxDelay.toMillis());
+
+        DefaultAfterRollbackProcessor<Object, Object> processor =
+                new DefaultAfterRollbackProcessor<>(recoverer, backOff, kafkaTemplate, true);
+        processor.setBackOffFunction((record, ex) -> {
+            if (KafkaRetryTopicConfig.isUnconfirmedWrite(ex)) {
+                return new FixedBackOff(0L, 0L);
+            }
+            return ex instanceof DependencyUnavailableException
+                    || ex.getCause() instanceof DependencyUnavailableException
+                    ? new FixedBackOff(0L, FixedBackOff.UNLIMITED_ATTEMPTS)
+                    : null;
+        });
+        return processor;
+    }
+
+    private static byte[] failureReason(Exception ex) {
+        String reason = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+        return reason == null ? new byte[0] : reason.getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -18,17 +18,32 @@ public class KafkaProducerConfig {
 
     @Bean
     public ProducerFactory<String, Object> producerFactory(
-            @Value("${spring.kafka.bootstrap-servers}") String bootstrap
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrap,
+            @Value("${app.kafka.exactly-once:false}") boolean exactlyOnce,
+            @Value("${app.kafka.transaction-id-prefix:ms3-tx-}") String transactionIdPrefix
     ) {
         Map<String, Object> props = new HashMap<>();
         props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JacksonJsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(props);
+        if (exactlyOnce) {
+            props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            props.put(ProducerConfig.ACKS_CONFIG, "all");
+        }
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(props);
+        if (exactlyOnce) {
+            // o container usa o producer transacional para enviar o offset junto com os registros
+            factory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        return factory;
     }
 
     @Bean
     public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> pf) {
-        return new KafkaTemplate<>(pf);
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(pf);
+        // re-drive e envios administrativos rodam fora da transação do listener
+        template.setAllowNonTransactional(true);
+        return template;
     }
 }
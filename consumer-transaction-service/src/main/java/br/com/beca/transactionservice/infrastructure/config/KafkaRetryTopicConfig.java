@@ -0,0 +1,145 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.domain.exception.CurrencyConversionException;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException;
+import br.com.beca.transactionservice.infrastructure.web.kafka.TransactionDltHandler;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicComponentFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+import org.springframework.kafka.retrytopic.RetryTopicNamesProviderFactory;
+import org.springframework.kafka.retrytopic.SuffixingRetryTopicNamesProviderFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Retry não bloqueante: falhas transitórias de câmbio vão para {@code <requested>.retry-N} com
+ * atraso crescente e só o que esgota as tentativas chega à DLQ, em um único registro com headers
+ * (motivo, tentativas e tópico/partição/offset originais), tratado pelo {@link TransactionDltHandler}.
+ * A partição principal não espera. O DLT se chama exatamente {@code app.kafka.topics.requested.dlq}, o mesmo
+ * tópico lido pelo re-drive (padrão {@code transaction.dlq}, onde a DLQ antiga já guardava registros).
+ * Dependência indisponível continua bloqueante: a partição é pausada até o circuito liberar.
+ * Escrita bancária sem confirmação não é re-tentada: vai direto para a DLQ marcada com {@value #RECONCILE_HEADER}
+ * e a transação fica PENDENTE para conciliação.
+ * Com {@code app.kafka.exactly-once=true} os tópicos de retry ficam desligados e o
+ * AfterRollbackProcessor de {@link KafkaConsumerConfig} assume o papel.
+ */
+@Configuration
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    public static final String FAILURE_REASON_HEADER = "x-failure-reason";
+    public static final String RECONCILE_HEADER = "x-reconcile";
+
+    private final String requestedTopic;
+    private final String dlqTopic;
+
+    public KafkaRetryTopicConfig(
+            @Value("${app.kafka.topics.requested}") String requestedTopic,
+            @Value("${app.kafka.topics.requested.dlq}") String dlqTopic
+    ) {
+        this.requestedTopic = requestedTopic;
+        this.dlqTopic = dlqTopic;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.kafka.exactly-once", havingValue = "false", matchIfMissing = true)
+    public RetryTopicConfiguration transactionRequestedRetryTopic(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            @Value("${app.kafka.retry.attempts:4}") int attempts,
+            @Value("${app.kafka.retry.initial-delay:5s}") Duration initialDelay,
+            @Value("${app.kafka.retry.multiplier:4}") double multiplier,
+            @Value("${app.kafka.retry.max-delay:5m}") Duration maxDelay,
+            @Value("${app.kafka.retry.partitions:3}") int partitions
+    ) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic(requestedTopic)
+                .maxAttempts(attempts)
+                .exponentialBackoff(initialDelay.toMillis(), multiplier, maxDelay.toMillis())
+                .retryOn(CurrencyConversionException.class)
+                .traversingCauses()
+                .retryTopicSuffix(".retry")
+                .dltSuffix(".dlq")
+                .dltHandlerMethod("transactionDltHandler", TransactionDltHandler.METHOD)
+                .autoCreateTopicsWith(partitions, (short) 1)
+                .create(kafkaTemplate);
+    }
+
+    @Override
+    protected void configureBlockingRetries(BlockingRetriesConfigurer blockingRetries) {
+        blockingRetries
+                .retryOn(DependencyUnavailableException.class)
+                .backOff(new FixedBackOff(0L, FixedBackOff.UNLIMITED_ATTEMPTS));
+    }
+
+    @Override
+    protected void configureCustomizers(CustomizersConfigurer customizersConfigurer) {
+        customizersConfigurer.customizeDeadLetterPublishingRecoverer(recoverer ->
+                recoverer.setHeadersFunction((record, ex) -> {
+                    Headers headers = new RecordHeaders();
+                    headers.add(FAILURE_REASON_HEADER, rootCause(ex).getMessage() == null
+                            ? new byte[0]
+                            : rootCause(ex).getMessage().getBytes(StandardCharsets.UTF_8));
+                    if (isUnconfirmedWrite(ex)) {
+                        headers.add(RECONCILE_HEADER, new byte[]{1});
+                    }
+                    return headers;
+                }));
+    }
+
+    // os tópicos de retry usam o scheduler para retomar a partição quando o atraso vence
+    @Bean
+    public TaskScheduler retryTopicTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("retry-topic-");
+        return scheduler;
+    }
+
+    // o nome do DLT não sai do sufixo: o DLT é o próprio app.kafka.topics.requested.dlq
+    @Override
+    protected RetryTopicComponentFactory createComponentFactory() {
+        return new RetryTopicComponentFactory() {
+            @Override
+            public RetryTopicNamesProviderFactory retryTopicNamesProviderFactory() {
+                return dlqNamedTopics(requestedTopic, dlqTopic);
+            }
+        };
+    }
+
+    static RetryTopicNamesProviderFactory dlqNamedTopics(String requestedTopic, String dlqTopic) {
+        return properties -> new SuffixingRetryTopicNamesProviderFactory.SuffixingRetryTopicNamesProvider(properties) {
+            @Override
+            public String getTopicName(String topic) {
+                return properties.isDltTopic() && requestedTopic.equals(topic) ? dlqTopic : super.getTopicName(topic);
+            }
+        };
+    }
+
+    public static boolean isUnconfirmedWrite(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof UnconfirmedBankWriteException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
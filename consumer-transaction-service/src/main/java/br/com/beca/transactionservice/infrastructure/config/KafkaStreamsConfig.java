@@ -0,0 +1,115 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import br.com.beca.transactionservice.infrastructure.security.AdminTokenInterceptor;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityLimits;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityTopology;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.state.HostInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@EnableKafkaStreams
+@Configuration
+public class KafkaStreamsConfig {
+
+    /**
+     * host:porta desta instância, anunciado ao Streams para achar o dono de cada usuário. Sem
+     * configuração explícita usa o hostname real: "localhost" seria igual em todas as instâncias.
+     */
+    @Bean
+    public HostInfo streamsHostInfo(
+            @Value("${app.kafka.streams.application-server:}") String applicationServer,
+            @Value("${server.port:8082}") int serverPort
+    ) throws UnknownHostException {
+        if (applicationServer != null && !applicationServer.isBlank()) {
+            return HostInfo.buildFromEndpoint(applicationServer);
+        }
+        return new HostInfo(InetAddress.getLocalHost().getHostName(), serverPort);
+    }
+
+    // consulta ao dono da chave roda dentro do processamento da transação: prazo curto; /internal
+    // exige o mesmo token administrativo em todas as instâncias
+    @Bean
+    public RestClient velocityRestClient(
+            @Value("${app.velocity.query-timeout:500ms}") Duration timeout,
+            @Value("${app.admin.token:}") String adminToken
+    ) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .defaultHeader(AdminTokenInterceptor.HEADER, adminToken)
+                .build();
+    }
+
+    @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+    public KafkaStreamsConfiguration kafkaStreamsConfiguration(
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrap,
+            @Value("${app.kafka.streams.application-id:transaction-ms3-velocity}") String applicationId,
+            @Value("${app.kafka.streams.state-dir:/tmp/kafka-streams}") String stateDir,
+            HostInfo streamsHostInfo
+    ) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        props.put(StreamsConfig.APPLICATION_SERVER_CONFIG, streamsHostInfo.host() + ":" + streamsHostInfo.port());
+        props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        return new KafkaStreamsConfiguration(props);
+    }
+
+    @Bean
+    public VelocityLimits velocityLimits(
+            @Value("${app.velocity.window:1m}") Duration window,
+            @Value("${app.velocity.advance:10s}") Duration advance,
+            @Value("${app.velocity.max-count:10}") long maxCount,
+            @Value("${app.velocity.max-amount:50000}") BigDecimal maxAmountBrl,
+            @Value("${app.velocity.max-amount-by-currency:USD:10000,EUR:9000}") String maxAmountByCurrency
+    ) {
+        return new VelocityLimits(window, advance, maxCount, maxAmounts(maxAmountBrl, maxAmountByCurrency));
+    }
+
+    // "USD:10000,EUR:9000"; o teto em BRL vem de app.velocity.max-amount
+    static Map<String, BigDecimal> maxAmounts(BigDecimal maxAmountBrl, String byCurrency) {
+        Map<String, BigDecimal> maxAmounts = new HashMap<>();
+        for (String entry : byCurrency.split(",")) {
+            if (entry.isBlank()) continue;
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Teto de velocidade inválido: " + entry);
+            }
+            maxAmounts.put(parts[0].trim().toUpperCase(), new BigDecimal(parts[1].trim()));
+        }
+        maxAmounts.put("BRL", maxAmountBrl);
+        return maxAmounts;
+    }
+
+    @Bean
+    public KStream<String, VelocitySignalEvent> velocitySignalStream(
+            StreamsBuilder builder,
+            VelocityLimits limits,
+            @Value("${app.kafka.topics.requested}") String requestedTopic,
+            @Value("${app.kafka.topics.velocity}") String signalTopic
+    ) {
+        return VelocityTopology.define(builder, requestedTopic, signalTopic, limits);
+    }
+}
@@ -2,8 +2,11 @@ package br.com.beca.transactionservice.infrastructure.config;
 
 import br.com.beca.transactionservice.application.port.BankAccountPort;
 import br.com.beca.transactionservice.application.port.CurrencyConverterPort;
-import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import br.com.beca.transactionservice.application.port.TransactionOutcomePublisher;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.application.port.VelocityCheckPort;
 import br.com.beca.transactionservice.application.usecase.*;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,34 +19,48 @@ public class UseCaseConfig {
             ProcessDepositUseCase processDepositUseCase,
             ProcessWithdrawalUseCase processWithdrawalUseCase,
             ProcessTransferUseCase processTransferUseCase,
-            ProcessBuyUseCase processBuyUseCase
+            ProcessBuyUseCase processBuyUseCase,
+            ProcessedEventRepository processedEvents,
+            TransactionRepository repository
     ) {
         return new ControllerUseCase(
                 processDepositUseCase,
                 processWithdrawalUseCase,
                 processTransferUseCase,
-                processBuyUseCase
+                processBuyUseCase,
+                processedEvents,
+                repository
         );
     }
 
     @Bean
-    public ProcessDepositUseCase processDepositUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionEventPublisher publisher) {
-        return new ProcessDepositUseCase(repository, deposit, converter, publisher);
+    public ProcessDepositUseCase processDepositUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionFinalizer finalizer) {
+        return new ProcessDepositUseCase(repository, deposit, converter, finalizer);
     }
 
     @Bean
-    public ProcessWithdrawalUseCase processWithdrawalUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionEventPublisher publisher) {
-        return new ProcessWithdrawalUseCase(repository, deposit, converter, publisher);
+    public ProcessWithdrawalUseCase processWithdrawalUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionFinalizer finalizer, VelocityCheckPort velocityCheck) {
+        return new ProcessWithdrawalUseCase(repository, deposit, converter, finalizer, velocityCheck);
     }
 
     @Bean
-    public ProcessTransferUseCase processTransferUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionEventPublisher publisher) {
-        return new ProcessTransferUseCase(repository, deposit, converter, publisher);
+    public ProcessTransferUseCase processTransferUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionFinalizer finalizer, VelocityCheckPort velocityCheck) {
+        return new ProcessTransferUseCase(repository, deposit, converter, finalizer, velocityCheck);
     }
 
     @Bean
-    public ProcessBuyUseCase processBuyUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionEventPublisher publisher) {
-        return new ProcessBuyUseCase(repository, deposit, converter, publisher);
+    public ProcessBuyUseCase processBuyUseCase(TransactionRepository repository, BankAccountPort deposit, CurrencyConverterPort converter, TransactionFinalizer finalizer, VelocityCheckPort velocityCheck) {
+        return new ProcessBuyUseCase(repository, deposit, converter, finalizer, velocityCheck);
+    }
+
+    @Bean
+    public TransactionFinalizer transactionFinalizer(TransactionRepository repository, TransactionOutcomePublisher publisher, UserTransactionSummaryRepository summaries) {
+        return new TransactionFinalizer(repository, publisher, summaries);
+    }
+
+    @Bean
+    public RejectExhaustedTransactionUseCase rejectExhaustedTransactionUseCase(TransactionRepository repository, TransactionFinalizer finalizer, ProcessedEventRepository processedEvents) {
+        return new RejectExhaustedTransactionUseCase(repository, finalizer, processedEvents);
     }
 
 }
@@ -0,0 +1,24 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.infrastructure.security.AdminTokenInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final String adminToken;
+
+    public WebConfig(@Value("${app.admin.token:}") String adminToken) {
+        this.adminToken = adminToken;
+    }
+
+    // /actuator (health, metrics) continua aberto
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdminTokenInterceptor(adminToken))
+                .addPathPatterns("/admin/fx/**", "/admin/dlq/**", "/internal/**");
+    }
+}
@@ -0,0 +1,181 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.domain.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Limite de concorrência AIMD: cresce +1/limite por chamada bem-sucedida enquanto a latência
+ * fica próxima da linha de base e encolhe multiplicativamente quando a latência sobe além da
+ * tolerância ou a dependência falha. Chamadas além do limite esperam até {@code maxQueueTime}
+ * e então recebem {@link ConcurrencyLimitExceededException}.
+ * <p>
+ * A linha de base é mantida por tipo de operação: um GET e um GET+PUT têm latências naturais
+ * diferentes e não podem ser comparados entre si, senão toda escrita pareceria congestionamento.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_DRIFT = 0.01;
+    private static final String DEFAULT_OPERATION = "default";
+
+    private final String dependency;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double rttTolerance;
+    private final long maxQueueNanos;
+    private final Predicate<Throwable> isDrop;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition capacity = lock.newCondition();
+    private final Timer queueTime;
+    private final Counter rejected;
+
+    private volatile Runnable onCapacityAvailable = () -> { };
+    private double limit;
+    private int inFlight;
+    private final Map<String, Double> baselineRttNanos = new HashMap<>();
+
+    public AdaptiveConcurrencyLimiter(
+            String dependency,
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double backoffRatio,
+            double rttTolerance,
+            Duration maxQueueTime,
+            Predicate<Throwable> isDrop,
+            MeterRegistry meterRegistry
+    ) {
+        this.dependency = dependency;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.rttTolerance = rttTolerance;
+        this.maxQueueNanos = maxQueueTime.toNanos();
+        this.isDrop = isDrop;
+        this.queueTime = Timer.builder("concurrency.limiter.queue.time")
+                .tag("dependency", dependency)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("concurrency.limiter.rejected", "dependency", dependency);
+        Gauge.builder("concurrency.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("dependency", dependency)
+                .register(meterRegistry);
+    }
+
+    public void onCapacityAvailable(Runnable callback) {
+        this.onCapacityAvailable = callback;
+    }
+
+    public <T> T call(Callable<T> call) throws Exception {
+        return call(DEFAULT_OPERATION, call);
+    }
+
+    public <T> T call(String operation, Callable<T> call) throws Exception {
+        acquire();
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            onSample(operation, System.nanoTime() - start, false);
+            return result;
+        } catch (Exception e) {
+            onSample(operation, System.nanoTime() - start, isDrop.test(e));
+            throw e;
+        } finally {
+            release();
+        }
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire() throws InterruptedException {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            long remaining = maxQueueNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    rejected.increment();
+                    throw new ConcurrencyLimitExceededException(dependency);
+                }
+                remaining = capacity.awaitNanos(remaining);
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+            queueTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void release() {
+        boolean hasCapacity;
+        lock.lock();
+        try {
+            inFlight--;
+            hasCapacity = inFlight < (int) limit;
+            if (hasCapacity) {
+                capacity.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (hasCapacity) {
+            onCapacityAvailable.run();
+        }
+    }
+
+    private void onSample(String operation, long rttNanos, boolean drop) {
+        lock.lock();
+        try {
+            Double baseline = baselineRttNanos.get(operation);
+            if (!drop) {
+                // linha de base = menor RTT recente, com deriva lenta para acompanhar mudanças de patamar
+                if (baseline == null || rttNanos < baseline) {
+                    baseline = (double) rttNanos;
+                } else {
+                    baseline += (rttNanos - baseline) * BASELINE_DRIFT;
+                }
+                baselineRttNanos.put(operation, baseline);
+            }
+            if (drop || (baseline != null && rttNanos > baseline * rttTolerance)) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight >= limit / 2) {
+                // só cresce quando o limite está de fato sendo usado
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
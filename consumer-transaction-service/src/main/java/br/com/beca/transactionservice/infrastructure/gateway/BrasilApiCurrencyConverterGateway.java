@@ -1,25 +1,35 @@
 package br.com.beca.transactionservice.infrastructure.gateway;
 
 import br.com.beca.transactionservice.application.port.CurrencyConverterPort;
+import br.com.beca.transactionservice.domain.exception.CurrencyConversionException;
+import br.com.beca.transactionservice.domain.valueobject.FixedMoney;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 import tools.jackson.databind.JsonNode;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@Profile("!offline-fx")
 public class BrasilApiCurrencyConverterGateway implements CurrencyConverterPort {
 
     private final RestClient client;
-    private final Map<String, CachedRate> cache = new ConcurrentHashMap<>();
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<RateKey, CachedRate> cache = new ConcurrentHashMap<>();
 
-    public BrasilApiCurrencyConverterGateway() {
+    public BrasilApiCurrencyConverterGateway(@Qualifier("currencyConverterLimiter") AdaptiveConcurrencyLimiter limiter) {
         this.client = RestClient.builder().baseUrl("https://brasilapi.com.br").build();
+        this.limiter = limiter;
     }
 
     @Override
@@ -41,26 +51,34 @@ public class BrasilApiCurrencyConverterGateway implements CurrencyConverterPort
 
         BigDecimal rate = fxRate(currency);
 
-        return amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+        return FixedMoney.convert(amount, rate, "BRL").toBigDecimal();
     }
 
 
     private BigDecimal getBrlPerUnit(String currency, LocalDate date) {
-        String key = currency + ":" + date;
+        RateKey key = new RateKey(currency, date);
 
         CachedRate cached = cache.get(key);
         if (cached != null) return cached.rate();
 
-        JsonNode json = client.get().uri("/api/cambio/v1/cotacao/{currency}/{date}", currency, date).header("Accept", "application/json").retrieve().body(JsonNode.class);
+        // só a ida à rede passa pelo limitador; acerto de cache não é amostra de latência da BrasilAPI
+        JsonNode json;
+        try {
+            json = limiter.call(() -> fetch(currency, date));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
 
         if (json == null) {
-            throw new RuntimeException("BrasilAPI retornou resposta vazia");
+            throw new CurrencyConversionException("BrasilAPI retornou resposta vazia");
         }
 
         JsonNode cotacoes = json.get("cotacoes");
 
         if (cotacoes == null || !cotacoes.isArray() || cotacoes.isEmpty()) {
-            throw new RuntimeException("Nenhuma cotação encontrada na BrasilAPI");
+            throw new CurrencyConversionException("Nenhuma cotação encontrada na BrasilAPI");
         }
 
         JsonNode ultimaCotacao = cotacoes.get(cotacoes.size() - 1);
@@ -68,7 +86,7 @@ public class BrasilApiCurrencyConverterGateway implements CurrencyConverterPort
         JsonNode venda = ultimaCotacao.get("cotacao_venda");
 
         if (venda == null) {
-            throw new RuntimeException("Campo cotacao_venda não encontrado na última cotação");
+            throw new CurrencyConversionException("Campo cotacao_venda não encontrado na última cotação");
         }
 
         BigDecimal rate = new BigDecimal(venda.asText());
@@ -78,6 +96,23 @@ public class BrasilApiCurrencyConverterGateway implements CurrencyConverterPort
         return rate;
     }
 
+    private JsonNode fetch(String currency, LocalDate date) {
+        try {
+            return client.get().uri("/api/cambio/v1/cotacao/{currency}/{date}", currency, date).header("Accept", "application/json").retrieve().body(JsonNode.class);
+        } catch (HttpClientErrorException.NotFound | HttpClientErrorException.BadRequest e) {
+            throw new IllegalArgumentException("Moeda não suportada pela BrasilAPI: " + currency);
+        } catch (RestClientException e) {
+            throw new CurrencyConversionException("Falha ao consultar a BrasilAPI: " + e.getMessage(), e);
+        }
+    }
+
+    // cópia do que está em cache, usada pelo FxSnapshotExporter
+    public List<FxQuote> cachedQuotes() {
+        return cache.entrySet().stream()
+                .map(e -> new FxQuote(e.getKey().currency(), e.getKey().date(), e.getValue().rate()))
+                .toList();
+    }
+
     private LocalDate exchangeDate(LocalDate now) {
         LocalDate date = now.minusDays(1);
 
@@ -88,6 +123,9 @@ public class BrasilApiCurrencyConverterGateway implements CurrencyConverterPort
     }
 
 
+    private record RateKey(String currency, LocalDate date) {
+    }
+
     private record CachedRate(BigDecimal rate) {
     }
 
@@ -0,0 +1,8 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// uma linha do snapshot de câmbio: BRL por unidade de currency na data
+public record FxQuote(String currency, LocalDate date, BigDecimal rate) {
+}
@@ -0,0 +1,124 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Tabela imutável de cotações (BRL por unidade) indexada pelo código ISO da moeda
+ * empacotado em um int, consultada por busca binária sem alocar chaves.
+ * Formato do snapshot: CSV com cabeçalho {@code currency,date,rate}.
+ */
+public final class FxRateTable {
+
+    static final String HEADER = "currency,date,rate";
+
+    private final int[] keys;
+    private final BigDecimal[] rates;
+    private final LocalDate[] dates;
+
+    private FxRateTable(int[] keys, BigDecimal[] rates, LocalDate[] dates) {
+        this.keys = keys;
+        this.rates = rates;
+        this.dates = dates;
+    }
+
+    public static FxRateTable read(Reader source) {
+        Map<Integer, Entry> latest = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(source)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.equalsIgnoreCase(HEADER)) continue;
+
+                String[] cols = line.split(",");
+                if (cols.length != 3) {
+                    throw new IllegalStateException("Linha " + lineNumber + " inválida no snapshot de câmbio: " + line);
+                }
+                int key = key(cols[0]);
+                LocalDate date = LocalDate.parse(cols[1].trim());
+                BigDecimal rate = new BigDecimal(cols[2].trim());
+
+                Entry current = latest.get(key);
+                if (current == null || date.isAfter(current.date())) {
+                    latest.put(key, new Entry(date, rate));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler snapshot de câmbio", e);
+        }
+
+        int[] keys = new int[latest.size()];
+        BigDecimal[] rates = new BigDecimal[latest.size()];
+        LocalDate[] dates = new LocalDate[latest.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Entry> e : latest.entrySet()) {
+            keys[i] = e.getKey();
+            rates[i] = e.getValue().rate();
+            dates[i] = e.getValue().date();
+            i++;
+        }
+        return new FxRateTable(keys, rates, dates);
+    }
+
+    // mesma regra da leitura: uma linha por moeda, a cotação mais recente; ordenado por moeda
+    public static void write(Writer target, Collection<FxQuote> quotes) {
+        Map<String, FxQuote> latest = new TreeMap<>();
+        for (FxQuote quote : quotes) {
+            latest.merge(quote.currency().trim().toUpperCase(), quote,
+                    (a, b) -> b.date().isAfter(a.date()) ? b : a);
+        }
+        try {
+            target.write(HEADER);
+            target.write('\n');
+            for (Map.Entry<String, FxQuote> e : latest.entrySet()) {
+                target.write(e.getKey());
+                target.write(',');
+                target.write(e.getValue().date().toString());
+                target.write(',');
+                target.write(e.getValue().rate().toPlainString());
+                target.write('\n');
+            }
+            target.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever snapshot de câmbio", e);
+        }
+    }
+
+    public BigDecimal rate(String currency) {
+        int idx = Arrays.binarySearch(keys, key(currency));
+        return idx >= 0 ? rates[idx] : null;
+    }
+
+    public LocalDate date(String currency) {
+        int idx = Arrays.binarySearch(keys, key(currency));
+        return idx >= 0 ? dates[idx] : null;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    static int key(String currency) {
+        String c = currency.trim();
+        if (c.length() != 3) {
+            throw new IllegalArgumentException("Moeda inválida: " + currency);
+        }
+        return (Character.toUpperCase(c.charAt(0)) << 16)
+                | (Character.toUpperCase(c.charAt(1)) << 8)
+                | Character.toUpperCase(c.charAt(2));
+    }
+
+    private record Entry(LocalDate date, BigDecimal rate) {
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.Writer;
+
+/**
+ * Exporta as cotações já consultadas na BrasilAPI no formato do snapshot offline,
+ * para alimentar o profile offline-fx sem depender da API externa.
+ */
+@Component
+@Profile("!offline-fx")
+public class FxSnapshotExporter {
+
+    private final BrasilApiCurrencyConverterGateway gateway;
+
+    public FxSnapshotExporter(BrasilApiCurrencyConverterGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    public void export(Writer writer) {
+        FxRateTable.write(writer, gateway.cachedQuotes());
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orçamento de hedge: cada requisição primária deposita {@code ratio} de ficha e cada hedge
+ * consome uma ficha inteira, limitando o hedge a ~ratio da carga mesmo durante incidentes.
+ */
+public class HedgeBudget {
+
+    private static final long UNIT = 1_000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance = new AtomicLong();
+
+    public HedgeBudget(double ratio, int maxTokens) {
+        this.depositPerCall = Math.round(ratio * UNIT);
+        this.capacity = maxTokens * UNIT;
+    }
+
+    public void deposit() {
+        balance.getAndUpdate(b -> Math.min(capacity, b + depositPerCall));
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < UNIT) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - UNIT)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.BankAccountPort;
+import br.com.beca.transactionservice.domain.dto.BankAccount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedge apenas para a consulta de conta (GET idempotente): se a primeira chamada não
+ * responder até o p95 observado, dispara uma segunda e usa a que voltar primeiro.
+ * Escritas (PUT de saldo) vão direto para o delegate e nunca são duplicadas.
+ */
+public class HedgingBankAccountAdapter implements BankAccountPort {
+
+    private final BankAccountPort delegate;
+    private final ExecutorService executor;
+    private final LatencyWindow latency;
+    private final HedgeBudget budget;
+    private final long minDelayNanos;
+    private final Counter fired;
+    private final Counter won;
+    private final Counter denied;
+
+    public HedgingBankAccountAdapter(
+            BankAccountPort delegate,
+            ExecutorService executor,
+            LatencyWindow latency,
+            HedgeBudget budget,
+            Duration minDelay,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.latency = latency;
+        this.budget = budget;
+        this.minDelayNanos = minDelay.toNanos();
+        this.fired = meterRegistry.counter("bank.hedge.requests", "outcome", "fired");
+        this.won = meterRegistry.counter("bank.hedge.requests", "outcome", "won");
+        this.denied = meterRegistry.counter("bank.hedge.requests", "outcome", "budget_exhausted");
+        Gauge.builder("bank.hedge.delay", latency, w -> Math.max(w.percentileNanos(), minDelayNanos) / 1e6)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void deposit(String userId, BigDecimal amount) {
+        delegate.deposit(userId, amount);
+    }
+
+    @Override
+    public void withdrawal(String userId, BigDecimal amount) throws Exception {
+        delegate.withdrawal(userId, amount);
+    }
+
+    @Override
+    public void transfer(String sourceId, String targetId, BigDecimal amount) throws Exception {
+        delegate.transfer(sourceId, targetId, amount);
+    }
+
+    @Override
+    public BankAccount findByUserId(String userId) throws Exception {
+        budget.deposit();
+        long p95 = latency.percentileNanos();
+        if (p95 < 0) {
+            return timed(userId);
+        }
+
+        CompletableFuture<BankAccount> primary;
+        try {
+            primary = submit(userId);
+        } catch (RejectedExecutionException e) {
+            return timed(userId);
+        }
+
+        try {
+            return primary.get(Math.max(p95, minDelayNanos), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // segue para o hedge
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        if (!budget.tryWithdraw()) {
+            denied.increment();
+            return await(primary);
+        }
+
+        CompletableFuture<BankAccount> hedge;
+        try {
+            hedge = submit(userId);
+        } catch (RejectedExecutionException e) {
+            return await(primary);
+        }
+        fired.increment();
+
+        CompletableFuture<BankAccount> winner = firstSuccessful(primary, hedge);
+        BankAccount account = await(winner);
+        if (hedge.isDone() && !hedge.isCompletedExceptionally() && hedge.getNow(null) == account) {
+            won.increment();
+        }
+        return account;
+    }
+
+    private CompletableFuture<BankAccount> submit(String userId) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return timed(userId);
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private BankAccount timed(String userId) throws Exception {
+        long start = System.nanoTime();
+        BankAccount account = delegate.findByUserId(userId);
+        latency.record(System.nanoTime() - start);
+        return account;
+    }
+
+    private static CompletableFuture<BankAccount> firstSuccessful(CompletableFuture<BankAccount> a, CompletableFuture<BankAccount> b) {
+        CompletableFuture<BankAccount> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<BankAccount> f : List.of(a, b)) {
+            f.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else if (failures.incrementAndGet() == 2) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static BankAccount await(CompletableFuture<BankAccount> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private static Exception unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof Exception e) {
+            return e;
+        }
+        throw (Error) cause;
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.VelocityCheckPort;
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityLimits;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityTopology;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityWindow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyWindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Avalia as janelas que contêm o instante atual no store do Streams. O store é particionado por
+ * userId e o listener consome por transactionId, então a chave costuma estar em outra instância:
+ * a consulta vai ao dono pelo endpoint interno {@code /internal/velocity}. Esse salto HTTP síncrono
+ * fica dentro do processamento da transação, limitado por {@code app.velocity.query-timeout}. A
+ * transação em processamento é somada às janelas que ainda não a contaram, porque o listener pode
+ * chegar antes do Streams. Falha aberta: responde vazio quando o dono não pode ser consultado
+ * (Streams parado, rebalanceamento, dono fora do ar, prazo estourado, token recusado), contado em
+ * {@code transaction.velocity.check.unavailable}.
+ */
+@Component
+public class KafkaStreamsVelocityCheck implements VelocityCheckPort {
+
+    private final StreamsBuilderFactoryBean streamsFactory;
+    private final VelocityLimits limits;
+    private final HostInfo localHost;
+    private final RestClient client;
+    private final Counter unavailable;
+
+    public KafkaStreamsVelocityCheck(
+            StreamsBuilderFactoryBean streamsFactory,
+            VelocityLimits limits,
+            HostInfo streamsHostInfo,
+            @Qualifier("velocityRestClient") RestClient client,
+            MeterRegistry meterRegistry
+    ) {
+        this.streamsFactory = streamsFactory;
+        this.limits = limits;
+        this.localHost = streamsHostInfo;
+        this.client = client;
+        this.unavailable = Counter.builder("transaction.velocity.check.unavailable")
+                .description("Checagens de velocidade sem resposta do dono da chave")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<VelocitySignalEvent> currentSignal(UUID userId, UUID transactionId, BigDecimal amount, String currency) {
+        KafkaStreams streams = streamsFactory.getKafkaStreams();
+        if (streams == null || streams.state() != KafkaStreams.State.RUNNING) {
+            unavailable.increment();
+            return Optional.empty();
+        }
+
+        KeyQueryMetadata metadata = streams.queryMetadataForKey(
+                VelocityTopology.STORE, userId.toString(), Serdes.String().serializer());
+        if (metadata == null || metadata.activeHost() == null || metadata.activeHost().port() == -1) {
+            unavailable.increment();
+            return Optional.empty();
+        }
+        if (!metadata.activeHost().equals(localHost)) {
+            return remoteSignal(metadata.activeHost(), userId, transactionId, amount, currency);
+        }
+        try {
+            return localSignal(userId, transactionId, amount, currency);
+        } catch (InvalidStateStoreException e) {
+            unavailable.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Lê o store desta instância; usado também pelo endpoint interno quando outra instância
+     * pergunta ao dono. Falha com {@link InvalidStateStoreException} se o store não está pronto
+     * ou se a chave deixou de ser daqui: vazio seria confundido com "sem excesso".
+     */
+    public Optional<VelocitySignalEvent> localSignal(UUID userId, UUID transactionId, BigDecimal amount, String currency) {
+        KafkaStreams streams = streamsFactory.getKafkaStreams();
+        if (streams == null || streams.state() != KafkaStreams.State.RUNNING) {
+            throw new InvalidStateStoreException("Streams de velocidade não está rodando");
+        }
+        KeyQueryMetadata metadata = streams.queryMetadataForKey(
+                VelocityTopology.STORE, userId.toString(), Serdes.String().serializer());
+        if (metadata == null || !localHost.equals(metadata.activeHost())) {
+            throw new InvalidStateStoreException("Usuário " + userId + " não pertence a esta instância");
+        }
+        ReadOnlyWindowStore<String, VelocityWindow> store = streams.store(StoreQueryParameters.fromNameAndType(
+                VelocityTopology.STORE, QueryableStoreTypes.<String, VelocityWindow>windowStore()));
+        return worstWindow(store, userId, transactionId, amount, currency, Instant.now());
+    }
+
+    Optional<VelocitySignalEvent> worstWindow(
+            ReadOnlyWindowStore<String, VelocityWindow> store,
+            UUID userId,
+            UUID transactionId,
+            BigDecimal amount,
+            String currency,
+            Instant now
+    ) {
+        VelocitySignalEvent worst = null;
+        boolean seen = false;
+        // janela [início, início + tamanho) contém "agora" só se início estiver em (agora - tamanho, agora];
+        // o fetch é inclusivo nas duas pontas, então o limite inferior anda 1ms
+        Instant from = now.minus(limits.window()).plusMillis(1);
+        try (WindowStoreIterator<VelocityWindow> windows = store.fetch(userId.toString(), from, now)) {
+            while (windows.hasNext()) {
+                KeyValue<Long, VelocityWindow> entry = windows.next();
+                if (entry.value == null) {
+                    continue;
+                }
+                seen = true;
+                worst = worse(worst, userId, Instant.ofEpochMilli(entry.key), entry.value.including(transactionId, currency, amount, limits));
+            }
+        }
+        if (!seen) {
+            // nenhuma janela ainda: a transação sozinha pode bastar para estourar o valor
+            long advance = limits.advance().toMillis();
+            Instant start = Instant.ofEpochMilli(now.toEpochMilli() - now.toEpochMilli() % advance);
+            worst = worse(null, userId, start, VelocityWindow.empty().including(transactionId, currency, amount, limits));
+        }
+        return Optional.ofNullable(worst);
+    }
+
+    private VelocitySignalEvent worse(VelocitySignalEvent current, UUID userId, Instant start, VelocityWindow window) {
+        if (!limits.exceeded(window.count(), window.amounts())) {
+            return current;
+        }
+        if (current != null && current.count() >= window.count()) {
+            return current;
+        }
+        String currency = limits.exceededCurrency(window.amounts());
+        return new VelocitySignalEvent(userId, start, start.plus(limits.window()), window.count(), currency,
+                currency == null ? null : window.amount(currency), limits.describe(window.count(), window.amounts()));
+    }
+
+    private Optional<VelocitySignalEvent> remoteSignal(HostInfo owner, UUID userId, UUID transactionId, BigDecimal amount, String currency) {
+        try {
+            return Optional.ofNullable(client.get()
+                    .uri("http://{host}:{port}/internal/velocity/{userId}?transactionId={transactionId}&amount={amount}&currency={currency}",
+                            owner.host(), owner.port(), userId, transactionId, amount == null ? BigDecimal.ZERO.toPlainString() : amount.toPlainString(), currency)
+                    .retrieve()
+                    .body(VelocitySignalEvent.class));
+        } catch (RestClientException e) {
+            unavailable.increment();
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import java.util.Arrays;
+
+/**
+ * Janela circular com as últimas latências observadas. O percentil é recalculado a cada
+ * {@code refreshEvery} amostras para não ordenar a janela em toda chamada.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private final double quantile;
+    private final int refreshEvery;
+    private int next;
+    private int count;
+    private int sinceRefresh;
+    private volatile long cachedNanos = -1;
+
+    public LatencyWindow(int size, double quantile, int refreshEvery) {
+        this.samples = new long[size];
+        this.quantile = quantile;
+        this.refreshEvery = refreshEvery;
+    }
+
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (++sinceRefresh >= refreshEvery) {
+            sinceRefresh = 0;
+            long[] copy = Arrays.copyOf(samples, count);
+            Arrays.sort(copy);
+            cachedNanos = copy[Math.min(count - 1, (int) Math.ceil(quantile * count) - 1)];
+        }
+    }
+
+    /** Percentil atual em nanos, ou -1 enquanto não houver amostras suficientes. */
+    public long percentileNanos() {
+        return cachedNanos;
+    }
+}
@@ -0,0 +1,53 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.BankAccountPort;
+import br.com.beca.transactionservice.domain.dto.BankAccount;
+
+import java.math.BigDecimal;
+
+// cada método é uma operação do limitador: depósito (GET+PUT) e transferência (2 GET + 2 PUT) têm latência própria
+public class LimitedBankAccountAdapter implements BankAccountPort {
+
+    private final BankAccountPort delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public LimitedBankAccountAdapter(BankAccountPort delegate, AdaptiveConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void deposit(String userId, BigDecimal amount) {
+        try {
+            limiter.call("deposit", () -> {
+                delegate.deposit(userId, amount);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void withdrawal(String userId, BigDecimal amount) throws Exception {
+        limiter.call("withdrawal", () -> {
+            delegate.withdrawal(userId, amount);
+            return null;
+        });
+    }
+
+    @Override
+    public void transfer(String sourceId, String targetId, BigDecimal amount) throws Exception {
+        limiter.call("transfer", () -> {
+            delegate.transfer(sourceId, targetId, amount);
+            return null;
+        });
+    }
+
+    @Override
+    public BankAccount findByUserId(String userId) throws Exception {
+        return limiter.call("findByUserId", () -> delegate.findByUserId(userId));
+    }
+}
@@ -2,11 +2,21 @@ package br.com.beca.transactionservice.infrastructure.gateway;
 
 import br.com.beca.transactionservice.application.port.BankAccountPort;
 import br.com.beca.transactionservice.domain.dto.BankAccount;
+import br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException;
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
 import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
 import java.util.Map;
 
 @Component
@@ -15,12 +25,10 @@ public class MockApiAdapter implements BankAccountPort {
     private final String endpoint;
 
     public MockApiAdapter(
-            @Value("${mockapi.base-url}") String baseUrl,
+            @Qualifier("bankAccountRestClient") RestClient client,
             @Value("${mockapi.resource}") String endpoint
     ) {
-        this.client = RestClient.builder()
-                .baseUrl(baseUrl)
-                .build();
+        this.client = client;
         this.endpoint = endpoint;
     }
 
@@ -30,31 +38,13 @@ public class MockApiAdapter implements BankAccountPort {
         if (clientAccount.id() == null){
             return;
         }
-        var payload = Map.of("balance", clientAccount.balance().add(amount));
-
-        client.put()
-                .uri(u -> u
-                        .path(endpoint + "/" + clientAccount.id())
-                        .build()
-                )
-                .body(payload)
-                .retrieve()
-                .toBodilessEntity();
-
+        put(clientAccount.id(), clientAccount.balance().add(amount), false);
     }
 
     @Override
     public void withdrawal(String userId, BigDecimal amount) throws Exception {
         BankAccount clientAccount = this.findByUserId(userId);
-        var payload = Map.of("balance", clientAccount.balance().subtract(amount));
-        client.put()
-                .uri(u -> u
-                        .path(endpoint + "/" + clientAccount.id())
-                        .build()
-                )
-                .body(payload)
-                .retrieve()
-                .toBodilessEntity();
+        put(clientAccount.id(), clientAccount.balance().subtract(amount), false);
     }
 
     @Override
@@ -63,43 +53,70 @@ public class MockApiAdapter implements BankAccountPort {
         BankAccount sourceAccount = this.findByUserId(sourceId);
         BankAccount targetAccount = this.findByUserId(targetId);
 
-        var sourcePayload = Map.of("balance", sourceAccount.balance().subtract(amount));
-        var targetPayload = Map.of("balance", targetAccount.balance().add(amount));
+        put(sourceAccount.id(), sourceAccount.balance().subtract(amount), false);
+        // origem já debitada: qualquer falha daqui em diante deixa a transferência pela metade
+        put(targetAccount.id(), targetAccount.balance().add(amount), true);
+    }
 
-        client.put()
-                .uri(u -> u
-                        .path(endpoint + "/" + sourceAccount.id())
-                        .build()
-                )
-                .body(sourcePayload)
-                .retrieve()
-                .toBodilessEntity();
+    /**
+     * O PUT grava o saldo absoluto lido antes, então não é idempotente: só a falha que garante que a
+     * requisição não saiu (conexão recusada, timeout de conexão ou de espera no pool) pode ser re-tentada.
+     * Qualquer outra vira {@link UnconfirmedBankWriteException}.
+     */
+    private void put(Long accountId, BigDecimal balance, boolean earlierWriteApplied) {
+        try {
+            client.put()
+                    .uri(u -> u
+                            .path(endpoint + "/" + accountId)
+                            .build()
+                    )
+                    .body(Map.of("balance", balance))
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RuntimeException e) {
+            if (!earlierWriteApplied && neverSent(e)) {
+                throw e;
+            }
+            throw new UnconfirmedBankWriteException(
+                    "Escrita na conta " + accountId + " sem confirmação, conciliar antes de reprocessar: " + e.getMessage(), e);
+        }
+    }
 
-        client.put()
-                .uri(u -> u
-                        .path(endpoint + "/" + targetAccount.id())
-                        .build()
-                )
-                .body(targetPayload)
-                .retrieve()
-                .toBodilessEntity();
+    static boolean neverSent(Throwable e) {
+        if (!(e instanceof ResourceAccessException)) {
+            return false;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException
+                    || cause instanceof ConnectTimeoutException
+                    || cause instanceof HttpConnectTimeoutException
+                    || cause instanceof ConnectionRequestTimeoutException
+                    || cause instanceof UnknownHostException
+                    || cause instanceof NoRouteToHostException) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public BankAccount findByUserId(String userId) {
+        BankAccount[] accounts;
         try {
-            BankAccount[] accounts = client.get()
+            accounts = client.get()
                     .uri(uriBuilder -> uriBuilder
                             .path(endpoint)
                             .queryParam("userId", userId)
                             .build())
                     .retrieve()
                     .body(BankAccount[].class);
-            return accounts[0];
-        } catch (Exception e){
+        } catch (HttpClientErrorException.NotFound e) {
+            accounts = null;
+        }
+        // falhas de rede/5xx sobem para o circuit breaker; só "conta inexistente" vira conta vazia
+        if (accounts == null || accounts.length == 0) {
             return new BankAccount(null, null, null, null, false, null);
         }
-
-
+        return accounts[0];
     }
 }
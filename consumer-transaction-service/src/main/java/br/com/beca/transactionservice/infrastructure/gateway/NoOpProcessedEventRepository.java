@@ -0,0 +1,22 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// modo at-least-once: sem cerca, a checagem de status nos use cases continua sendo a proteção
+@Component
+@ConditionalOnProperty(name = "app.kafka.exactly-once", havingValue = "false", matchIfMissing = true)
+public class NoOpProcessedEventRepository implements ProcessedEventRepository {
+
+    @Override
+    public boolean isProcessed(UUID transactionId) {
+        return false;
+    }
+
+    @Override
+    public void markProcessed(UUID transactionId) {
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.TransactionOutcomePublisher;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.OutcomeOutboxJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Instant;
+
+/**
+ * Grava o resultado no outbox, na mesma transação de banco que finaliza a transação: ou os dois
+ * ficam, ou nenhum. O {@link TransactionOutcomeRelay} publica em {@code transaction.outcome}
+ * depois do commit; reenvio é possível e o MS2 descarta repetidos pelo transactionId.
+ */
+@Component
+public class OutboxTransactionOutcomePublisher implements TransactionOutcomePublisher {
+
+    private final OutcomeOutboxJpaRepository outbox;
+    private final ObjectMapper objectMapper;
+    private final TransactionOutcomeRelay relay;
+
+    public OutboxTransactionOutcomePublisher(
+            OutcomeOutboxJpaRepository outbox,
+            ObjectMapper objectMapper,
+            TransactionOutcomeRelay relay
+    ) {
+        this.outbox = outbox;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    @Override
+    @Transactional
+    public void publish(TransactionOutcomeEvent event) {
+        outbox.insertIfAbsent(event.transactionId(), event.userId(), objectMapper.writeValueAsString(event), Instant.now());
+        // não espera o próximo ciclo do relay para anunciar o que acabou de ser confirmado
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.ProcessedEventJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Component
+@ConditionalOnProperty(name = "app.kafka.exactly-once", havingValue = "true")
+public class ProcessedEventRepositoryAdapter implements ProcessedEventRepository {
+    private final ProcessedEventJpaRepository jpa;
+
+    public ProcessedEventRepositoryAdapter(ProcessedEventJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    @Override
+    public boolean isProcessed(UUID transactionId) {
+        return jpa.existsById(transactionId);
+    }
+
+    @Override
+    public void markProcessed(UUID transactionId) {
+        jpa.insertIfAbsent(transactionId, Instant.now());
+    }
+}
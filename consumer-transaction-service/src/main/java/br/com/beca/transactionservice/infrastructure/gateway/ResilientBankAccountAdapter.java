@@ -0,0 +1,97 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.BankAccountPort;
+import br.com.beca.transactionservice.domain.dto.BankAccount;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+
+/**
+ * Envolve a API bancária com circuit breaker e bulkhead. Falhas de infraestrutura viram
+ * {@link DependencyUnavailableException} (re-tentada sem limite); erros de negócio (4xx) passam sem alteração.
+ * Nas escritas só chega aqui como infraestrutura a falha em que o PUT não saiu: o {@link MockApiAdapter}
+ * transforma o resto em {@link br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException},
+ * que também passa sem alteração (conta para o circuito, mas não é repetida).
+ */
+public class ResilientBankAccountAdapter implements BankAccountPort {
+
+    public static final String DEPENDENCY = "bank";
+
+    private final BankAccountPort delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ResilientBankAccountAdapter(BankAccountPort delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void deposit(String userId, BigDecimal amount) {
+        try {
+            call(() -> {
+                delegate.deposit(userId, amount);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void withdrawal(String userId, BigDecimal amount) throws Exception {
+        call(() -> {
+            delegate.withdrawal(userId, amount);
+            return null;
+        });
+    }
+
+    @Override
+    public void transfer(String sourceId, String targetId, BigDecimal amount) throws Exception {
+        call(() -> {
+            delegate.transfer(sourceId, targetId, amount);
+            return null;
+        });
+    }
+
+    @Override
+    public BankAccount findByUserId(String userId) throws Exception {
+        return call(() -> delegate.findByUserId(userId));
+    }
+
+    static boolean isInfrastructureFailure(Throwable e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private <T> T call(CheckedSupplier<T> supplier) throws Exception {
+        try {
+            return circuitBreaker.executeCheckedSupplier(Bulkhead.decorateCheckedSupplier(bulkhead, supplier));
+        } catch (CallNotPermittedException e) {
+            throw new DependencyUnavailableException(DEPENDENCY, "Circuito da API bancária aberto", e);
+        } catch (BulkheadFullException e) {
+            throw new DependencyUnavailableException(DEPENDENCY, "Limite de chamadas simultâneas à API bancária atingido", e);
+        } catch (Exception e) {
+            if (isInfrastructureFailure(e)) {
+                throw new DependencyUnavailableException(DEPENDENCY, "API bancária indisponível: " + e.getMessage(), e);
+            }
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.CurrencyConverterPort;
+import br.com.beca.transactionservice.domain.valueobject.FixedMoney;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+
+@Component
+@Profile("offline-fx")
+public class SnapshotCurrencyConverterGateway implements CurrencyConverterPort {
+
+    private static final BigDecimal BRL_RATE = BigDecimal.ONE.setScale(2, RoundingMode.HALF_EVEN);
+
+    private final FxRateTable table;
+
+    public SnapshotCurrencyConverterGateway(@Value("${app.fx.snapshot.location}") Resource snapshot) {
+        try (var reader = new InputStreamReader(snapshot.getInputStream(), StandardCharsets.UTF_8)) {
+            this.table = FxRateTable.read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível carregar o snapshot de câmbio " + snapshot, e);
+        }
+    }
+
+    @Override
+    public BigDecimal fxRate(String currency) {
+        if (currency == null || currency.isBlank()) {
+            throw new IllegalArgumentException("currency é obrigatória");
+        }
+        if ("BRL".equalsIgnoreCase(currency.trim())) {
+            return BRL_RATE;
+        }
+        BigDecimal rate = table.rate(currency);
+        if (rate == null) {
+            throw new IllegalArgumentException("Cotação não encontrada no snapshot para " + currency);
+        }
+        return rate;
+    }
+
+    @Override
+    public BigDecimal toBrl(BigDecimal amount, String currency) {
+        if (amount == null) throw new IllegalArgumentException("amount é obrigatório");
+
+        BigDecimal rate = fxRate(currency);
+
+        return FixedMoney.convert(amount, rate, "BRL").toBigDecimal();
+    }
+}
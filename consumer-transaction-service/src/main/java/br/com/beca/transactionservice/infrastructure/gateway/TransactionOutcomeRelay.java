@@ -0,0 +1,159 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.infrastructure.persistence.model.OutcomeOutboxEntity;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.OutcomeOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publica o outbox de resultados em {@code transaction.outcome}. Cada lote é travado com
+ * SKIP LOCKED, enviado, e só as linhas confirmadas pelo broker são apagadas na mesma transação;
+ * falha de envio deixa a linha para o próximo ciclo. Queda entre o ack e o commit reenvia o
+ * resultado, por isso o MS2 deduplica pelo transactionId.
+ */
+@Component
+public class TransactionOutcomeRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionOutcomeRelay.class);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(30);
+
+    private final OutcomeOutboxJpaRepository outbox;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String outcomeTopic;
+    private final Duration interval;
+    private final int batchSize;
+    private final Counter failed;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "outcome-relay");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TransactionOutcomeRelay(
+            OutcomeOutboxJpaRepository outbox,
+            TransactionTemplate transactionTemplate,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.kafka.topics.outcome}") String outcomeTopic,
+            @Value("${app.kafka.outcome.relay.interval:1s}") Duration interval,
+            @Value("${app.kafka.outcome.relay.batch-size:100}") int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.kafka.outcome.relay.batch-size precisa ser maior que zero");
+        }
+        this.outbox = outbox;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.outcomeTopic = outcomeTopic;
+        this.interval = interval;
+        this.batchSize = batchSize;
+        this.failed = Counter.builder("transaction.outcome.relay.failed")
+                .description("Resultados que ficaram no outbox por falha de envio")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::drainQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // chamado depois do commit de um resultado; várias chamadas seguidas viram uma drenagem só
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                wakeUpPending.set(false);
+                drainQuietly();
+            });
+        }
+    }
+
+    // devolve quantas linhas saíram do outbox
+    int drain() {
+        int total = 0;
+        while (true) {
+            Integer sent = transactionTemplate.execute(status -> relayBatch());
+            int count = sent == null ? 0 : sent;
+            total += count;
+            if (count < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            drain();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao drenar o outbox de resultados: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<OutcomeOutboxEntity> batch = outbox.lockBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<?>> pending = new ArrayList<>(batch.size());
+        for (OutcomeOutboxEntity row : batch) {
+            pending.add(send(row));
+        }
+
+        long deadline = System.nanoTime() + SEND_TIMEOUT.toNanos();
+        List<UUID> sent = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            UUID id = batch.get(i).getTransactionId();
+            try {
+                pending.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sent.add(id);
+            } catch (ExecutionException | TimeoutException e) {
+                failed.increment();
+                log.warn("Resultado da transação {} continua no outbox: {}", id, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!sent.isEmpty()) {
+            outbox.deleteAllByIdInBatch(sent);
+        }
+        return sent.size();
+    }
+
+    // chave = userId: os agregados por usuário no MS2 não precisam de repartition
+    private CompletableFuture<?> send(OutcomeOutboxEntity row) {
+        try {
+            TransactionOutcomeEvent event = objectMapper.readValue(row.getPayload(), TransactionOutcomeEvent.class);
+            return kafkaTemplate.send(outcomeTopic, row.getUserId().toString(), event);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
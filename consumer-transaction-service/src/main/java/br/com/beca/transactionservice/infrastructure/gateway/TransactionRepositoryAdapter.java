@@ -2,16 +2,23 @@ package br.com.beca.transactionservice.infrastructure.gateway;
 
 import br.com.beca.transactionservice.application.port.TransactionRepository;
 import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.infrastructure.persistence.converter.TransactionStatusConverter;
 import br.com.beca.transactionservice.infrastructure.persistence.model.TransactionEntity;
 import br.com.beca.transactionservice.infrastructure.persistence.repository.TransactionJpaRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Component
 public class TransactionRepositoryAdapter implements TransactionRepository {
+    private static final TransactionStatusConverter STATUS_CONVERTER = new TransactionStatusConverter();
+
     private final TransactionJpaRepository jpa;
 
     public TransactionRepositoryAdapter(TransactionJpaRepository jpa) {
@@ -29,4 +36,27 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
         return jpa.findById(id).map(TransactionMapper::toDomain);
     }
 
+    @Override
+    public Optional<TransactionStatus> lockStatus(UUID id) {
+        jpa.acquireProcessingLock(id);
+        return jpa.findById(id).map(TransactionEntity::getStatus);
+    }
+
+    @Override
+    public boolean lockIfPending(UUID id) {
+        return jpa.findStatusCodeForUpdate(id)
+                .map(STATUS_CONVERTER::convertToEntityAttribute)
+                .map(status -> status == TransactionStatus.PENDENTE)
+                .orElse(true);
+    }
+
+    @Override
+    public List<UUID> findFinalizedIdsSince(LocalDateTime since, int limit) {
+        return jpa.findIdsByStatusSince(
+                List.of(TransactionStatus.APROVADA, TransactionStatus.REJEITADA),
+                since,
+                PageRequest.of(0, limit)
+        );
+    }
+
 }
@@ -0,0 +1,49 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.infrastructure.persistence.converter.TransactionTypeConverter;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.TransactionJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+@Component
+public class UserTransactionSummaryRepositoryAdapter implements UserTransactionSummaryRepository {
+    // categoria faz parte da PK; "sem categoria" é gravado como vazio
+    private static final String NO_CATEGORY = "";
+
+    private final TransactionJpaRepository jpa;
+    private final TransactionTypeConverter typeConverter = new TransactionTypeConverter();
+
+    public UserTransactionSummaryRepositoryAdapter(TransactionJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    /**
+     * Mês do resumo: primeiro dia do mês de created_at em UTC, como na carga da V7 e no cancelamento
+     * do MS2. O LocalDateTime lido do TIMESTAMPTZ está no fuso da JVM, então é convertido antes de truncar.
+     */
+    static LocalDate monthOf(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDate().withDayOfMonth(1);
+    }
+
+    @Override
+    public void addApproved(Transaction transaction) {
+        // mesmo valor em BRL que vai no evento de resultado
+        TransactionOutcomeEvent outcome = TransactionOutcomeEvent.from(transaction);
+        jpa.addToUserSummary(
+                transaction.getUserId(),
+                monthOf(transaction.getCreatedAt()),
+                typeConverter.convertToDatabaseColumn(transaction.getType()),
+                transaction.getCategory() != null ? transaction.getCategory() : NO_CATEGORY,
+                outcome.currency(),
+                outcome.amount(),
+                outcome.amountBrl()
+        );
+    }
+}
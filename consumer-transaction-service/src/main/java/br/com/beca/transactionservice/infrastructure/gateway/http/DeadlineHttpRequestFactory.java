@@ -0,0 +1,141 @@
+package br.com.beca.transactionservice.infrastructure.gateway.http;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aborta a requisição quando o prazo total (pool + conexão + resposta) estoura.
+ * O agendamento começa no execute e é cancelado quando a resposta é fechada (ou a chamada falha),
+ * então a requisição não fica presa no scheduler e o abort nunca atinge uma conexão já devolvida ao pool.
+ */
+public class DeadlineHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    // createHttpUriRequest roda dentro de super.createRequest na mesma thread; é assim que o request abortável chega aqui
+    private final ThreadLocal<HttpUriRequestBase> created = new ThreadLocal<>();
+
+    private final Duration deadline;
+    private final ScheduledExecutorService scheduler;
+
+    public DeadlineHttpRequestFactory(HttpClient httpClient, Duration deadline, ScheduledExecutorService scheduler) {
+        super(httpClient);
+        this.deadline = deadline;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        try {
+            ClientHttpRequest request = super.createRequest(uri, httpMethod);
+            return new DeadlineRequest(request, created.get());
+        } finally {
+            created.remove();
+        }
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        HttpUriRequestBase request = new HttpUriRequestBase(httpMethod.name(), uri);
+        created.set(request);
+        return request;
+    }
+
+    private final class DeadlineRequest implements ClientHttpRequest {
+        private final ClientHttpRequest delegate;
+        private final HttpUriRequestBase abortable;
+
+        private DeadlineRequest(ClientHttpRequest delegate, HttpUriRequestBase abortable) {
+            this.delegate = delegate;
+            this.abortable = abortable;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ScheduledFuture<?> abort = scheduler.schedule(abortable::abort, deadline.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineResponse(delegate.execute(), abort);
+            } catch (IOException | RuntimeException e) {
+                abort.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return delegate.getAttributes();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+    }
+
+    // o prazo vale até o corpo ser lido; fechar a resposta encerra o agendamento
+    private static final class DeadlineResponse implements ClientHttpResponse {
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> abort;
+
+        private DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> abort) {
+            this.delegate = delegate;
+            this.abort = abort;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            abort.cancel(false);
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.beca.transactionservice.infrastructure.gateway.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Latência por endpoint; ids numéricos no path viram {id} para não explodir a cardinalidade.
+ */
+public class HttpClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final String client;
+    private final MeterRegistry registry;
+
+    public HttpClientMetricsInterceptor(String client, MeterRegistry registry) {
+        this.client = client;
+        this.registry = registry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        long start = System.nanoTime();
+        String outcome = "IO_ERROR";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outcome = String.valueOf(response.getStatusCode().value());
+            return response;
+        } finally {
+            Timer.builder("http.client.endpoint.latency")
+                    .tag("client", client)
+                    .tag("method", request.getMethod().name())
+                    .tag("endpoint", ID_SEGMENT.matcher(request.getURI().getPath()).replaceAll("/{id}"))
+                    .tag("status", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
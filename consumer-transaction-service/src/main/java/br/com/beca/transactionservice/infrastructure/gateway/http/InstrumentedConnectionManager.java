@@ -0,0 +1,56 @@
+package br.com.beca.transactionservice.infrastructure.gateway.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pool de conexões que publica ocupação (leased/available/pending/max) e o tempo
+ * que cada requisição esperou por uma conexão livre.
+ */
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer leaseWait;
+
+    public InstrumentedConnectionManager(String pool, MeterRegistry registry) {
+        this.leaseWait = Timer.builder("http.client.pool.wait")
+                .tag("pool", pool)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+
+        Gauge.builder("http.client.pool.leased", this, m -> m.getTotalStats().getLeased()).tag("pool", pool).register(registry);
+        Gauge.builder("http.client.pool.available", this, m -> m.getTotalStats().getAvailable()).tag("pool", pool).register(registry);
+        Gauge.builder("http.client.pool.pending", this, m -> m.getTotalStats().getPending()).tag("pool", pool).register(registry);
+        Gauge.builder("http.client.pool.max", this, m -> m.getTotalStats().getMax()).tag("pool", pool).register(registry);
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout) throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return delegate.get(timeout);
+                } finally {
+                    leaseWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+}
@@ -0,0 +1,325 @@
+package br.com.beca.transactionservice.infrastructure.gateway.redrive;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.usecase.ControllerUseCase;
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.infrastructure.config.KafkaRetryTopicConfig;
+import br.com.beca.transactionservice.infrastructure.web.dto.RedriveRequest;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lê a DLQ do início (ou de {@code from}) até o fim observado no momento do disparo e reenvia os
+ * registros filtrados, com teto de vazão e paralelismo. Transações que já não estão PENDENTE são
+ * puladas, então rodar o mesmo re-drive duas vezes não reaplica nada. No modo REPROCESS a checagem
+ * definitiva é a do {@link ControllerUseCase}, sob lock da linha na mesma transação que chama a API
+ * bancária: jobs concorrentes ou uma entrega viva do listener não processam o mesmo evento duas vezes.
+ * Só há o que reprocessar quando {@code app.kafka.dlq.reject-exhausted=false}; caso contrário o
+ * handler da DLT já rejeitou a transação.
+ */
+@Component
+public class DlqRedriveService {
+
+    private static final Logger log = LoggerFactory.getLogger(DlqRedriveService.class);
+    private static final int MAX_PARALLELISM = 16;
+    private static final int MAX_RATE = 1_000;
+    // jobs finalizados mais antigos saem do registro quando ele passa deste tamanho
+    static final int MAX_JOBS = 50;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+
+    private final ControllerUseCase controllerUseCase;
+    private final TransactionRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String bootstrapServers;
+    private final String dlqTopic;
+    private final String requestedTopic;
+    private final Map<UUID, RedriveJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService runner = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "dlq-redrive");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public DlqRedriveService(
+            ControllerUseCase controllerUseCase,
+            TransactionRepository repository,
+            TransactionTemplate transactionTemplate,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrapServers,
+            @Value("${app.kafka.topics.requested.dlq}") String dlqTopic,
+            @Value("${app.kafka.topics.requested}") String requestedTopic
+    ) {
+        this.controllerUseCase = controllerUseCase;
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.bootstrapServers = bootstrapServers;
+        this.dlqTopic = dlqTopic;
+        this.requestedTopic = requestedTopic;
+    }
+
+    public RedriveJob start(RedriveRequest request) {
+        if (request.from() != null && request.to() != null && request.from().isAfter(request.to())) {
+            throw new IllegalArgumentException("from deve ser anterior a to");
+        }
+        RedriveRequest normalized = new RedriveRequest(
+                request.from(),
+                request.to(),
+                request.reason(),
+                request.type(),
+                request.mode() == null ? RedriveMode.REPROCESS : request.mode(),
+                clamp(request.ratePerSecond(), 1, MAX_RATE, 50),
+                clamp(request.parallelism(), 1, MAX_PARALLELISM, 4),
+                Boolean.TRUE.equals(request.dryRun())
+        );
+        RedriveJob job = new RedriveJob(normalized);
+        register(job);
+        runner.submit(() -> run(job));
+        return job;
+    }
+
+    synchronized void register(RedriveJob job) {
+        if (jobs.size() >= MAX_JOBS) {
+            jobs.values().stream()
+                    .filter(j -> !j.isRunning())
+                    .sorted(Comparator.comparing(RedriveJob::getStartedAt))
+                    .limit(jobs.size() - MAX_JOBS + 1L)
+                    .toList()
+                    .forEach(j -> jobs.remove(j.getId()));
+        }
+        if (jobs.size() >= MAX_JOBS) {
+            throw new IllegalStateException("Limite de " + MAX_JOBS + " re-drives em andamento atingido");
+        }
+        jobs.put(job.getId(), job);
+    }
+
+    public Optional<RedriveJob> find(UUID jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public List<RedriveJob> list() {
+        return List.copyOf(jobs.values());
+    }
+
+    private void run(RedriveJob job) {
+        RedriveRequest request = job.getRequest();
+        int parallelism = request.parallelism();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / request.ratePerSecond();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        Set<UUID> seen = ConcurrentHashMap.newKeySet();
+
+        try (KafkaConsumer<String, byte[]> consumer = createConsumer()) {
+            List<TopicPartition> partitions = consumer.partitionsFor(dlqTopic).stream()
+                    .map(p -> new TopicPartition(p.topic(), p.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            seekToStart(consumer, partitions, request);
+            partitions.forEach(tp -> job.total.addAndGet(Math.max(0, endOffsets.get(tp) - consumer.position(tp))));
+
+            long nextSlot = System.nanoTime();
+            while (job.isRunning() && !reachedEnd(consumer, partitions, endOffsets)) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(Duration.ofMillis(500));
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (!job.isRunning()) {
+                        break;
+                    }
+                    if (record.offset() >= endOffsets.get(new TopicPartition(record.topic(), record.partition()))) {
+                        continue;
+                    }
+                    job.scanned.incrementAndGet();
+                    TransactionRequestedEvent event = matches(record, request, job);
+                    if (event == null || !seen.add(event.transactionId())) {
+                        continue;
+                    }
+                    job.matched.incrementAndGet();
+
+                    // teto de vazão: um slot a cada 1/rate segundos
+                    long wait = nextSlot - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    nextSlot = Math.max(nextSlot, System.nanoTime()) + intervalNanos;
+
+                    inFlight.acquire();
+                    workers.submit(() -> {
+                        try {
+                            redrive(event, job);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+            awaitWorkers(workers, job, DRAIN_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.error("Interrompido");
+            job.finish(RedriveJob.Status.FAILED);
+        } catch (Exception e) {
+            log.error("Re-drive {} falhou", job.getId(), e);
+            job.error(e.getMessage());
+            job.finish(RedriveJob.Status.FAILED);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    // só é COMPLETED quando nenhum worker ainda está reenviando; estourado o prazo, os que restam são interrompidos
+    static void awaitWorkers(ExecutorService workers, RedriveJob job, Duration timeout) throws InterruptedException {
+        workers.shutdown();
+        if (workers.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            job.finish(RedriveJob.Status.COMPLETED);
+            return;
+        }
+        workers.shutdownNow();
+        log.warn("Re-drive {}: workers não terminaram em {}, interrompidos", job.getId(), timeout);
+        job.error("Workers não terminaram em " + timeout + "; re-drives em andamento foram interrompidos");
+        job.finish(RedriveJob.Status.TIMED_OUT);
+    }
+
+    void redrive(TransactionRequestedEvent event, RedriveJob job) {
+        try {
+            // filtro barato, sem lock; no REPROCESS a decisão final é do ControllerUseCase
+            boolean pending = repository.findById(event.transactionId())
+                    .map(t -> t.getStatus() == TransactionStatus.PENDENTE)
+                    .orElse(false);
+            if (!pending) {
+                job.skipped.incrementAndGet();
+                return;
+            }
+            if (job.getRequest().dryRun()) {
+                job.redriven.incrementAndGet();
+                return;
+            }
+            if (job.getRequest().mode() == RedriveMode.REPUBLISH) {
+                kafkaTemplate.send(requestedTopic, event.transactionId().toString(), event).get(30, TimeUnit.SECONDS);
+            } else {
+                Boolean processed = transactionTemplate.execute(status -> {
+                    try {
+                        return controllerUseCase.execute(event);
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                if (!Boolean.TRUE.equals(processed)) {
+                    // outro job ou o listener finalizou a transação entre o filtro e o lock
+                    job.skipped.incrementAndGet();
+                    return;
+                }
+            }
+            job.redriven.incrementAndGet();
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            job.failed.incrementAndGet();
+            job.error(event.transactionId() + ": " + e.getMessage());
+        }
+    }
+
+    private TransactionRequestedEvent matches(ConsumerRecord<String, byte[]> record, RedriveRequest request, RedriveJob job) {
+        if (request.to() != null && record.timestamp() > request.to().toEpochMilli()) {
+            return null;
+        }
+        if (request.reason() != null && !reason(record).toLowerCase(Locale.ROOT).contains(request.reason().toLowerCase(Locale.ROOT))) {
+            return null;
+        }
+        TransactionRequestedEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), TransactionRequestedEvent.class);
+        } catch (Exception e) {
+            // registros antigos da DLQ (motivo solto, sem evento) não são reprocessáveis
+            return null;
+        }
+        if (event == null || event.transactionId() == null) {
+            return null;
+        }
+        if (request.type() != null && request.type() != event.type()) {
+            return null;
+        }
+        return event;
+    }
+
+    private static String reason(ConsumerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader(KafkaRetryTopicConfig.FAILURE_REASON_HEADER);
+        if (header == null) {
+            header = record.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE);
+        }
+        return header == null ? "" : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private void seekToStart(KafkaConsumer<String, byte[]> consumer, List<TopicPartition> partitions, RedriveRequest request) {
+        if (request.from() == null) {
+            consumer.seekToBeginning(partitions);
+            return;
+        }
+        Map<TopicPartition, Long> query = new HashMap<>();
+        partitions.forEach(tp -> query.put(tp, request.from().toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> offsets = consumer.offsetsForTimes(query);
+        Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+        partitions.forEach(tp -> {
+            OffsetAndTimestamp found = offsets.get(tp);
+            consumer.seek(tp, found == null ? end.get(tp) : found.offset());
+        });
+    }
+
+    private static boolean reachedEnd(KafkaConsumer<String, byte[]> consumer, List<TopicPartition> partitions, Map<TopicPartition, Long> endOffsets) {
+        return partitions.stream().allMatch(tp -> consumer.position(tp) >= endOffsets.get(tp));
+    }
+
+    private KafkaConsumer<String, byte[]> createConsumer() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 200);
+        props.put(ConsumerConfig.CLIENT_ID_CONFIG, "dlq-redrive");
+        return new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    private static int clamp(Integer value, int min, int max, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.beca.transactionservice.infrastructure.gateway.redrive;
+
+import br.com.beca.transactionservice.infrastructure.web.dto.RedriveRequest;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado mutável de um re-drive em andamento; {@link #snapshot()} gera a visão exposta no endpoint.
+ */
+public class RedriveJob {
+
+    public enum Status { RUNNING, COMPLETED, CANCELLED, FAILED, TIMED_OUT }
+
+    private final UUID id = UUID.randomUUID();
+    private final RedriveRequest request;
+    private final Instant startedAt = Instant.now();
+    final AtomicLong total = new AtomicLong();
+    final AtomicLong scanned = new AtomicLong();
+    final AtomicLong matched = new AtomicLong();
+    final AtomicLong redriven = new AtomicLong();
+    final AtomicLong skipped = new AtomicLong();
+    final AtomicLong failed = new AtomicLong();
+    private volatile Status status = Status.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String lastError;
+
+    public RedriveJob(RedriveRequest request) {
+        this.request = request;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public RedriveRequest getRequest() {
+        return request;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public boolean isRunning() {
+        return status == Status.RUNNING;
+    }
+
+    public void cancel() {
+        if (status == Status.RUNNING) {
+            status = Status.CANCELLED;
+        }
+    }
+
+    void finish(Status finalStatus) {
+        if (status == Status.RUNNING) {
+            status = finalStatus;
+        }
+        finishedAt = Instant.now();
+    }
+
+    void error(String message) {
+        lastError = message;
+    }
+
+    public Progress snapshot() {
+        long totalRecords = total.get();
+        double percent = totalRecords == 0 ? 100.0 : Math.min(100.0, scanned.get() * 100.0 / totalRecords);
+        return new Progress(id, status, request.mode(), request.dryRun(), totalRecords,
+                scanned.get(), matched.get(), redriven.get(), skipped.get(), failed.get(), percent,
+                startedAt, finishedAt, lastError);
+    }
+
+    public record Progress(
+            UUID jobId,
+            Status status,
+            RedriveMode mode,
+            boolean dryRun,
+            long total,
+            long scanned,
+            long matched,
+            long redriven,
+            long skippedFinalized,
+            long failed,
+            double percent,
+            Instant startedAt,
+            Instant finishedAt,
+            String lastError
+    ) {
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.beca.transactionservice.infrastructure.gateway.redrive;
+
+public enum RedriveMode {
+    // processa o evento direto no ControllerUseCase, sem passar pelo Kafka
+    REPROCESS,
+    // publica o evento de novo no tópico principal
+    REPUBLISH
+}
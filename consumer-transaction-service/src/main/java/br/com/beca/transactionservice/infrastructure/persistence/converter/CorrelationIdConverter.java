@@ -0,0 +1,21 @@
+package br.com.beca.transactionservice.infrastructure.persistence.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+// correlation_id é uuid nativo no banco (V6); no domínio continua String
+@Converter
+public class CorrelationIdConverter implements AttributeConverter<String, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(String value) {
+        return value == null ? null : UUID.fromString(value);
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.beca.transactionservice.infrastructure.persistence.converter;
+
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// smallint na coluna (V6); os códigos são fixos e iguais nos dois serviços, não dependem da ordem do enum
+@Converter
+public class TransactionStatusConverter implements AttributeConverter<TransactionStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TransactionStatus value) {
+        if (value == null) return null;
+        return (short) switch (value) {
+            case PENDENTE -> 1;
+            case APROVADA -> 2;
+            case REJEITADA -> 3;
+            case CANCELADA -> 4;
+        };
+    }
+
+    @Override
+    public TransactionStatus convertToEntityAttribute(Short code) {
+        if (code == null) return null;
+        return switch (code) {
+            case 1 -> TransactionStatus.PENDENTE;
+            case 2 -> TransactionStatus.APROVADA;
+            case 3 -> TransactionStatus.REJEITADA;
+            case 4 -> TransactionStatus.CANCELADA;
+            default -> throw new IllegalArgumentException("Código de status desconhecido: " + code);
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.beca.transactionservice.infrastructure.persistence.converter;
+
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// smallint na coluna (V6); os códigos são fixos e iguais nos dois serviços, não dependem da ordem do enum
+@Converter
+public class TransactionTypeConverter implements AttributeConverter<TransactionType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TransactionType value) {
+        if (value == null) return null;
+        return (short) switch (value) {
+            case DEPOSITO -> 1;
+            case SAQUE -> 2;
+            case TRANSFERENCIA -> 3;
+            case COMPRA -> 4;
+            case PIX -> 5;
+        };
+    }
+
+    @Override
+    public TransactionType convertToEntityAttribute(Short code) {
+        if (code == null) return null;
+        return switch (code) {
+            case 1 -> TransactionType.DEPOSITO;
+            case 2 -> TransactionType.SAQUE;
+            case 3 -> TransactionType.TRANSFERENCIA;
+            case 4 -> TransactionType.COMPRA;
+            case 5 -> TransactionType.PIX;
+            default -> throw new IllegalArgumentException("Código de tipo de transação desconhecido: " + code);
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.beca.transactionservice.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Expira a cerca processed_events (V2) do modo exactly-once: linhas mais antigas que
+ * {@code app.kafka.processed-events.retention} saem em lotes, sem segurar um DELETE longo.
+ * A retenção só precisa cobrir a janela de redelivery do Kafka; depois dela um replay ainda para
+ * no status da transação (ControllerUseCase), só que com uma leitura a mais. Retenção {@code <= 0}
+ * desliga a limpeza.
+ */
+@Component
+public class ProcessedEventsCleanup {
+
+    private static final Logger log = LoggerFactory.getLogger(ProcessedEventsCleanup.class);
+
+    static final String DELETE_BATCH = """
+            DELETE FROM processed_events WHERE transaction_id IN (
+                SELECT transaction_id FROM processed_events WHERE processed_at < ? LIMIT ?
+            )
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final Duration retention;
+    private final int batchSize;
+
+    public ProcessedEventsCleanup(
+            JdbcTemplate jdbc,
+            @Value("${app.kafka.processed-events.retention:7d}") Duration retention,
+            @Value("${app.kafka.processed-events.cleanup-batch-size:5000}") int batchSize
+    ) {
+        this.jdbc = jdbc;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.kafka.processed-events.cleanup-interval:1h}",
+            fixedDelayString = "${app.kafka.processed-events.cleanup-interval:1h}"
+    )
+    public void run() {
+        int removed = purgeExpired(Instant.now());
+        if (removed > 0) {
+            log.info("{} linhas expiradas removidas de processed_events", removed);
+        }
+    }
+
+    int purgeExpired(Instant now) {
+        if (retention.isZero() || retention.isNegative()) {
+            return 0;
+        }
+        Timestamp cutoff = Timestamp.from(now.minus(retention));
+        int total = 0;
+        int deleted;
+        do {
+            // cada lote é um autocommit curto; o índice de processed_at (V2) acha os candidatos
+            deleted = jdbc.update(DELETE_BATCH, cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
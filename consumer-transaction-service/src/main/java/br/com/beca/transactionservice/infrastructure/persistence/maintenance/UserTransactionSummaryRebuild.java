@@ -0,0 +1,40 @@
+package br.com.beca.transactionservice.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Atende o pedido de reconstrução do resumo mensal (V12) assim que esta versão sobe: a partir
+ * daqui todo aprovado é incrementado por este serviço, então o que ficou de fora antes (MS3 antigo
+ * depois da V7, cancelamentos de aprovadas) é recontado uma vez a partir de transactions.
+ * Várias instâncias podem chamar ao mesmo tempo; só a primeira refaz.
+ */
+@Component
+public class UserTransactionSummaryRebuild {
+
+    private static final Logger log = LoggerFactory.getLogger(UserTransactionSummaryRebuild.class);
+
+    private final JdbcTemplate jdbc;
+
+    public UserTransactionSummaryRebuild(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            Boolean rebuilt = jdbc.queryForObject("SELECT user_transaction_summary_rebuild()", Boolean.class);
+            if (Boolean.TRUE.equals(rebuilt)) {
+                log.info("Resumo mensal (user_transaction_summary) reconstruído a partir de transactions");
+            }
+        } catch (DataAccessException e) {
+            // migração V12 ainda não aplicada pelo MS2: o pedido será atendido no próximo startup
+            log.warn("Não foi possível reconstruir o resumo mensal: {}", e.getMessage());
+        }
+    }
+}
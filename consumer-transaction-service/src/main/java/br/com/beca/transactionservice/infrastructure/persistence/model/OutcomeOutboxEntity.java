@@ -0,0 +1,51 @@
+package br.com.beca.transactionservice.infrastructure.persistence.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "transaction_outcome_outbox")
+public class OutcomeOutboxEntity {
+    @Id
+    private UUID transactionId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    protected OutcomeOutboxEntity() {
+    }
+
+    public OutcomeOutboxEntity(UUID transactionId, UUID userId, String payload, Instant createdAt) {
+        this.transactionId = transactionId;
+        this.userId = userId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
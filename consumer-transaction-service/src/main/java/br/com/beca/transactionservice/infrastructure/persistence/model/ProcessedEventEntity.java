@@ -0,0 +1,30 @@
+package br.com.beca.transactionservice.infrastructure.persistence.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "processed_events")
+public class ProcessedEventEntity {
+    @Id
+    private UUID transactionId;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    protected ProcessedEventEntity() {
+    }
+
+    public UUID getTransactionId() {
+        return transactionId;
+    }
+
+    public Instant getProcessedAt() {
+        return processedAt;
+    }
+}
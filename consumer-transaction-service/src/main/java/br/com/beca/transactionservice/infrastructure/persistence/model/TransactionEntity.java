@@ -4,6 +4,7 @@ import br.com.beca.transactionservice.domain.model.BuyType;
 import br.com.beca.transactionservice.domain.model.TransactionStatus;
 import br.com.beca.transactionservice.domain.model.TransactionType;
 import br.com.beca.transactionservice.domain.model.TransferType;
+import br.com.beca.transactionservice.infrastructure.persistence.converter.*;
 import jakarta.persistence.*;
 
 import java.math.BigDecimal;
@@ -20,18 +21,18 @@ public class TransactionEntity {
     @Column(nullable = false)
     private UUID userId;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransactionTypeConverter.class)
     @Column(nullable = false)
     private TransactionType type;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransactionStatusConverter.class)
     @Column(nullable = false)
     private TransactionStatus status;
 
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal amount;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = 3)
     private String currency;
 
     @Column(nullable = false)
@@ -48,6 +49,7 @@ public class TransactionEntity {
 
     private LocalDateTime processedAt;
 
+    @Convert(converter = CorrelationIdConverter.class)
     @Column(nullable = false)
     private String correlationId;
 
@@ -59,10 +61,10 @@ public class TransactionEntity {
 
     private Boolean record;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransferTypeConverter.class)
     private TransferType transferType;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = BuyTypeConverter.class)
     private BuyType buyType;
 
 
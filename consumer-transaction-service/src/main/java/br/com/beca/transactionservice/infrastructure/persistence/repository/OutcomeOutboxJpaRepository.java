@@ -0,0 +1,37 @@
+package br.com.beca.transactionservice.infrastructure.persistence.repository;
+
+import br.com.beca.transactionservice.infrastructure.persistence.model.OutcomeOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutcomeOutboxJpaRepository extends JpaRepository<OutcomeOutboxEntity, UUID> {
+
+    // uma transação finaliza uma vez; redelivery que chegasse até aqui não duplica a linha
+    @Modifying
+    @Query(value = """
+            INSERT INTO transaction_outcome_outbox (transaction_id, user_id, payload, created_at)
+            VALUES (:id, :userId, :payload, :createdAt)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(
+            @Param("id") UUID id,
+            @Param("userId") UUID userId,
+            @Param("payload") String payload,
+            @Param("createdAt") Instant createdAt
+    );
+
+    // SKIP LOCKED: várias instâncias drenam o outbox sem pegar as mesmas linhas
+    @Query(value = """
+            SELECT * FROM transaction_outcome_outbox
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutcomeOutboxEntity> lockBatch(@Param("limit") int limit);
+}
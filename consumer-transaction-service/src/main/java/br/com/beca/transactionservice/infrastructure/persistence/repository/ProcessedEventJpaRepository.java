@@ -0,0 +1,18 @@
+package br.com.beca.transactionservice.infrastructure.persistence.repository;
+
+import br.com.beca.transactionservice.infrastructure.persistence.model.ProcessedEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventEntity, UUID> {
+
+    // insert direto, sem o SELECT que o save() faria para id atribuído
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (transaction_id, processed_at) VALUES (:id, :processedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("processedAt") Instant processedAt);
+}
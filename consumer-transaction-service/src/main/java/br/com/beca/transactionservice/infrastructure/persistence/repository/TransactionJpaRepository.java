@@ -1,9 +1,57 @@
 package br.com.beca.transactionservice.infrastructure.persistence.repository;
 
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
 import br.com.beca.transactionservice.infrastructure.persistence.model.TransactionEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionJpaRepository extends JpaRepository<TransactionEntity, UUID> {
+
+    // advisory lock por id até o fim da transação: serializa o MS3 sem travar a linha para o MS2
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended(CAST(:id AS text), 0))) l", nativeQuery = true)
+    Integer acquireProcessingLock(@Param("id") UUID id);
+
+    // SELECT ... FOR UPDATE só do status, lido do banco e não do contexto de persistência
+    @Query(value = "SELECT status FROM transactions WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Short> findStatusCodeForUpdate(@Param("id") UUID id);
+
+    // finalizadas desde :since pelo momento da finalização, não da criação
+    @Query("select t.id from TransactionEntity t where t.processedAt >= :since and t.status in :statuses order by t.processedAt desc")
+    List<UUID> findIdsByStatusSince(
+            @Param("statuses") Collection<TransactionStatus> statuses,
+            @Param("since") LocalDateTime since,
+            Pageable pageable
+    );
+
+    // read model user_transaction_summary (V7): soma incremental, uma linha por usuário/mês/tipo/categoria/moeda
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_transaction_summary (user_id, month, type, category, currency, total_amount, total_brl, tx_count, updated_at)
+            VALUES (:userId, :month, :type, :category, :currency, :amount, COALESCE(:amountBrl, 0), 1, now())
+            ON CONFLICT (user_id, month, type, category, currency) DO UPDATE SET
+                total_amount = user_transaction_summary.total_amount + EXCLUDED.total_amount,
+                total_brl = user_transaction_summary.total_brl + EXCLUDED.total_brl,
+                tx_count = user_transaction_summary.tx_count + 1,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int addToUserSummary(
+            @Param("userId") UUID userId,
+            @Param("month") LocalDate month,
+            @Param("type") short type,
+            @Param("category") String category,
+            @Param("currency") String currency,
+            @Param("amount") BigDecimal amount,
+            @Param("amountBrl") BigDecimal amountBrl
+    );
 }
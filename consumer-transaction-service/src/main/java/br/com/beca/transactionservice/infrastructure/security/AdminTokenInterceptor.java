@@ -0,0 +1,40 @@
+package br.com.beca.transactionservice.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * O MS3 não tem Spring Security e a porta é publicada no compose: as rotas de operação
+ * (/admin, /internal) exigem o token compartilhado no header X-Admin-Token.
+ * Sem token configurado elas ficam fechadas.
+ */
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminTokenInterceptor(String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (token == null) {
+            response.sendError(HttpStatus.FORBIDDEN.value(), "Rota administrativa desabilitada: configure MS3_ADMIN_TOKEN");
+            return false;
+        }
+        String presented = request.getHeader(HEADER);
+        // comparação em tempo constante: o tempo de resposta não revela o prefixo certo
+        if (presented == null || !MessageDigest.isEqual(token, presented.getBytes(StandardCharsets.UTF_8))) {
+            response.sendError(HttpStatus.UNAUTHORIZED.value(), "Token administrativo inválido");
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Limites da janela de velocidade. O valor é limitado por moeda, na própria moeda: somar USD com
+ * BRL contra um teto só misturaria unidades e converter dentro do Streams exigiria câmbio no
+ * agregador. Moeda sem teto em {@code maxAmounts} só é limitada pela quantidade.
+ */
+public record VelocityLimits(
+        Duration window,
+        Duration advance,
+        long maxCount,
+        Map<String, BigDecimal> maxAmounts
+) {
+    public VelocityLimits {
+        maxAmounts = maxAmounts == null ? Map.of() : Map.copyOf(maxAmounts);
+    }
+
+    public boolean exceeded(long count, Map<String, BigDecimal> amounts) {
+        return count > maxCount || exceededCurrency(amounts) != null;
+    }
+
+    // primeira moeda cuja soma passou do teto, ou null
+    public String exceededCurrency(Map<String, BigDecimal> amounts) {
+        for (Map.Entry<String, BigDecimal> amount : amounts.entrySet()) {
+            BigDecimal max = maxAmounts.get(amount.getKey());
+            if (max != null && amount.getValue().compareTo(max) > 0) {
+                return amount.getKey();
+            }
+        }
+        return null;
+    }
+
+    public String describe(long count, Map<String, BigDecimal> amounts) {
+        if (count > maxCount) {
+            return count + " transações em " + window.toSeconds() + "s (limite " + maxCount + ")";
+        }
+        String currency = exceededCurrency(amounts);
+        return "valor " + amounts.get(currency).toPlainString() + " " + currency + " em " + window.toSeconds()
+                + "s (limite " + maxAmounts.get(currency).toPlainString() + " " + currency + ")";
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.state.WindowStore;
+import org.springframework.kafka.support.serializer.JacksonJsonSerde;
+
+import java.util.UUID;
+
+/**
+ * Contagem e soma por usuário em janelas deslizantes (hopping) sobre {@code transaction.requested}.
+ * O tópico vem com chave = transactionId, então o stream é rechaveado por userId (um repartition).
+ * O store {@link #STORE} é consultado pelos use cases antes da API bancária; quando uma janela
+ * cruza o limite sai um {@link VelocitySignalEvent} no tópico de sinais.
+ * O valor é somado por moeda, no nominal do pedido, e comparado com o teto daquela moeda.
+ */
+public final class VelocityTopology {
+
+    public static final String STORE = "user-velocity";
+
+    private VelocityTopology() {
+    }
+
+    public static KStream<String, VelocitySignalEvent> define(
+            StreamsBuilder builder,
+            String requestedTopic,
+            String signalTopic,
+            VelocityLimits limits
+    ) {
+        KStream<String, VelocitySignalEvent> signals = builder
+                .stream(requestedTopic, Consumed.with(Serdes.String(), jsonSerde(TransactionRequestedEvent.class)))
+                .filter((transactionId, event) -> event != null && event.uuid() != null)
+                .selectKey((transactionId, event) -> event.uuid().toString())
+                .groupByKey(Grouped.with("velocity-by-user", Serdes.String(), jsonSerde(TransactionRequestedEvent.class)))
+                .windowedBy(TimeWindows.ofSizeAndGrace(limits.window(), limits.advance()).advanceBy(limits.advance()))
+                .aggregate(
+                        VelocityWindow::empty,
+                        (userId, event, window) -> window.add(event.transactionId(), event.currency(), event.amount(), limits),
+                        Materialized.<String, VelocityWindow, WindowStore<Bytes, byte[]>>as(STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(jsonSerde(VelocityWindow.class))
+                                .withRetention(limits.window().plus(limits.advance())))
+                .toStream()
+                .filter((windowed, window) -> window != null && window.justExceeded())
+                .map((windowed, window) -> {
+                    String currency = limits.exceededCurrency(window.amounts());
+                    return KeyValue.pair(windowed.key(), new VelocitySignalEvent(
+                            UUID.fromString(windowed.key()),
+                            windowed.window().startTime(),
+                            windowed.window().endTime(),
+                            window.count(),
+                            currency,
+                            currency == null ? null : window.amount(currency),
+                            limits.describe(window.count(), window.amounts())));
+                });
+
+        signals.to(signalTopic, Produced.with(Serdes.String(), jsonSerde(VelocitySignalEvent.class)));
+        return signals;
+    }
+
+    static <T> Serde<T> jsonSerde(Class<T> type) {
+        return new JacksonJsonSerde<>(type).noTypeInfo().ignoreTypeHeaders();
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Valor de cada janela no store user-velocity. {@code amounts} soma o nominal separado por moeda.
+ * {@code justExceeded} marca só a atualização que cruzou o limite, para o sinal sair uma vez por
+ * janela e não a cada evento seguinte. {@code transactionIds} guarda quem já foi contado enquanto
+ * a janela está abaixo do limite (no máximo maxCount + 1 ids): a checagem sabe se a transação em
+ * processamento já está na soma.
+ */
+public record VelocityWindow(long count, Map<String, BigDecimal> amounts, boolean exceeded, boolean justExceeded, List<UUID> transactionIds) {
+
+    public VelocityWindow {
+        amounts = amounts == null ? Map.of() : Map.copyOf(amounts);
+        transactionIds = transactionIds == null ? List.of() : List.copyOf(transactionIds);
+    }
+
+    public static VelocityWindow empty() {
+        return new VelocityWindow(0, Map.of(), false, false, List.of());
+    }
+
+    public BigDecimal amount(String currency) {
+        return amounts.getOrDefault(currency, BigDecimal.ZERO);
+    }
+
+    public VelocityWindow add(UUID transactionId, String currency, BigDecimal value, VelocityLimits limits) {
+        long nextCount = count + 1;
+        Map<String, BigDecimal> nextAmounts = amounts;
+        if (value != null && currency != null) {
+            nextAmounts = new HashMap<>(amounts);
+            nextAmounts.merge(currency, value, BigDecimal::add);
+        }
+        boolean nextExceeded = limits.exceeded(nextCount, nextAmounts);
+        List<UUID> nextIds = transactionIds;
+        // estourada, a janela bloqueia qualquer transação; não precisa crescer a lista
+        if (!exceeded && transactionId != null) {
+            nextIds = new ArrayList<>(transactionIds);
+            nextIds.add(transactionId);
+        }
+        return new VelocityWindow(nextCount, nextAmounts, nextExceeded, nextExceeded && !exceeded, nextIds);
+    }
+
+    // janela como ficará depois que o Streams processar a transação (ela mesma, se já foi contada)
+    public VelocityWindow including(UUID transactionId, String currency, BigDecimal value, VelocityLimits limits) {
+        if (exceeded || transactionIds.contains(transactionId)) {
+            return this;
+        }
+        return add(transactionId, currency, value, limits);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.beca.transactionservice.infrastructure.web.controller;
+
+import br.com.beca.transactionservice.infrastructure.gateway.redrive.DlqRedriveService;
+import br.com.beca.transactionservice.infrastructure.gateway.redrive.RedriveJob;
+import br.com.beca.transactionservice.infrastructure.web.dto.RedriveRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/admin/dlq/redrive")
+public class DlqRedriveController {
+
+    private final DlqRedriveService service;
+
+    public DlqRedriveController(DlqRedriveService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> start(@RequestBody RedriveRequest request) {
+        RedriveJob job;
+        try {
+            job = service.start(request);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/admin/dlq/redrive/" + job.getId()))
+                .body(job.snapshot());
+    }
+
+    @GetMapping
+    public List<RedriveJob.Progress> list() {
+        return service.list().stream().map(RedriveJob::snapshot).toList();
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<RedriveJob.Progress> progress(@PathVariable UUID jobId) {
+        return ResponseEntity.of(service.find(jobId).map(RedriveJob::snapshot));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<RedriveJob.Progress> cancel(@PathVariable UUID jobId) {
+        return ResponseEntity.of(service.find(jobId).map(job -> {
+            job.cancel();
+            return job.snapshot();
+        }));
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.beca.transactionservice.infrastructure.web.controller;
+
+import br.com.beca.transactionservice.infrastructure.gateway.FxSnapshotExporter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.StringWriter;
+
+@RestController
+@RequestMapping("/admin/fx")
+@Profile("!offline-fx")
+public class FxSnapshotController {
+
+    private final FxSnapshotExporter exporter;
+
+    public FxSnapshotController(FxSnapshotExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @GetMapping(path = "/snapshot", produces = "text/csv")
+    public ResponseEntity<String> exportSnapshot() {
+        StringWriter writer = new StringWriter();
+        exporter.export(writer);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=fx-snapshot.csv")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .body(writer.toString());
+    }
+}
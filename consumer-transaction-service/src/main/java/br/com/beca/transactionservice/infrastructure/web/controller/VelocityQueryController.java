@@ -0,0 +1,45 @@
+package br.com.beca.transactionservice.infrastructure.web.controller;
+
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import br.com.beca.transactionservice.infrastructure.gateway.KafkaStreamsVelocityCheck;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+// consulta entre instâncias: quem processa a transação pergunta ao dono da partição do usuário no Streams;
+// exige o X-Admin-Token compartilhado pelas instâncias (WebConfig)
+@RestController
+@RequestMapping("/internal/velocity")
+public class VelocityQueryController {
+
+    private final KafkaStreamsVelocityCheck velocityCheck;
+
+    public VelocityQueryController(KafkaStreamsVelocityCheck velocityCheck) {
+        this.velocityCheck = velocityCheck;
+    }
+
+    @GetMapping("/{userId}")
+    public ResponseEntity<VelocitySignalEvent> signal(
+            @PathVariable UUID userId,
+            @RequestParam UUID transactionId,
+            @RequestParam BigDecimal amount,
+            @RequestParam String currency
+    ) {
+        try {
+            return velocityCheck.localSignal(userId, transactionId, amount, currency)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.noContent().build());
+        } catch (InvalidStateStoreException e) {
+            // quem perguntou conta como indisponível; 204 diria que o usuário está dentro do limite
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.beca.transactionservice.infrastructure.web.dto;
+
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.infrastructure.gateway.redrive.RedriveMode;
+
+import java.time.Instant;
+
+/**
+ * Filtros e limites de um re-drive da DLQ. Campos nulos não filtram; {@code reason} é comparado
+ * por trecho, sem diferenciar maiúsculas.
+ */
+public record RedriveRequest(
+        Instant from,
+        Instant to,
+        String reason,
+        TransactionType type,
+        RedriveMode mode,
+        Integer ratePerSecond,
+        Integer parallelism,
+        Boolean dryRun
+) {
+}
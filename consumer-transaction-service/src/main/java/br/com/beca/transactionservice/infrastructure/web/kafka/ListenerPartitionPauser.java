@@ -0,0 +1,100 @@
+package br.com.beca.transactionservice.infrastructure.web.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pausa só a partição cujo evento esbarrou numa dependência indisponível, em vez de
+ * queimar retentativas. A retomada acontece quando a dependência sinaliza que voltou
+ * (circuito em HALF_OPEN/CLOSED, limite de concorrência com folga) ou, no pior caso,
+ * após {@code app.kafka.dependency-pause.max}.
+ */
+@Component
+public class ListenerPartitionPauser {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerPartitionPauser.class);
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final Duration maxPause;
+    private final MeterRegistry meterRegistry;
+    private final Map<PausedPartition, Pause> paused = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "listener-resume");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ListenerPartitionPauser(
+            KafkaListenerEndpointRegistry registry,
+            @Value("${app.kafka.dependency-pause.max:5s}") Duration maxPause,
+            MeterRegistry meterRegistry
+    ) {
+        this.registry = registry;
+        this.maxPause = maxPause;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("kafka.listener.partitions.paused", paused, Map::size);
+    }
+
+    public void pause(TopicPartition partition, String dependency) {
+        // o registro pode vir do tópico principal ou de um tópico de retry, cada um com seu container
+        MessageListenerContainer container = registry.getListenerContainers().stream()
+                .filter(c -> c.getAssignedPartitions() != null && c.getAssignedPartitions().contains(partition))
+                .findFirst()
+                .orElse(null);
+        if (container == null) {
+            return;
+        }
+        String listenerId = container.getListenerId();
+        PausedPartition key = new PausedPartition(listenerId, partition);
+        paused.computeIfAbsent(key, k -> {
+            container.pausePartition(partition);
+            meterRegistry.counter("kafka.listener.partition.pauses", "listener", listenerId).increment();
+            log.warn("Partição {} pausada: dependência {} indisponível", partition, dependency);
+            return new Pause(dependency, scheduler.schedule(() -> resume(k), maxPause.toMillis(), TimeUnit.MILLISECONDS));
+        });
+    }
+
+    public void resume(String dependency) {
+        if (paused.isEmpty()) {
+            return;
+        }
+        paused.forEach((key, pause) -> {
+            if (pause.dependency().equals(dependency)) {
+                resume(key);
+            }
+        });
+    }
+
+    private void resume(PausedPartition key) {
+        Pause pause = paused.remove(key);
+        if (pause == null) {
+            return;
+        }
+        pause.fallback().cancel(false);
+        MessageListenerContainer container = registry.getListenerContainer(key.listenerId());
+        if (container != null) {
+            container.resumePartition(key.partition());
+            log.info("Partição {} retomada", key.partition());
+        }
+    }
+
+    private record PausedPartition(String listenerId, TopicPartition partition) {
+    }
+
+    private record Pause(String dependency, ScheduledFuture<?> fallback) {
+    }
+}
@@ -0,0 +1,167 @@
+package br.com.beca.transactionservice.infrastructure.web.kafka;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conjunto exato (sem falso positivo) dos transactionIds finalizados recentemente, usado para
+ * descartar redeliveries antes do listener abrir transação ou tocar no banco. Mantém duas
+ * gerações: a atual recebe os ids e, a cada meia janela ou ao atingir metade da capacidade,
+ * vira a anterior e a mais antiga é descartada. Um id fica entre meia e uma janela inteira.
+ * Quem não está aqui segue para o caminho normal, onde o status no banco continua sendo a
+ * verificação autoritativa.
+ */
+@Component
+public class RecentlyFinalizedTransactions {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentlyFinalizedTransactions.class);
+
+    private final TransactionRepository repository;
+    private final Duration window;
+    private final int generationCapacity;
+    private final Clock clock;
+    private final Counter dropped;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+    private volatile long lastRebuildMillis = Long.MIN_VALUE;
+
+    @Autowired
+    public RecentlyFinalizedTransactions(
+            TransactionRepository repository,
+            @Value("${app.kafka.dedupe.window:30m}") Duration window,
+            @Value("${app.kafka.dedupe.max-entries:200000}") int maxEntries,
+            MeterRegistry meterRegistry
+    ) {
+        this(repository, window, maxEntries, Clock.systemUTC(), meterRegistry);
+    }
+
+    RecentlyFinalizedTransactions(
+            TransactionRepository repository,
+            Duration window,
+            int maxEntries,
+            Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.window = window;
+        this.generationCapacity = Math.max(maxEntries / 2, 1);
+        this.clock = clock;
+        this.current = new Generation(clock.millis());
+        this.previous = new Generation(clock.millis());
+        this.dropped = meterRegistry.counter("kafka.listener.duplicates.dropped");
+        meterRegistry.gauge("kafka.listener.dedupe.size", this, RecentlyFinalizedTransactions::size);
+    }
+
+    /** Usado como RecordFilterStrategy: {@code true} descarta o registro sem chamar o listener. */
+    public boolean isDuplicate(UUID transactionId) {
+        if (transactionId == null) {
+            return false;
+        }
+        rotateIfExpired();
+        boolean duplicate = current.ids.contains(transactionId) || previous.ids.contains(transactionId);
+        if (duplicate) {
+            dropped.increment();
+        }
+        return duplicate;
+    }
+
+    public void add(UUID transactionId) {
+        rotateIfExpired();
+        Generation generation = current;
+        generation.ids.add(transactionId);
+        if (generation.ids.size() >= generationCapacity) {
+            rotate(generation);
+        }
+    }
+
+    /** Registra o id só quando a transação do banco confirmar; rollback não deixa rastro no filtro. */
+    public void addAfterCommit(UUID transactionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(transactionId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(transactionId);
+            }
+        });
+    }
+
+    /**
+     * Recarrega a janela a partir do banco quando partições chegam a esta instância (os ids que
+     * outra instância finalizou não estão na memória local). Vários containers recebem partições
+     * no mesmo rebalance, então só a primeira chamada dentro de meia janela vai ao banco.
+     */
+    public synchronized void rebuild() {
+        long now = clock.millis();
+        if (lastRebuildMillis != Long.MIN_VALUE && now - lastRebuildMillis < window.toMillis() / 2) {
+            return;
+        }
+        lastRebuildMillis = now;
+
+        try {
+            // processed_at é timestamptz e o driver usa o fuso da JVM na sessão: o corte vai nesse fuso
+            LocalDateTime since = LocalDateTime.ofInstant(clock.instant().minus(window), ZoneId.systemDefault());
+            List<UUID> ids = repository.findFinalizedIdsSince(since, generationCapacity);
+            Generation restored = new Generation(now);
+            restored.ids.addAll(ids);
+            // as duas gerações locais continuam valendo: a consulta é limitada e pode não trazer tudo
+            restored.ids.addAll(previous.ids);
+            restored.ids.addAll(current.ids);
+            previous = restored;
+            current = new Generation(now);
+            log.info("Filtro de duplicados reconstruído com {} ids", restored.ids.size());
+        } catch (RuntimeException e) {
+            // sem o filtro o consumo continua correto, só mais caro; não derruba o rebalance
+            log.warn("Falha ao reconstruir filtro de duplicados: {}", e.getMessage());
+        }
+    }
+
+    int size() {
+        return current.ids.size() + previous.ids.size();
+    }
+
+    private void rotateIfExpired() {
+        Generation generation = current;
+        if (clock.millis() - generation.startedAtMillis >= window.toMillis() / 2) {
+            rotate(generation);
+        }
+    }
+
+    private synchronized void rotate(Generation expected) {
+        // outra thread pode ter girado primeiro
+        if (current != expected) {
+            return;
+        }
+        previous = expected;
+        current = new Generation(clock.millis());
+    }
+
+    private static final class Generation {
+        private final Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        private final long startedAtMillis;
+
+        private Generation(long startedAtMillis) {
+            this.startedAtMillis = startedAtMillis;
+        }
+    }
+}
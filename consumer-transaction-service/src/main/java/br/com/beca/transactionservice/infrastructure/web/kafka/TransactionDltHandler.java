@@ -0,0 +1,75 @@
+package br.com.beca.transactionservice.infrastructure.web.kafka;
+
+import br.com.beca.transactionservice.application.usecase.RejectExhaustedTransactionUseCase;
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.infrastructure.config.KafkaRetryTopicConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Destino de um evento que esgotou as tentativas (DLT do retry não bloqueante ou recoverer do
+ * modo exactly-once). Por padrão a transação é rejeitada com o motivo da falha; com
+ * {@code app.kafka.dlq.reject-exhausted=false} ela fica PENDENTE, contada em
+ * {@code transaction.dlq.exhausted}, à espera de um re-drive da DLQ.
+ * Escrita bancária sem confirmação ({@value KafkaRetryTopicConfig#RECONCILE_HEADER}) nunca é rejeitada:
+ * o dinheiro pode ter saído, então fica PENDENTE para conciliação manual antes de qualquer re-drive.
+ */
+@Component
+public class TransactionDltHandler {
+
+    public static final String METHOD = "onExhausted";
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionDltHandler.class);
+
+    private final RejectExhaustedTransactionUseCase rejectExhausted;
+    private final boolean rejectExhaustedEnabled;
+    private final Counter rejected;
+    private final Counter keptPending;
+    private final Counter reconcile;
+
+    public TransactionDltHandler(
+            RejectExhaustedTransactionUseCase rejectExhausted,
+            @Value("${app.kafka.dlq.reject-exhausted:true}") boolean rejectExhaustedEnabled,
+            MeterRegistry meterRegistry
+    ) {
+        this.rejectExhausted = rejectExhausted;
+        this.rejectExhaustedEnabled = rejectExhaustedEnabled;
+        this.rejected = meterRegistry.counter("transaction.dlq.exhausted", "action", "rejected");
+        this.keptPending = meterRegistry.counter("transaction.dlq.exhausted", "action", "pending");
+        this.reconcile = meterRegistry.counter("transaction.dlq.exhausted", "action", "reconcile");
+    }
+
+    @Transactional
+    public void onExhausted(
+            TransactionRequestedEvent event,
+            @Header(name = KafkaRetryTopicConfig.FAILURE_REASON_HEADER, required = false) byte[] reason,
+            @Header(name = KafkaRetryTopicConfig.RECONCILE_HEADER, required = false) byte[] unconfirmedWrite
+    ) {
+        if (event == null || event.transactionId() == null) {
+            return;
+        }
+        String message = reason == null ? null : new String(reason, StandardCharsets.UTF_8);
+        if (unconfirmedWrite != null) {
+            reconcile.increment();
+            log.error("Transação {} com escrita bancária sem confirmação ficou PENDENTE; conciliar o saldo antes do re-drive: {}",
+                    event.transactionId(), message);
+            return;
+        }
+        if (!rejectExhaustedEnabled) {
+            keptPending.increment();
+            log.warn("Transação {} esgotou as tentativas e ficou PENDENTE aguardando re-drive: {}", event.transactionId(), message);
+            return;
+        }
+        if (rejectExhausted.execute(event.transactionId(), message)) {
+            rejected.increment();
+        }
+    }
+}
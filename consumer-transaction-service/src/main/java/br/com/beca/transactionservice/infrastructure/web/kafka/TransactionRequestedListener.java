@@ -2,22 +2,56 @@ package br.com.beca.transactionservice.infrastructure.web.kafka;
 
 import br.com.beca.transactionservice.application.usecase.ControllerUseCase;
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Component
-public class TransactionRequestedListener {
+public class TransactionRequestedListener implements ConsumerSeekAware {
+
+    public static final String LISTENER_ID = "transactionRequestedListener";
 
     private final ControllerUseCase useCase;
+    private final ListenerPartitionPauser pauser;
+    private final RecentlyFinalizedTransactions recentlyFinalized;
 
-    public TransactionRequestedListener(ControllerUseCase useCase) {
+    public TransactionRequestedListener(
+            ControllerUseCase useCase,
+            ListenerPartitionPauser pauser,
+            RecentlyFinalizedTransactions recentlyFinalized
+    ) {
         this.useCase = useCase;
+        this.pauser = pauser;
+        this.recentlyFinalized = recentlyFinalized;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        recentlyFinalized.rebuild();
     }
 
-    @KafkaListener(topics = "${app.kafka.topics.requested}")
+    @KafkaListener(id = LISTENER_ID, idIsGroup = false, topics = "${app.kafka.topics.requested}")
     @Transactional
-    public void onMessage(TransactionRequestedEvent event) throws Exception {
-        useCase.execute(event);
+    public void onMessage(
+            TransactionRequestedEvent event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition
+    ) throws Exception {
+        try {
+            useCase.execute(event);
+            // retorno normal = transação finalizada (ou já estava)
+            recentlyFinalized.addAfterCommit(event.transactionId());
+        } catch (DependencyUnavailableException e) {
+            // pausa a partição e devolve o erro: o retry bloqueante reposiciona o offset sem consumir tentativas
+            pauser.pause(new TopicPartition(topic, partition), e.getDependency());
+            throw e;
+        }
     }
 }
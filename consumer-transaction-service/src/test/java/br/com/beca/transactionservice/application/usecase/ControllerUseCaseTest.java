@@ -0,0 +1,95 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ControllerUseCase (cerca exactly-once):
+ *  - evento já processado não chama nenhum use case
+ *  - evento novo é processado e só depois marcado
+ *  - falha no processamento não marca o evento
+ *  - o status é relido sob lock: quem chega depois de outra entrega já finalizada não processa de novo
+ */
+@ExtendWith(MockitoExtension.class)
+class ControllerUseCaseTest {
+
+    @Mock private ProcessDepositUseCase deposit;
+    @Mock private ProcessWithdrawalUseCase withdrawal;
+    @Mock private ProcessTransferUseCase transfer;
+    @Mock private ProcessBuyUseCase buy;
+    @Mock private ProcessedEventRepository processedEvents;
+    @Mock private TransactionRepository repository;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private ControllerUseCase controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ControllerUseCase(deposit, withdrawal, transfer, buy, processedEvents, repository);
+    }
+
+    private TransactionRequestedEvent event(TransactionType type) {
+        return new TransactionRequestedEvent(transactionId, UUID.randomUUID(), type, BigDecimal.TEN, "BRL",
+                null, null, null, null, LocalDateTime.now(), null, false, null, null);
+    }
+
+    @Test
+    void shouldSkipAlreadyProcessedEvent() throws Exception {
+        when(processedEvents.isProcessed(transactionId)).thenReturn(true);
+
+        assertFalse(controller.execute(event(TransactionType.DEPOSITO)));
+
+        verifyNoInteractions(deposit, withdrawal, transfer, buy, repository);
+        verify(processedEvents, never()).markProcessed(any());
+    }
+
+    @Test
+    void shouldMarkAfterProcessing() throws Exception {
+        TransactionRequestedEvent event = event(TransactionType.DEPOSITO);
+        when(repository.lockStatus(transactionId)).thenReturn(Optional.of(TransactionStatus.PENDENTE));
+
+        assertTrue(controller.execute(event));
+
+        InOrder order = inOrder(repository, deposit, processedEvents);
+        order.verify(repository).lockStatus(transactionId);
+        order.verify(deposit).execute(event);
+        order.verify(processedEvents).markProcessed(transactionId);
+    }
+
+    @Test
+    void shouldNotMarkWhenProcessingFails() throws Exception {
+        TransactionRequestedEvent event = event(TransactionType.SAQUE);
+        doThrow(new IllegalStateException("falha")).when(withdrawal).execute(event);
+
+        assertThrows(IllegalStateException.class, () -> controller.execute(event));
+
+        verify(processedEvents, never()).markProcessed(any());
+    }
+
+    @Test
+    void shouldSkipWhenLockedRowIsAlreadyFinalized() throws Exception {
+        when(repository.lockStatus(transactionId)).thenReturn(Optional.of(TransactionStatus.APROVADA));
+
+        assertFalse(controller.execute(event(TransactionType.TRANSFERENCIA)));
+
+        verifyNoInteractions(deposit, withdrawal, transfer, buy);
+        verify(processedEvents).markProcessed(transactionId);
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.ProcessedEventRepository;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RejectExhaustedTransactionUseCase:
+ *  - PENDENTE é rejeitada com o motivo da falha, finalizada e marcada como processada
+ *  - transação já finalizada (ou inexistente) não é tocada
+ */
+@ExtendWith(MockitoExtension.class)
+class RejectExhaustedTransactionUseCaseTest {
+
+    @Mock private TransactionRepository repository;
+    @Mock private TransactionFinalizer finalizer;
+    @Mock private ProcessedEventRepository processedEvents;
+    @Mock private Transaction transaction;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private RejectExhaustedTransactionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RejectExhaustedTransactionUseCase(repository, finalizer, processedEvents);
+    }
+
+    @Test
+    void shouldRejectPendingTransaction() {
+        when(repository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        when(transaction.getStatus()).thenReturn(TransactionStatus.PENDENTE);
+
+        assertTrue(useCase.execute(transactionId, "BrasilAPI fora do ar"));
+
+        verify(transaction).reject("Não foi possível processar a transação: BrasilAPI fora do ar");
+        verify(finalizer).finish(transaction);
+        verify(processedEvents).markProcessed(transactionId);
+    }
+
+    @Test
+    void shouldIgnoreFinalizedOrMissingTransaction() {
+        when(repository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        when(transaction.getStatus()).thenReturn(TransactionStatus.APROVADA);
+
+        assertFalse(useCase.execute(transactionId, "x"));
+        when(repository.findById(transactionId)).thenReturn(Optional.empty());
+        assertFalse(useCase.execute(transactionId, "x"));
+
+        verify(transaction, never()).reject(any());
+        verifyNoInteractions(finalizer, processedEvents);
+    }
+}
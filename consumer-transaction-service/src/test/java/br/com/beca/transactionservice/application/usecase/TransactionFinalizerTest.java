@@ -0,0 +1,78 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionOutcomePublisher;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionFinalizer:
+ *  - aprovada é gravada, somada no read model de resumo e anunciada
+ *  - rejeitada é gravada e anunciada, sem entrar no resumo
+ *  - cancelada pelo MS2 durante o processamento não é sobrescrita, somada nem anunciada
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionFinalizerTest {
+
+    @Mock private TransactionRepository repository;
+    @Mock private TransactionOutcomePublisher publisher;
+    @Mock private UserTransactionSummaryRepository summaries;
+    @Mock private Transaction transaction;
+
+    private TransactionFinalizer finalizer;
+
+    @BeforeEach
+    void setUp() {
+        finalizer = new TransactionFinalizer(repository, publisher, summaries);
+        lenient().when(transaction.getAmount()).thenReturn(new Money(BigDecimal.TEN, "BRL"));
+    }
+
+    @Test
+    void shouldAddApprovedTransactionToSummary() {
+        when(repository.lockIfPending(any())).thenReturn(true);
+        when(transaction.getStatus()).thenReturn(TransactionStatus.APROVADA);
+
+        finalizer.finish(transaction);
+
+        InOrder inOrder = inOrder(repository, summaries, publisher);
+        inOrder.verify(repository).lockIfPending(any());
+        inOrder.verify(repository).save(transaction);
+        inOrder.verify(summaries).addApproved(transaction);
+        inOrder.verify(publisher).publish(any());
+    }
+
+    @Test
+    void shouldNotAddRejectedTransactionToSummary() {
+        when(repository.lockIfPending(any())).thenReturn(true);
+        when(transaction.getStatus()).thenReturn(TransactionStatus.REJEITADA);
+
+        finalizer.finish(transaction);
+
+        verify(repository).save(transaction);
+        verifyNoInteractions(summaries);
+        verify(publisher).publish(any());
+    }
+
+    @Test
+    void shouldKeepCancellationMadeWhileProcessing() {
+        when(repository.lockIfPending(any())).thenReturn(false);
+
+        finalizer.finish(transaction);
+
+        verify(repository, never()).save(any());
+        verifyNoInteractions(summaries, publisher);
+    }
+}
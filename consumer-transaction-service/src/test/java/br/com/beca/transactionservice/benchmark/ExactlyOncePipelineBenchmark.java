@@ -0,0 +1,167 @@
+package br.com.beca.transactionservice.benchmark;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do modo exactly-once no laço consome-processa-produz do MS3, com os mesmos ajustes do
+ * container em cada modo:
+ *  - AT_LEAST_ONCE: consumer read_uncommitted, envio idempotente do resultado e commitSync do offset
+ *  - EXACTLY_ONCE: consumer read_committed, resultado e offset na mesma transação Kafka
+ * Cada operação é um poll de até {@code batch} registros. Ao esgotar a fonte o consumer volta ao
+ * início (o custo do seek entra na média, igual nos dois modos). Ficam de fora API bancária, câmbio
+ * e a escrita em processed_events, que dependem de serviços externos.
+ * Precisa de um broker: -Dbenchmark.kafka.bootstrap=localhost:9092 (padrão).
+ * Rodar com: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=ExactlyOncePipelineBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ExactlyOncePipelineBenchmark {
+
+    private static final int SOURCE_RECORDS = 10_000;
+
+    @Param({"AT_LEAST_ONCE", "EXACTLY_ONCE"})
+    private String mode;
+
+    @Param({"1", "100"})
+    private int batch;
+
+    private KafkaConsumer<String, String> consumer;
+    private KafkaProducer<String, String> producer;
+    private TopicPartition source;
+    private String outcomeTopic;
+    private boolean exactlyOnce;
+
+    @Setup
+    public void setUp() throws Exception {
+        String bootstrap = System.getProperty("benchmark.kafka.bootstrap", "localhost:9092");
+        String run = UUID.randomUUID().toString();
+        exactlyOnce = "EXACTLY_ONCE".equals(mode);
+        source = new TopicPartition("benchmark.requested." + run, 0);
+        outcomeTopic = "benchmark.outcome." + run;
+
+        producer = new KafkaProducer<>(producerProps(bootstrap, run));
+        if (exactlyOnce) {
+            producer.initTransactions();
+        }
+        fillSource(bootstrap);
+
+        consumer = new KafkaConsumer<>(consumerProps(bootstrap, run));
+        consumer.assign(List.of(source));
+        consumer.seekToBeginning(List.of(source));
+    }
+
+    @TearDown
+    public void tearDown() {
+        consumer.close();
+        producer.close();
+    }
+
+    @Benchmark
+    public int consumeProcessProduce() {
+        ConsumerRecords<String, String> records = poll();
+
+        if (exactlyOnce) {
+            producer.beginTransaction();
+            records.forEach(record -> producer.send(outcome(record)));
+            producer.sendOffsetsToTransaction(nextOffsets(records), consumer.groupMetadata());
+            producer.commitTransaction();
+        } else {
+            // como o container em at-least-once: offset só depois do resultado confirmado pelo broker
+            records.forEach(record -> producer.send(outcome(record)));
+            producer.flush();
+            consumer.commitSync(nextOffsets(records));
+        }
+        return records.count();
+    }
+
+    private ConsumerRecords<String, String> poll() {
+        ConsumerRecords<String, String> records = consumer.poll(Duration.ofSeconds(1));
+        if (records.isEmpty()) {
+            consumer.seekToBeginning(List.of(source));
+            records = consumer.poll(Duration.ofSeconds(5));
+        }
+        if (records.isEmpty()) {
+            throw new IllegalStateException("Tópico de origem " + source + " sem registros");
+        }
+        return records;
+    }
+
+    // "processamento": o resultado carrega o id do pedido, como o TransactionOutcomeEvent
+    private ProducerRecord<String, String> outcome(ConsumerRecord<String, String> record) {
+        String value = "{\"transactionId\":\"" + record.key() + "\",\"status\":\"APROVADA\"}";
+        return new ProducerRecord<>(outcomeTopic, record.key(), value);
+    }
+
+    private Map<TopicPartition, OffsetAndMetadata> nextOffsets(ConsumerRecords<String, String> records) {
+        List<ConsumerRecord<String, String>> polled = records.records(source);
+        return Map.of(source, new OffsetAndMetadata(polled.get(polled.size() - 1).offset() + 1));
+    }
+
+    private void fillSource(String bootstrap) throws Exception {
+        Map<String, Object> props = producerProps(bootstrap, null);
+        try (KafkaProducer<String, String> filler = new KafkaProducer<>(props)) {
+            for (int i = 0; i < SOURCE_RECORDS; i++) {
+                String id = UUID.randomUUID().toString();
+                String value = "{\"transactionId\":\"" + id + "\",\"amount\":\"150.00\",\"currency\":\"BRL\"}";
+                filler.send(new ProducerRecord<>(source.topic(), source.partition(), id, value));
+            }
+            filler.flush();
+        }
+    }
+
+    private Map<String, Object> producerProps(String bootstrap, String run) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        if (run != null && exactlyOnce) {
+            props.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, "benchmark-tx-" + run);
+        }
+        return props;
+    }
+
+    private Map<String, Object> consumerProps(String bootstrap, String run) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "benchmark-group-" + run);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batch);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, exactlyOnce ? "read_committed" : "read_uncommitted");
+        return props;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ExactlyOncePipelineBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.beca.transactionservice.benchmark;
+
+import br.com.beca.transactionservice.domain.valueobject.FixedMoney;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara BigDecimal com o FixedMoney (usado pelos use cases) na checagem de saldo e na conversão de câmbio.
+ * Rodar com: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MoneyArithmeticBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyArithmeticBenchmark {
+
+    private BigDecimal amount;
+    private BigDecimal balance;
+    private BigDecimal rate;
+
+    private FixedMoney fixedAmount;
+    private FixedMoney fixedBalance;
+    private long fixedRate;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("1520.37");
+        balance = new BigDecimal("98231.90");
+        rate = new BigDecimal("5.4286");
+
+        fixedAmount = FixedMoney.of(amount, "USD");
+        fixedBalance = FixedMoney.of(balance, "BRL");
+        fixedRate = FixedMoney.rateUnits(rate);
+    }
+
+    @Benchmark
+    public BigDecimal fxConversionBigDecimal() {
+        return amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public FixedMoney fxConversionFixed() {
+        return fixedAmount.convert(fixedRate, "BRL");
+    }
+
+    @Benchmark
+    public BigDecimal fxConversionFixedFromBoundary() {
+        return FixedMoney.of(amount, "USD").convert(FixedMoney.rateUnits(rate), "BRL").toBigDecimal();
+    }
+
+    @Benchmark
+    public boolean balanceCheckBigDecimal() {
+        BigDecimal brl = amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+        return balance.compareTo(brl) >= 0;
+    }
+
+    @Benchmark
+    public boolean balanceCheckFixed() {
+        return fixedBalance.covers(fixedAmount.convert(fixedRate, "BRL"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyArithmeticBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.beca.transactionservice.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FixedMoney:
+ *  - of arredonda HALF_EVEN para a escala da moeda (o MS2 manda JPY com 2 casas)
+ *  - conversão arredonda uma vez só, no produto, igual a amount.multiply(rate).setScale(escala, HALF_EVEN)
+ *  - escala segue a moeda (JPY 0, BRL 2, KWD 3)
+ *  - saldo externo com fração de centavo é truncado para baixo
+ */
+class FixedMoneyTest {
+
+    @Test
+    void shouldRoundTripThroughBigDecimal() {
+        FixedMoney money = FixedMoney.of(new BigDecimal("1234.56"), "BRL");
+
+        assertEquals(123456L, money.minorUnits());
+        assertEquals(new BigDecimal("1234.56"), money.toBigDecimal());
+        assertEquals(new BigDecimal("1234.56"), FixedMoney.of(new BigDecimal("1234.565"), "BRL").toBigDecimal());
+    }
+
+    @Test
+    void shouldRoundOnlyOnceOnTheProduct() {
+        BigDecimal[] amounts = {new BigDecimal("1234.565"), new BigDecimal("0.005"), new BigDecimal("10.2549"), new BigDecimal("1E+2")};
+        BigDecimal[] rates = {new BigDecimal("5.4286"), new BigDecimal("0.0361"), new BigDecimal("2"), new BigDecimal("6.3174500123")};
+
+        for (BigDecimal amount : amounts) {
+            for (BigDecimal rate : rates) {
+                BigDecimal expected = amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+                assertEquals(expected, FixedMoney.convert(amount, rate, "BRL").toBigDecimal(), amount + " x " + rate);
+            }
+        }
+    }
+
+    @Test
+    void shouldUseCurrencyScale() {
+        FixedMoney yen = FixedMoney.of(new BigDecimal("1500"), "JPY");
+        assertEquals(1500L, yen.minorUnits());
+        assertEquals(new BigDecimal("1500"), yen.toBigDecimal());
+        assertEquals(new BigDecimal("1500"), FixedMoney.of(new BigDecimal("1500.50"), "JPY").toBigDecimal());
+        assertEquals(new BigDecimal("1502"), FixedMoney.of(new BigDecimal("1501.50"), "JPY").toBigDecimal());
+        // JPY com centavos vindo do MS2 converte pelo valor de borda, sem arredondar antes
+        assertEquals(new BigDecimal("3.63"), FixedMoney.convert(new BigDecimal("100.50"), new BigDecimal("0.0361"), "BRL").toBigDecimal());
+
+        assertEquals(new BigDecimal("1.234"), FixedMoney.of(new BigDecimal("1.234"), "KWD").toBigDecimal());
+        assertEquals(new BigDecimal("54.15"), yen.convert(new BigDecimal("0.0361"), "BRL").toBigDecimal());
+        assertEquals(new BigDecimal("1108"), FixedMoney.of(new BigDecimal("40.00"), "BRL").convert(new BigDecimal("27.7"), "JPY").toBigDecimal());
+    }
+
+    @Test
+    void shouldFloorExternalBalance() {
+        FixedMoney balance = FixedMoney.floorOf(new BigDecimal("100.009"), "BRL");
+
+        assertEquals(new BigDecimal("100.00"), balance.toBigDecimal());
+        assertTrue(balance.covers(FixedMoney.of(new BigDecimal("100.00"), "BRL")));
+        assertFalse(balance.covers(FixedMoney.of(new BigDecimal("100.01"), "BRL")));
+    }
+
+    @Test
+    void shouldConvertWithHalfEvenLikeBigDecimal() {
+        BigDecimal[] amounts = {new BigDecimal("0.01"), new BigDecimal("10.25"), new BigDecimal("99999.99"), new BigDecimal("1.50")};
+        BigDecimal[] rates = {new BigDecimal("5.4286"), new BigDecimal("0.0361"), new BigDecimal("2.5"), new BigDecimal("6.31745001")};
+
+        for (BigDecimal amount : amounts) {
+            for (BigDecimal rate : rates) {
+                BigDecimal expected = amount.multiply(rate).setScale(2, RoundingMode.HALF_EVEN);
+                BigDecimal actual = FixedMoney.of(amount, "USD")
+                        .convert(FixedMoney.rateUnits(rate), "BRL")
+                        .toBigDecimal();
+                assertEquals(expected, actual, amount + " x " + rate);
+            }
+        }
+    }
+
+    @Test
+    void shouldCompareBalances() {
+        FixedMoney balance = FixedMoney.of(new BigDecimal("100.00"), "BRL");
+
+        assertTrue(balance.covers(FixedMoney.of(new BigDecimal("100"), "BRL")));
+        assertFalse(balance.covers(FixedMoney.of(new BigDecimal("100.01"), "BRL")));
+        assertEquals(new BigDecimal("75.50"), balance.minus(FixedMoney.of(new BigDecimal("24.50"), "BRL")).toBigDecimal());
+    }
+
+    @Test
+    void shouldFailOnOverflowAndCurrencyMismatch() {
+        FixedMoney max = new FixedMoney(Long.MAX_VALUE, "BRL");
+
+        assertThrows(ArithmeticException.class, () -> max.plus(new FixedMoney(1, "BRL")));
+        assertThrows(ArithmeticException.class, () -> max.convert(FixedMoney.rateUnits(new BigDecimal("5.43")), "BRL"));
+        assertThrows(IllegalArgumentException.class, () -> max.compareTo(new FixedMoney(1, "USD")));
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.infrastructure.web.kafka.TransactionDltHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicNamesProviderFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * KafkaRetryTopicConfig:
+ *  - principal + (tentativas - 1) tópicos de retry com atraso exponencial limitado + DLT
+ *  - o DLT é tratado pelo TransactionDltHandler
+ *  - o DLT se chama exatamente app.kafka.topics.requested.dlq (transaction.dlq, a DLQ antiga); retry segue com sufixo
+ */
+class KafkaRetryTopicConfigTest {
+
+    private final KafkaRetryTopicConfig config = new KafkaRetryTopicConfig("transaction.requested", "transaction.dlq");
+
+    @SuppressWarnings("unchecked")
+    private RetryTopicConfiguration retryTopic() {
+        return config.transactionRequestedRetryTopic(mock(KafkaTemplate.class),
+                4, Duration.ofSeconds(5), 4, Duration.ofSeconds(60), 3);
+    }
+
+    @Test
+    void shouldBuildRetryTopicsWithBackoffAndDlt() {
+        List<DestinationTopic.Properties> topics = retryTopic().getDestinationTopicProperties();
+
+        assertEquals(5, topics.size());
+        assertTrue(topics.get(0).isMainEndpoint());
+        assertEquals(List.of(5_000L, 20_000L, 60_000L),
+                topics.subList(1, 4).stream().map(DestinationTopic.Properties::delay).toList());
+        assertTrue(topics.subList(1, 4).stream().allMatch(DestinationTopic.Properties::isRetryTopic));
+        assertTrue(topics.get(1).suffix().startsWith(".retry"));
+
+        DestinationTopic.Properties dlt = topics.get(4);
+        assertTrue(dlt.isDltTopic());
+        assertEquals(3, dlt.numPartitions());
+    }
+
+    @Test
+    void shouldRouteDltToHandler() {
+        assertEquals(TransactionDltHandler.METHOD, retryTopic().getDltHandlerMethod().getMethodName());
+    }
+
+    @Test
+    void shouldNameDltAfterConfiguredDlq() {
+        List<DestinationTopic.Properties> topics = retryTopic().getDestinationTopicProperties();
+        RetryTopicNamesProviderFactory names = KafkaRetryTopicConfig.dlqNamedTopics("transaction.requested", "transaction.dlq");
+
+        assertEquals("transaction.dlq", names.createRetryTopicNamesProvider(topics.get(4)).getTopicName("transaction.requested"));
+        assertEquals("transaction.requested", names.createRetryTopicNamesProvider(topics.get(0)).getTopicName("transaction.requested"));
+        assertTrue(names.createRetryTopicNamesProvider(topics.get(1)).getTopicName("transaction.requested")
+                .startsWith("transaction.requested.retry"));
+    }
+}
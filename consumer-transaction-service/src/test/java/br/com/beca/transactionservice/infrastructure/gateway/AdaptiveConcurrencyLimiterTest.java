@@ -0,0 +1,99 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.domain.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdaptiveConcurrencyLimiter:
+ *  - cresce com latência estável e uso do limite
+ *  - encolhe em erro de dependência
+ *  - rejeita quando saturado após o tempo máximo de fila
+ *  - operação naturalmente mais lenta não é tratada como congestionamento da mais rápida
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldGrowWhileLatencyIsFlat() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(10));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.call(() -> {
+                Thread.sleep(2);
+                return "ok";
+            });
+        }
+
+        assertTrue(limiter.getLimit() > 1, "limite deveria crescer: " + limiter.getLimit());
+    }
+
+    @Test
+    void shouldShrinkOnDependencyError() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, Duration.ofMillis(10));
+
+        assertThrows(IllegalStateException.class, () -> limiter.call(() -> {
+            throw new IllegalStateException("5xx");
+        }));
+
+        assertEquals(9.0, limiter.getLimit(), 0.0001);
+    }
+
+    @Test
+    void shouldKeepOneBaselinePerOperation() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(10));
+
+        for (int i = 0; i < 5; i++) {
+            limiter.call("get", () -> {
+                Thread.sleep(5);
+                return "ok";
+            });
+        }
+        double afterReads = limiter.getLimit();
+
+        for (int i = 0; i < 5; i++) {
+            limiter.call("transfer", () -> {
+                Thread.sleep(50);
+                return "ok";
+            });
+        }
+
+        assertEquals(afterReads, limiter.getLimit(), 0.0001, "escrita lenta não deveria encolher o limite");
+    }
+
+    @Test
+    void shouldRejectWhenSaturated() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, Duration.ofMillis(20));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> limiter.call(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            }));
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+
+            assertThrows(ConcurrencyLimitExceededException.class, () -> limiter.call(() -> "ok"));
+            assertEquals(1.0, meterRegistry.counter("concurrency.limiter.rejected", "dependency", "test").count());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, Duration maxQueueTime) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 1, 50, 0.9, 2.0, maxQueueTime,
+                e -> e instanceof IllegalStateException, meterRegistry);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FxRateTable:
+ *  - ignora cabeçalho, comentários e linhas vazias; busca não diferencia maiúsculas
+ *  - com várias datas da mesma moeda, vale a mais recente (na leitura e na escrita)
+ *  - linha malformada ou moeda com tamanho errado falha com o número da linha
+ *  - write seguido de read devolve as mesmas cotações, sem perder escala
+ */
+class FxRateTableTest {
+
+    @Test
+    void shouldParseSnapshotSkippingHeaderAndComments() {
+        FxRateTable table = read("""
+                currency,date,rate
+                # fechamento de sexta
+
+                USD,2026-10-16,5.4286
+                eur,2026-10-16,6.3174
+                """);
+
+        assertEquals(2, table.size());
+        assertEquals(new BigDecimal("5.4286"), table.rate("usd"));
+        assertEquals(new BigDecimal("6.3174"), table.rate("EUR"));
+        assertEquals(LocalDate.of(2026, 10, 16), table.date("USD"));
+        assertNull(table.rate("GBP"));
+    }
+
+    @Test
+    void shouldKeepLatestDatePerCurrency() {
+        FxRateTable table = read("""
+                USD,2026-10-16,5.4286
+                USD,2026-10-14,5.3000
+                USD,2026-10-15,5.4000
+                """);
+
+        assertEquals(1, table.size());
+        assertEquals(new BigDecimal("5.4286"), table.rate("USD"));
+    }
+
+    @Test
+    void shouldRejectMalformedLines() {
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> read("currency,date,rate\nUSD,2026-10-16\n"));
+        assertTrue(error.getMessage().contains("Linha 2"), error.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> read("USDT,2026-10-16,1.0\n"));
+    }
+
+    @Test
+    void shouldRoundTripThroughWriteAndRead() {
+        List<FxQuote> quotes = List.of(
+                new FxQuote("USD", LocalDate.of(2026, 10, 15), new BigDecimal("5.4000")),
+                new FxQuote("USD", LocalDate.of(2026, 10, 16), new BigDecimal("5.4286")),
+                new FxQuote("JPY", LocalDate.of(2026, 10, 16), new BigDecimal("0.0361"))
+        );
+
+        StringWriter out = new StringWriter();
+        FxRateTable.write(out, quotes);
+
+        assertEquals("""
+                currency,date,rate
+                JPY,2026-10-16,0.0361
+                USD,2026-10-16,5.4286
+                """, out.toString());
+
+        FxRateTable table = read(out.toString());
+        assertEquals(new BigDecimal("0.0361"), table.rate("JPY"));
+        assertEquals(new BigDecimal("5.4286"), table.rate("USD"));
+        assertEquals(LocalDate.of(2026, 10, 16), table.date("USD"));
+    }
+
+    private static FxRateTable read(String csv) {
+        return FxRateTable.read(new StringReader(csv));
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.BankAccountPort;
+import br.com.beca.transactionservice.domain.dto.BankAccount;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HedgingBankAccountAdapter:
+ *  - consulta lenta recebe um hedge e a resposta mais rápida vence
+ *  - sem orçamento não há hedge
+ *  - escritas nunca são duplicadas
+ */
+class HedgingBankAccountAdapterTest {
+
+    private static final int SLOW_CALL = 6;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowOnceBankAccount delegate = new SlowOnceBankAccount();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnHedgedResponseWhenPrimaryIsSlow() throws Exception {
+        HedgingBankAccountAdapter adapter = adapter(new HedgeBudget(1.0, 10));
+        warmUp(adapter);
+
+        long start = System.nanoTime();
+        BankAccount account = adapter.findByUserId("u1");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(SLOW_CALL + 1, account.id());
+        assertTrue(elapsedMs < 1_000, "hedge deveria responder antes da chamada lenta: " + elapsedMs + "ms");
+        assertEquals(1.0, meterRegistry.counter("bank.hedge.requests", "outcome", "fired").count());
+    }
+
+    @Test
+    void shouldWaitPrimaryWhenBudgetIsExhausted() throws Exception {
+        HedgingBankAccountAdapter adapter = adapter(new HedgeBudget(0.0, 10));
+        warmUp(adapter);
+
+        BankAccount account = adapter.findByUserId("u1");
+
+        assertEquals(SLOW_CALL, account.id());
+        assertEquals(1.0, meterRegistry.counter("bank.hedge.requests", "outcome", "budget_exhausted").count());
+    }
+
+    @Test
+    void shouldNeverHedgeWrites() throws Exception {
+        HedgingBankAccountAdapter adapter = adapter(new HedgeBudget(1.0, 10));
+
+        adapter.withdrawal("u1", BigDecimal.TEN);
+
+        assertEquals(1, delegate.writes.get());
+    }
+
+    private HedgingBankAccountAdapter adapter(HedgeBudget budget) {
+        return new HedgingBankAccountAdapter(delegate, executor, new LatencyWindow(16, 0.95, 1), budget,
+                Duration.ofMillis(20), meterRegistry);
+    }
+
+    private void warmUp(HedgingBankAccountAdapter adapter) throws Exception {
+        for (int i = 1; i < SLOW_CALL; i++) {
+            adapter.findByUserId("u1");
+        }
+    }
+
+    private static class SlowOnceBankAccount implements BankAccountPort {
+        private final AtomicInteger reads = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        @Override
+        public void deposit(String userId, BigDecimal amount) {
+            writes.incrementAndGet();
+        }
+
+        @Override
+        public void withdrawal(String userId, BigDecimal amount) {
+            writes.incrementAndGet();
+        }
+
+        @Override
+        public void transfer(String sourceId, String targetId, BigDecimal amount) {
+            writes.incrementAndGet();
+        }
+
+        @Override
+        public BankAccount findByUserId(String userId) throws Exception {
+            int call = reads.incrementAndGet();
+            if (call == SLOW_CALL) {
+                Thread.sleep(2_000);
+            }
+            return new BankAccount((long) call, userId, BigDecimal.TEN, "BRL", true, null);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityLimits;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityTopology;
+import br.com.beca.transactionservice.infrastructure.streams.VelocityWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.WindowStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.kafka.support.serializer.JacksonJsonSerde;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * KafkaStreamsVelocityCheck (avaliação das janelas no store):
+ *  - transação que o Streams ainda não agregou entra na conta das janelas que contêm agora
+ *  - transação já agregada não é contada duas vezes
+ *  - janela que termina exatamente agora não conta
+ *  - sem nenhuma janela, uma transação sozinha acima do valor já gera sinal
+ */
+class KafkaStreamsVelocityCheckTest {
+
+    private static final String REQUESTED = "transaction.requested";
+    private static final Instant T0 = Instant.parse("2026-01-10T12:00:00Z");
+
+    private final UUID userId = UUID.randomUUID();
+    private final VelocityLimits limits = new VelocityLimits(
+            Duration.ofMinutes(1), Duration.ofSeconds(10), 3,
+            Map.of("BRL", new BigDecimal("1000"), "USD", new BigDecimal("1000")));
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, TransactionRequestedEvent> requested;
+    private WindowStore<String, VelocityWindow> store;
+    private KafkaStreamsVelocityCheck check;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        VelocityTopology.define(builder, REQUESTED, "transaction.velocity", limits);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "velocity-check-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        requested = driver.createInputTopic(REQUESTED, Serdes.String().serializer(),
+                new JacksonJsonSerde<>(TransactionRequestedEvent.class).noTypeInfo().serializer());
+        store = driver.getWindowStore(VelocityTopology.STORE);
+        check = new KafkaStreamsVelocityCheck(mock(StreamsBuilderFactoryBean.class), limits,
+                new HostInfo("ms3-a", 8082), RestClient.create(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    private UUID send(String amount, Instant at) {
+        UUID transactionId = UUID.randomUUID();
+        requested.pipeInput(transactionId.toString(), new TransactionRequestedEvent(
+                transactionId, userId, TransactionType.SAQUE, new BigDecimal(amount), "BRL",
+                null, null, null, null, LocalDateTime.now(), null, null, null, null), at);
+        return transactionId;
+    }
+
+    private Optional<VelocitySignalEvent> evaluate(UUID transactionId, String amount, Instant now) {
+        return check.worstWindow(store, userId, transactionId, new BigDecimal(amount), "BRL", now);
+    }
+
+    @Test
+    void shouldCountTransactionNotYetAggregated() {
+        send("10", T0);
+        send("10", T0.plusSeconds(1));
+        send("10", T0.plusSeconds(2));
+
+        Optional<VelocitySignalEvent> signal = evaluate(UUID.randomUUID(), "10", T0.plusSeconds(3));
+
+        assertTrue(signal.isPresent());
+        assertEquals(4, signal.get().count());
+    }
+
+    @Test
+    void shouldNotCountAggregatedTransactionTwice() {
+        send("10", T0);
+        send("10", T0.plusSeconds(1));
+        UUID third = send("10", T0.plusSeconds(2));
+
+        assertTrue(evaluate(third, "10", T0.plusSeconds(3)).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreWindowEndingNow() {
+        // a janela [T0, T0 + 60s) tem os 1200 mas não contém T0 + 60s
+        send("600", T0);
+        send("600", T0);
+
+        assertTrue(evaluate(UUID.randomUUID(), "1", T0.plusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    void shouldSignalSingleTransactionAboveAmountWithoutWindows() {
+        Optional<VelocitySignalEvent> signal = evaluate(UUID.randomUUID(), "1500", T0);
+
+        assertTrue(signal.isPresent());
+        assertEquals(1, signal.get().count());
+    }
+}
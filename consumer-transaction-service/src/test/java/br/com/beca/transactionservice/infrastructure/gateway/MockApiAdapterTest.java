@@ -0,0 +1,146 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import br.com.beca.transactionservice.domain.exception.UnconfirmedBankWriteException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MockApiAdapter atrás do ResilientBankAccountAdapter, com o retry bloqueante do listener
+ * (repete enquanto vier DependencyUnavailableException):
+ *  - PUT aplicado no banco mas com timeout na resposta não é repetido: um débito só
+ *  - PUT recusado na conexão (não saiu) é repetido e debita uma vez
+ *  - transferência com a origem já debitada e falha no destino não debita a origem de novo
+ */
+class MockApiAdapterTest {
+
+    private static final Pattern BALANCE = Pattern.compile("\"balance\"\\s*:\\s*([-0-9.]+)");
+
+    private final Map<Long, BigDecimal> balances = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> puts = new ConcurrentHashMap<>();
+    private final Map<Long, PutFailure> failures = new ConcurrentHashMap<>();
+
+    private ResilientBankAccountAdapter adapter;
+
+    private enum PutFailure { TIMEOUT_AFTER_APPLY, REFUSED_ONCE, REFUSED_ALWAYS }
+
+    @BeforeEach
+    void setUp() {
+        balances.put(1L, new BigDecimal("100.00"));
+        balances.put(2L, new BigDecimal("50.00"));
+
+        RestClient.Builder builder = RestClient.builder().baseUrl("http://bank");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        server.expect(ExpectedCount.manyTimes(), request -> { }).andRespond(request -> {
+            if (request.getMethod() == HttpMethod.GET) {
+                long id = Long.parseLong(request.getURI().getQuery().replace("userId=u", ""));
+                return json("[{\"id\":" + id + ",\"userId\":\"u" + id + "\",\"balance\":" + balances.get(id)
+                        + ",\"currency\":\"BRL\",\"active\":true}]");
+            }
+            String path = request.getURI().getPath();
+            long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+            return put(id, ((MockClientHttpRequest) request).getBodyAsString());
+        });
+
+        MockApiAdapter mockApi = new MockApiAdapter(builder.build(), "/BankAccount");
+        adapter = new ResilientBankAccountAdapter(mockApi, CircuitBreaker.ofDefaults("test"), Bulkhead.ofDefaults("test"));
+    }
+
+    @Test
+    void shouldNotReplayWithdrawalWhoseResponseTimedOut() {
+        failures.put(1L, PutFailure.TIMEOUT_AFTER_APPLY);
+
+        assertThrows(UnconfirmedBankWriteException.class,
+                () -> withBlockingRetry(() -> adapter.withdrawal("u1", new BigDecimal("10.00"))));
+
+        assertEquals(1, puts.get(1L).get());
+        assertEquals(new BigDecimal("90.00"), balances.get(1L));
+    }
+
+    @Test
+    void shouldRetryWithdrawalRefusedBeforeSending() throws Exception {
+        failures.put(1L, PutFailure.REFUSED_ONCE);
+
+        withBlockingRetry(() -> adapter.withdrawal("u1", new BigDecimal("10.00")));
+
+        assertEquals(new BigDecimal("90.00"), balances.get(1L));
+    }
+
+    @Test
+    void shouldNotDebitSourceAgainWhenTargetFails() {
+        failures.put(2L, PutFailure.REFUSED_ALWAYS);
+
+        assertThrows(UnconfirmedBankWriteException.class,
+                () -> withBlockingRetry(() -> adapter.transfer("u1", "u2", new BigDecimal("10.00"))));
+
+        assertEquals(1, puts.get(1L).get());
+        assertEquals(new BigDecimal("90.00"), balances.get(1L));
+        assertEquals(new BigDecimal("50.00"), balances.get(2L));
+    }
+
+    private MockClientHttpResponse put(long id, String body) throws IOException {
+        PutFailure failure = failures.get(id);
+        if (failure == PutFailure.REFUSED_ALWAYS) {
+            throw new ConnectException("Connection refused");
+        }
+        if (failure == PutFailure.REFUSED_ONCE) {
+            failures.remove(id);
+            throw new ConnectException("Connection refused");
+        }
+        Matcher matcher = BALANCE.matcher(body);
+        assertTrue(matcher.find(), body);
+        balances.put(id, new BigDecimal(matcher.group(1)));
+        puts.computeIfAbsent(id, k -> new AtomicInteger()).incrementAndGet();
+        if (failure == PutFailure.TIMEOUT_AFTER_APPLY) {
+            throw new SocketTimeoutException("Read timed out");
+        }
+        return json("{}");
+    }
+
+    private static MockClientHttpResponse json(String body) {
+        MockClientHttpResponse response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response;
+    }
+
+    private interface BankCall {
+        void run() throws Exception;
+    }
+
+    // o retry bloqueante do listener repete só DependencyUnavailableException
+    private static void withBlockingRetry(BankCall call) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                call.run();
+                return;
+            } catch (DependencyUnavailableException e) {
+                if (attempt == 5) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
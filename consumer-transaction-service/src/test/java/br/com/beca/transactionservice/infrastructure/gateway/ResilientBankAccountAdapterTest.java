@@ -0,0 +1,82 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.BankAccountPort;
+import br.com.beca.transactionservice.domain.dto.BankAccount;
+import br.com.beca.transactionservice.domain.exception.DependencyUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ResilientBankAccountAdapter:
+ *  - falha de rede vira DependencyUnavailableException e conta para o circuito
+ *  - circuito aberto não chama a API
+ *  - erro 4xx de negócio passa sem alteração e não abre o circuito
+ */
+@ExtendWith(MockitoExtension.class)
+class ResilientBankAccountAdapterTest {
+
+    @Mock private BankAccountPort delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private ResilientBankAccountAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(ResourceAccessException.class)
+                .build());
+        Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom().maxConcurrentCalls(2).build());
+        adapter = new ResilientBankAccountAdapter(delegate, circuitBreaker, bulkhead);
+    }
+
+    @Test
+    void shouldTranslateNetworkFailureAndOpenCircuit() throws Exception {
+        when(delegate.findByUserId("u1")).thenThrow(new ResourceAccessException("timeout"));
+
+        assertThrows(DependencyUnavailableException.class, () -> adapter.findByUserId("u1"));
+        assertThrows(DependencyUnavailableException.class, () -> adapter.findByUserId("u1"));
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(DependencyUnavailableException.class, () -> adapter.withdrawal("u1", BigDecimal.TEN));
+        verify(delegate, never()).withdrawal(any(), any());
+    }
+
+    @Test
+    void shouldPassThroughBusinessErrors() throws Exception {
+        doThrow(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "bad", null, null, null))
+                .when(delegate).withdrawal("u1", BigDecimal.ONE);
+
+        assertThrows(HttpClientErrorException.class, () -> adapter.withdrawal("u1", BigDecimal.ONE));
+        assertThrows(HttpClientErrorException.class, () -> adapter.withdrawal("u1", BigDecimal.ONE));
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldReturnAccountWhenHealthy() throws Exception {
+        BankAccount account = new BankAccount(1L, "u1", BigDecimal.TEN, "BRL", true, "a@b.com");
+        when(delegate.findByUserId("u1")).thenReturn(account);
+
+        assertSame(account, adapter.findByUserId("u1"));
+    }
+}
@@ -0,0 +1,105 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.infrastructure.persistence.model.OutcomeOutboxEntity;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.OutcomeOutboxJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionOutcomeRelay:
+ *  - envia cada linha do lote com chave userId e apaga só as confirmadas pelo broker
+ *  - envio que falha deixa a linha no outbox e conta em transaction.outcome.relay.failed
+ *  - lote cheio e todo confirmado puxa o próximo; lote parcial encerra a drenagem
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionOutcomeRelayTest {
+
+    @Mock private OutcomeOutboxJpaRepository outbox;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TransactionOutcomeRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new TransactionOutcomeRelay(outbox, new TransactionTemplate(transactionManager), kafkaTemplate,
+                objectMapper, registry, "transaction.outcome", Duration.ofSeconds(1), 2);
+    }
+
+    private OutcomeOutboxEntity row() {
+        TransactionOutcomeEvent event = new TransactionOutcomeEvent(UUID.randomUUID(), UUID.randomUUID(),
+                TransactionType.DEPOSITO, TransactionStatus.APROVADA, BigDecimal.TEN, "BRL", BigDecimal.TEN,
+                null, null, null, LocalDateTime.of(2026, 10, 19, 12, 0));
+        return new OutcomeOutboxEntity(event.transactionId(), event.userId(),
+                objectMapper.writeValueAsString(event), Instant.now());
+    }
+
+    @Test
+    void shouldDeleteOnlyAcknowledgedRows() {
+        OutcomeOutboxEntity acked = row();
+        OutcomeOutboxEntity refused = row();
+        when(outbox.lockBatch(2)).thenReturn(List.of(acked, refused));
+        when(kafkaTemplate.send(eq("transaction.outcome"), eq(acked.getUserId().toString()), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(eq("transaction.outcome"), eq(refused.getUserId().toString()), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker fora")));
+
+        assertEquals(1, relay.drain());
+
+        verify(outbox).deleteAllByIdInBatch(List.of(acked.getTransactionId()));
+        verify(outbox, times(1)).lockBatch(anyInt());
+        assertEquals(1.0, registry.counter("transaction.outcome.relay.failed").count());
+    }
+
+    @Test
+    void shouldSendTheStoredEvent() {
+        OutcomeOutboxEntity stored = row();
+        when(outbox.lockBatch(2)).thenReturn(List.of(stored));
+        when(kafkaTemplate.send(any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        relay.drain();
+
+        verify(kafkaTemplate).send(eq("transaction.outcome"), eq(stored.getUserId().toString()),
+                eq(objectMapper.readValue(stored.getPayload(), TransactionOutcomeEvent.class)));
+    }
+
+    @Test
+    void shouldKeepDrainingWhileBatchesAreFull() {
+        when(outbox.lockBatch(2)).thenReturn(List.of(row(), row()), List.of(row()));
+        when(kafkaTemplate.send(any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        assertEquals(3, relay.drain());
+        verify(outbox, times(2)).lockBatch(2);
+        verify(outbox, times(2)).deleteAllByIdInBatch(any());
+    }
+}
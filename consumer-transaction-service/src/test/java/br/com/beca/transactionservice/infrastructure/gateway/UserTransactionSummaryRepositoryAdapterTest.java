@@ -0,0 +1,27 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserTransactionSummaryRepositoryAdapter:
+ *  - o mês do resumo é o mês UTC do instante de criação, qualquer que seja o fuso da JVM
+ */
+class UserTransactionSummaryRepositoryAdapterTest {
+
+    private static LocalDateTime local(String instant) {
+        return LocalDateTime.ofInstant(Instant.parse(instant), ZoneId.systemDefault());
+    }
+
+    @Test
+    void shouldBucketByUtcMonth() {
+        assertEquals(LocalDate.of(2026, 1, 1), UserTransactionSummaryRepositoryAdapter.monthOf(local("2026-01-31T23:30:00Z")));
+        assertEquals(LocalDate.of(2026, 2, 1), UserTransactionSummaryRepositoryAdapter.monthOf(local("2026-02-01T00:30:00Z")));
+    }
+}
@@ -0,0 +1,202 @@
+package br.com.beca.transactionservice.infrastructure.gateway.redrive;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.usecase.ControllerUseCase;
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.infrastructure.web.dto.RedriveRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * DlqRedriveService:
+ *  - transação que já não está PENDENTE é pulada sem reprocessar
+ *  - REPROCESS passa pelo ControllerUseCase dentro de uma transação; se o lock revelar que outro
+ *    job/listener já finalizou, conta como pulada
+ *  - REPUBLISH reenvia ao tópico principal; dry-run só conta
+ *  - o registro de jobs descarta os finalizados mais antigos e recusa quando todos estão rodando
+ *  - workers que não terminam no prazo são interrompidos e o job fica TIMED_OUT, não COMPLETED
+ */
+@ExtendWith(MockitoExtension.class)
+class DlqRedriveServiceTest {
+
+    @Mock private ControllerUseCase controllerUseCase;
+    @Mock private TransactionRepository repository;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private KafkaTemplate<String, Object> kafkaTemplate;
+    @Mock private Transaction transaction;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private DlqRedriveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DlqRedriveService(controllerUseCase, repository, new TransactionTemplate(transactionManager),
+                kafkaTemplate, mock(ObjectMapper.class), "localhost:9092", "transaction.requested.dlq", "transaction.requested");
+    }
+
+    private TransactionRequestedEvent event() {
+        return new TransactionRequestedEvent(transactionId, UUID.randomUUID(), TransactionType.DEPOSITO, BigDecimal.TEN, "BRL",
+                null, null, null, null, LocalDateTime.now(), null, false, null, null);
+    }
+
+    private RedriveJob job(RedriveMode mode, boolean dryRun) {
+        return new RedriveJob(new RedriveRequest(null, null, null, null, mode, 50, 4, dryRun));
+    }
+
+    private void status(TransactionStatus status) {
+        when(repository.findById(transactionId)).thenReturn(Optional.of(transaction));
+        when(transaction.getStatus()).thenReturn(status);
+    }
+
+    @Test
+    void shouldSkipFinalizedTransaction() throws Exception {
+        status(TransactionStatus.REJEITADA);
+        RedriveJob job = job(RedriveMode.REPROCESS, false);
+
+        service.redrive(event(), job);
+
+        assertEquals(1, job.snapshot().skippedFinalized());
+        verifyNoInteractions(controllerUseCase, kafkaTemplate);
+    }
+
+    @Test
+    void shouldReprocessInsideTransaction() throws Exception {
+        status(TransactionStatus.PENDENTE);
+        TransactionRequestedEvent event = event();
+        when(controllerUseCase.execute(event)).thenReturn(true);
+        RedriveJob job = job(RedriveMode.REPROCESS, false);
+
+        service.redrive(event, job);
+
+        assertEquals(1, job.snapshot().redriven());
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldCountAsSkippedWhenLockShowsAlreadyFinalized() throws Exception {
+        status(TransactionStatus.PENDENTE);
+        TransactionRequestedEvent event = event();
+        when(controllerUseCase.execute(event)).thenReturn(false);
+        RedriveJob job = job(RedriveMode.REPROCESS, false);
+
+        service.redrive(event, job);
+
+        assertEquals(0, job.snapshot().redriven());
+        assertEquals(1, job.snapshot().skippedFinalized());
+    }
+
+    @Test
+    void shouldRepublishOrOnlyCountOnDryRun() throws Exception {
+        status(TransactionStatus.PENDENTE);
+        TransactionRequestedEvent event = event();
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        RedriveJob republish = job(RedriveMode.REPUBLISH, false);
+        service.redrive(event, republish);
+        RedriveJob dryRun = job(RedriveMode.REPROCESS, true);
+        service.redrive(event, dryRun);
+
+        verify(kafkaTemplate).send("transaction.requested", transactionId.toString(), event);
+        assertEquals(1, republish.snapshot().redriven());
+        assertEquals(1, dryRun.snapshot().redriven());
+        verifyNoInteractions(controllerUseCase);
+    }
+
+    @Test
+    void shouldCountFailures() throws Exception {
+        status(TransactionStatus.PENDENTE);
+        TransactionRequestedEvent event = event();
+        when(controllerUseCase.execute(event)).thenThrow(new IllegalStateException("MockAPI fora"));
+        RedriveJob job = job(RedriveMode.REPROCESS, false);
+
+        service.redrive(event, job);
+
+        assertEquals(1, job.snapshot().failed());
+        assertTrue(job.snapshot().lastError().contains("MockAPI fora"));
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldEvictOldestFinishedJobsAndRefuseWhenAllRunning() {
+        RedriveJob first = job(RedriveMode.REPROCESS, false);
+        first.finish(RedriveJob.Status.COMPLETED);
+        service.register(first);
+        for (int i = 1; i < DlqRedriveService.MAX_JOBS; i++) {
+            service.register(job(RedriveMode.REPROCESS, false));
+        }
+
+        service.register(job(RedriveMode.REPROCESS, false));
+
+        assertEquals(DlqRedriveService.MAX_JOBS, service.list().size());
+        assertTrue(service.find(first.getId()).isEmpty());
+        assertThrows(IllegalStateException.class, () -> service.register(job(RedriveMode.REPROCESS, false)));
+    }
+
+    @Test
+    void shouldRejectInvertedInterval() {
+        assertThrows(IllegalArgumentException.class, () -> service.start(new RedriveRequest(
+                Instant.parse("2026-10-02T00:00:00Z"), Instant.parse("2026-10-01T00:00:00Z"),
+                null, null, null, null, null, null)));
+    }
+
+    @Test
+    void shouldTimeOutInsteadOfCompletingWhileWorkersRun() throws Exception {
+        RedriveJob job = job(RedriveMode.REPROCESS, false);
+        ExecutorService workers = Executors.newSingleThreadExecutor();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        workers.submit(() -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        DlqRedriveService.awaitWorkers(workers, job, Duration.ofMillis(50));
+
+        assertEquals(RedriveJob.Status.TIMED_OUT, job.snapshot().status());
+        assertNotNull(job.snapshot().lastError());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldCompleteWhenWorkersFinish() throws Exception {
+        RedriveJob job = job(RedriveMode.REPROCESS, false);
+        ExecutorService workers = Executors.newSingleThreadExecutor();
+        workers.submit(() -> { });
+
+        DlqRedriveService.awaitWorkers(workers, job, Duration.ofSeconds(5));
+
+        assertEquals(RedriveJob.Status.COMPLETED, job.snapshot().status());
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.beca.transactionservice.infrastructure.persistence.maintenance;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProcessedEventsCleanup:
+ *  - apaga em lotes até um lote vir incompleto
+ *  - o corte é agora menos a retenção
+ *  - retenção zero desliga a limpeza
+ */
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventsCleanupTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    @Mock private JdbcTemplate jdbc;
+
+    @Test
+    void shouldDeleteInBatchesUntilBatchIsNotFull() {
+        when(jdbc.update(eq(ProcessedEventsCleanup.DELETE_BATCH), any(Timestamp.class), eq(2))).thenReturn(2, 2, 1);
+        ProcessedEventsCleanup cleanup = new ProcessedEventsCleanup(jdbc, Duration.ofDays(7), 2);
+
+        assertEquals(5, cleanup.purgeExpired(NOW));
+
+        verify(jdbc, times(3)).update(eq(ProcessedEventsCleanup.DELETE_BATCH), any(Timestamp.class), eq(2));
+    }
+
+    @Test
+    void shouldCutOffAtNowMinusRetention() {
+        when(jdbc.update(eq(ProcessedEventsCleanup.DELETE_BATCH), any(Timestamp.class), eq(500))).thenReturn(0);
+        ProcessedEventsCleanup cleanup = new ProcessedEventsCleanup(jdbc, Duration.ofDays(7), 500);
+
+        assertEquals(0, cleanup.purgeExpired(NOW));
+
+        verify(jdbc).update(ProcessedEventsCleanup.DELETE_BATCH,
+                Timestamp.from(Instant.parse("2026-03-03T12:00:00Z")), 500);
+    }
+
+    @Test
+    void shouldDoNothingWhenRetentionIsZero() {
+        ProcessedEventsCleanup cleanup = new ProcessedEventsCleanup(jdbc, Duration.ZERO, 500);
+
+        assertEquals(0, cleanup.purgeExpired(NOW));
+
+        verifyNoInteractions(jdbc);
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.beca.transactionservice.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AdminTokenInterceptor:
+ *  - token certo no X-Admin-Token passa
+ *  - sem header ou com token errado responde 401
+ *  - sem token configurado a rota fica fechada (403), mesmo com header vazio
+ */
+class AdminTokenInterceptorTest {
+
+    @Test
+    void shouldAcceptMatchingToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AdminTokenInterceptor.HEADER, "segredo");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(new AdminTokenInterceptor("segredo").preHandle(request, response, null));
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void shouldRejectMissingOrWrongToken() throws Exception {
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("segredo");
+
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest(), missing, null));
+        assertEquals(401, missing.getStatus());
+
+        MockHttpServletRequest wrong = new MockHttpServletRequest();
+        wrong.addHeader(AdminTokenInterceptor.HEADER, "segredx");
+        MockHttpServletResponse wrongResponse = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(wrong, wrongResponse, null));
+        assertEquals(401, wrongResponse.getStatus());
+    }
+
+    @Test
+    void shouldStayClosedWithoutConfiguredToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(AdminTokenInterceptor.HEADER, "");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(new AdminTokenInterceptor(" ").preHandle(request, response, null));
+        assertEquals(403, response.getStatus());
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import br.com.beca.transactionservice.domain.event.VelocitySignalEvent;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.WindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VelocityTopology:
+ *  - abaixo dos limites não emite sinal
+ *  - excesso de quantidade na janela emite um sinal só (não um por evento seguinte)
+ *  - excesso de valor emite sinal e fica visível no store por usuário
+ *  - eventos fora da janela não somam
+ *  - valores em moedas diferentes não se somam; o sinal diz qual moeda estourou
+ */
+class VelocityTopologyTest {
+
+    private static final String REQUESTED = "transaction.requested";
+    private static final String SIGNALS = "transaction.velocity";
+    private static final Instant T0 = Instant.parse("2026-01-10T12:00:00Z");
+
+    private final UUID userId = UUID.randomUUID();
+    private final VelocityLimits limits = new VelocityLimits(
+            Duration.ofMinutes(1), Duration.ofSeconds(10), 3,
+            Map.of("BRL", new BigDecimal("1000"), "USD", new BigDecimal("1000")));
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, TransactionRequestedEvent> requested;
+    private TestOutputTopic<String, VelocitySignalEvent> signals;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        VelocityTopology.define(builder, REQUESTED, SIGNALS, limits);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "velocity-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        requested = driver.createInputTopic(REQUESTED, Serdes.String().serializer(),
+                VelocityTopology.jsonSerde(TransactionRequestedEvent.class).serializer());
+        signals = driver.createOutputTopic(SIGNALS, Serdes.String().deserializer(),
+                VelocityTopology.jsonSerde(VelocitySignalEvent.class).deserializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    private void send(String amount, Instant at) {
+        send(amount, "BRL", at);
+    }
+
+    private void send(String amount, String currency, Instant at) {
+        UUID transactionId = UUID.randomUUID();
+        requested.pipeInput(transactionId.toString(), new TransactionRequestedEvent(
+                transactionId, userId, TransactionType.SAQUE, new BigDecimal(amount), currency,
+                null, null, null, null, LocalDateTime.now(), null, null, null, null), at);
+    }
+
+    @Test
+    void shouldNotSignalBelowLimits() {
+        send("100", T0);
+        send("100", T0.plusSeconds(5));
+        send("100", T0.plusSeconds(10));
+
+        assertTrue(signals.isEmpty());
+    }
+
+    @Test
+    void shouldSignalOnceWhenCountExceeded() {
+        for (int i = 0; i < 6; i++) {
+            send("10", T0.plusSeconds(i));
+        }
+
+        List<VelocitySignalEvent> emitted = signals.readValuesToList();
+        assertFalse(emitted.isEmpty());
+        // uma emissão por janela hopping que cruzou o limite, nunca uma por evento
+        assertEquals(emitted.size(), emitted.stream().map(VelocitySignalEvent::windowStart).distinct().count());
+        assertTrue(emitted.stream().allMatch(signal -> signal.userId().equals(userId) && signal.count() == 4));
+    }
+
+    @Test
+    void shouldSignalAmountAndExposeWindowInStore() {
+        send("600", T0);
+        send("600", T0.plusSeconds(1));
+
+        assertFalse(signals.isEmpty());
+
+        WindowStore<String, VelocityWindow> store = driver.getWindowStore(VelocityTopology.STORE);
+        try (WindowStoreIterator<VelocityWindow> windows = store.fetch(userId.toString(), T0.minusSeconds(60), T0.plusSeconds(1))) {
+            assertTrue(windows.hasNext());
+            boolean anyExceeded = false;
+            while (windows.hasNext()) {
+                VelocityWindow window = windows.next().value;
+                anyExceeded |= limits.exceeded(window.count(), window.amounts());
+            }
+            assertTrue(anyExceeded);
+        }
+    }
+
+    @Test
+    void shouldNotSumEventsOutsideWindow() {
+        send("10", T0);
+        send("10", T0.plusSeconds(1));
+        send("10", T0.plusSeconds(2));
+        send("10", T0.plus(Duration.ofMinutes(2)));
+
+        assertTrue(signals.isEmpty());
+    }
+
+    @Test
+    void shouldSumAmountsPerCurrency() {
+        send("600", "BRL", T0);
+        send("600", "USD", T0.plusSeconds(1));
+
+        assertTrue(signals.isEmpty());
+
+        send("600", "USD", T0.plusSeconds(2));
+
+        List<VelocitySignalEvent> emitted = signals.readValuesToList();
+        assertFalse(emitted.isEmpty());
+        assertTrue(emitted.stream().allMatch(signal ->
+                "USD".equals(signal.currency()) && new BigDecimal("1200").compareTo(signal.amount()) == 0));
+    }
+}
@@ -0,0 +1,151 @@
+package br.com.beca.transactionservice.infrastructure.web.kafka;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecentlyFinalizedTransactions:
+ *  - id adicionado é reconhecido como duplicado; id desconhecido segue para o banco
+ *  - ids expiram depois de passadas duas meias janelas
+ *  - capacidade por geração limita a memória
+ *  - rebuild carrega ids do banco e só consulta uma vez por meia janela
+ *  - rebuild não descarta as gerações locais e corta por processedAt no fuso da JVM
+ */
+@ExtendWith(MockitoExtension.class)
+class RecentlyFinalizedTransactionsTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+
+    @Mock private TransactionRepository repository;
+
+    private MutableClock clock;
+    private RecentlyFinalizedTransactions filter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-10T12:00:00Z"));
+        filter = new RecentlyFinalizedTransactions(repository, WINDOW, 100, clock, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldRecognizeAddedIdOnly() {
+        UUID finalized = UUID.randomUUID();
+        filter.add(finalized);
+
+        assertTrue(filter.isDuplicate(finalized));
+        assertFalse(filter.isDuplicate(UUID.randomUUID()));
+        assertFalse(filter.isDuplicate(null));
+    }
+
+    @Test
+    void shouldExpireAfterTwoHalfWindows() {
+        UUID finalized = UUID.randomUUID();
+        filter.add(finalized);
+
+        clock.advance(WINDOW.dividedBy(2));
+        assertTrue(filter.isDuplicate(finalized));
+
+        clock.advance(WINDOW.dividedBy(2));
+        assertFalse(filter.isDuplicate(finalized));
+    }
+
+    @Test
+    void shouldBoundMemoryByGenerationCapacity() {
+        for (int i = 0; i < 500; i++) {
+            filter.add(UUID.randomUUID());
+        }
+
+        assertTrue(filter.size() <= 100);
+    }
+
+    @Test
+    void shouldRebuildFromRepositoryOncePerHalfWindow() {
+        UUID fromDb = UUID.randomUUID();
+        when(repository.findFinalizedIdsSince(any(), anyInt())).thenReturn(List.of(fromDb));
+
+        filter.rebuild();
+        filter.rebuild();
+
+        assertTrue(filter.isDuplicate(fromDb));
+        verify(repository, times(1)).findFinalizedIdsSince(any(), eq(50));
+    }
+
+    @Test
+    void shouldKeepLocalGenerationsOnRebuild() {
+        when(repository.findFinalizedIdsSince(any(), anyInt())).thenReturn(List.of());
+        UUID older = UUID.randomUUID();
+        filter.add(older);
+        clock.advance(WINDOW.dividedBy(2));
+        UUID newer = UUID.randomUUID();
+        filter.add(newer);
+
+        filter.rebuild();
+
+        assertTrue(filter.isDuplicate(older));
+        assertTrue(filter.isDuplicate(newer));
+    }
+
+    @Test
+    void shouldAskForTransactionsFinalizedWithinWindowInJvmZone() {
+        when(repository.findFinalizedIdsSince(any(), anyInt())).thenReturn(List.of());
+
+        filter.rebuild();
+
+        LocalDateTime expected = LocalDateTime.ofInstant(clock.instant().minus(WINDOW), ZoneId.systemDefault());
+        verify(repository).findFinalizedIdsSince(expected, 50);
+    }
+
+    @Test
+    void shouldKeepWorkingWhenRebuildFails() {
+        when(repository.findFinalizedIdsSince(any(), anyInt())).thenThrow(new IllegalStateException("banco fora"));
+        UUID finalized = UUID.randomUUID();
+        filter.add(finalized);
+
+        assertDoesNotThrow(() -> filter.rebuild());
+        assertTrue(filter.isDuplicate(finalized));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package br.com.beca.transactionservice.application.port;
 
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
 
 public interface TransactionEventPublisher {
     void publish(TransactionRequestedEvent event);
+    // resultado decidido aqui (cancelamento), no mesmo tópico e chave dos resultados do MS3
+    void publish(TransactionOutcomeEvent event);
 }
@@ -2,11 +2,11 @@ package br.com.beca.transactionservice.application.port;
 
 import br.com.beca.transactionservice.domain.dto.FilterListTransactionData;
 import br.com.beca.transactionservice.domain.dto.TokenInfoData;
-import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
 
 import java.io.IOException;
 import java.util.List;
 
 public interface TransactionPdfWriterPort {
-    byte[] write(List<Transaction> transactions) throws IOException;
+    byte[] write(List<TransactionView> transactions) throws IOException;
 }
\ No newline at end of file
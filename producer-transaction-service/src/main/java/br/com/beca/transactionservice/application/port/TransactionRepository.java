@@ -1,9 +1,14 @@
 package br.com.beca.transactionservice.application.port;
 
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
 import br.com.beca.transactionservice.domain.model.Transaction;
 import br.com.beca.transactionservice.domain.model.TransactionStatus;
 import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.domain.pagination.PageCursor;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,14 +16,48 @@ import java.util.Optional;
 import java.util.UUID;
 
 public interface TransactionRepository {
+    // insert de transação nova (id já atribuído); save é para atualizar uma existente
+    Transaction create(Transaction transaction);
     Transaction save(Transaction transaction);
     Optional<Transaction> findById(UUID id);
-    List<Transaction> search(
+    // cancela sob lock da linha; se estava APROVADA, sai do resumo mensal na mesma transação
+    Optional<Transaction> cancel(UUID id);
+    List<TransactionView> search(
                 UUID userId,
                 TransactionStatus status,
                 TransactionType type,
                 LocalDateTime startCreatedAt,
                 LocalDateTime endCreatedAt
         );
+    // mais recentes primeiro, a partir do cursor (exclusivo); limit já vem com a folga para detectar próxima página
+    List<TransactionView> searchPage(
+                UUID userId,
+                TransactionStatus status,
+                TransactionType type,
+                LocalDateTime startCreatedAt,
+                LocalDateTime endCreatedAt,
+                PageCursor after,
+                int limit
+        );
+    // count/sum agrupados no banco pelas dimensões pedidas (vazio = um total só)
+    List<AggregateRowData> aggregate(
+                UUID userId,
+                TransactionStatus status,
+                TransactionType type,
+                LocalDateTime startCreatedAt,
+                LocalDateTime endCreatedAt,
+                List<AggregateDimension> groupBy,
+                int limit
+        );
+    // criadas ou alteradas depois do cursor (exclusivo), mais antigas primeiro; só o que já não pode
+    // mais ser ultrapassado por um commit pendente, com settleDelay de folga (corte medido no banco)
+    List<TransactionView> findChanges(
+                UUID userId,
+                PageCursor after,
+                Duration settleDelay,
+                int limit
+        );
+    // limite superior de created_at das partições já arquivadas; nulo se nenhuma foi
+    Optional<LocalDateTime> findArchivedBefore();
 
 }
@@ -0,0 +1,11 @@
+package br.com.beca.transactionservice.application.port;
+
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TransactionStatusProjection {
+    Optional<TransactionStatusData> find(UUID transactionId);
+    void apply(TransactionStatusData status);
+}
@@ -0,0 +1,7 @@
+package br.com.beca.transactionservice.application.port;
+
+import br.com.beca.transactionservice.domain.dto.UserActivitySummaryData;
+
+public interface UserActivityQueryPort {
+    UserActivitySummaryData findByUserId(String userId);
+}
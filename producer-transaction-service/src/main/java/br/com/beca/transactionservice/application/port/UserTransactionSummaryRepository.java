@@ -0,0 +1,11 @@
+package br.com.beca.transactionservice.application.port;
+
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryLineData;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserTransactionSummaryRepository {
+    List<MonthlySummaryLineData> findByUserAndMonth(UUID userId, YearMonth month);
+}
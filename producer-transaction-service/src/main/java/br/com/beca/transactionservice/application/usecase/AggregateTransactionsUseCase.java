@@ -0,0 +1,57 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.dto.AggregateResultData;
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.dto.FilterListTransactionData;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AggregateTransactionsUseCase(TransactionRepository repository, int maxRows) {
+
+    public AggregateResultData execute(FilterListTransactionData dto, List<String> groupBy, TokenInfoData tokenData) {
+
+        String userId = resolveUserId(dto, tokenData);
+        validatePermission(userId, tokenData);
+
+        List<AggregateDimension> dimensions = groupBy == null ? List.of() : groupBy.stream()
+                .filter(value -> !value.isBlank())
+                .map(AggregateDimension::from)
+                .distinct()
+                .toList();
+
+        // um a mais para saber se o limite cortou grupos
+        List<AggregateRowData> rows = repository.aggregate(
+                UUID.fromString(userId),
+                dto.status(),
+                dto.type(),
+                dto.startCreatedAt(),
+                dto.endCreatedAt(),
+                dimensions,
+                maxRows + 1
+        );
+
+        boolean truncated = rows.size() > maxRows;
+        return new AggregateResultData(dimensions, truncated ? rows.subList(0, maxRows) : rows, truncated);
+    }
+
+    private String resolveUserId(FilterListTransactionData dto, TokenInfoData tokenData) {
+        if (dto.userId() == null || dto.userId().toString().isBlank()) {
+            return tokenData.userId();
+        }
+        return dto.userId().toString();
+    }
+
+    private void validatePermission(String userId, TokenInfoData tokenData) {
+        if ("ROLE_USER".equals(tokenData.role())
+                && !tokenData.userId().equals(userId)) {
+            throw new PermissionException(
+                    "Permissão insuficiente para consultar transações de terceiros"
+            );
+        }
+    }
+}
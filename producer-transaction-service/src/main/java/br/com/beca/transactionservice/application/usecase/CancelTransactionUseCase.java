@@ -1,7 +1,11 @@
 package br.com.beca.transactionservice.application.usecase;
 
+import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
 import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
 import br.com.beca.transactionservice.domain.exception.FieldIsException;
 import br.com.beca.transactionservice.domain.exception.NotFoundException;
 import br.com.beca.transactionservice.domain.exception.PermissionException;
@@ -9,7 +13,7 @@ import br.com.beca.transactionservice.domain.model.Transaction;
 
 import java.util.UUID;
 
-public record CancelTransactionUseCase(TransactionRepository repository) {
+public record CancelTransactionUseCase(TransactionRepository repository, TransactionStatusProjection projection, TransactionEventPublisher publisher) {
 
     public void execute(UUID id, TokenInfoData tokenData) {
         if (id == null) throw new FieldIsException("Parametro de ID não pode ser nulo");
@@ -21,8 +25,10 @@ public record CancelTransactionUseCase(TransactionRepository repository) {
             }
         }
 
-        transaction.cancel();
-        repository.save(transaction);
+        Transaction cancelled = repository.cancel(id).orElseThrow(() -> new NotFoundException("Não foi possível encontrar transação com o id " + id));
+        projection.apply(TransactionStatusData.of(cancelled));
+        // as outras instâncias (e esta, depois de reiniciar) refazem a projeção a partir do tópico de resultados
+        publisher.publish(TransactionOutcomeEvent.from(cancelled));
 
     }
 }
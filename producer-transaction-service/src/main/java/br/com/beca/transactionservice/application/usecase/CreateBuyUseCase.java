@@ -53,7 +53,7 @@ public record CreateBuyUseCase(TransactionRepository repository, TransactionEven
                 dto.buyType()
         );
 
-        Transaction saved = repository.save(tx);
+        Transaction saved = repository.create(tx);
 
         TransactionRequestedEvent event = new TransactionRequestedEvent(
                 saved.getId(),
@@ -46,7 +46,7 @@ public record CreateDepositUseCase(TransactionRepository repository, Transaction
                 null
         );
 
-        Transaction saved = repository.save(tx);
+        Transaction saved = repository.create(tx);
 
         TransactionRequestedEvent event = new TransactionRequestedEvent(
                 saved.getId(),
@@ -44,7 +44,7 @@ public record CreateTransferUseCase(TransactionRepository repository, Transactio
                 null
         );
 
-        Transaction saved = repository.save(tx);
+        Transaction saved = repository.create(tx);
 
         TransactionRequestedEvent event = new TransactionRequestedEvent(
                 saved.getId(),
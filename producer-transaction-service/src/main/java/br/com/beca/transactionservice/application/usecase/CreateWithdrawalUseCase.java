@@ -44,7 +44,7 @@ public record CreateWithdrawalUseCase(TransactionRepository repository, Transact
                 null
         );
 
-        Transaction saved = repository.save(tx);
+        Transaction saved = repository.create(tx);
 
         TransactionRequestedEvent event = new TransactionRequestedEvent(
                 saved.getId(),
@@ -4,8 +4,8 @@ import br.com.beca.transactionservice.application.port.TransactionPdfWriterPort;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
 import br.com.beca.transactionservice.domain.dto.FilterListTransactionData;
 import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
 import br.com.beca.transactionservice.domain.exception.PermissionException;
-import br.com.beca.transactionservice.domain.model.Transaction;
 
 import java.io.IOException;
 import java.util.List;
@@ -20,7 +20,7 @@ public record ExportPdfTransactionsUseCase(
         String userId = resolveUserId(dto, tokenData);
         validatePermission(userId, tokenData);
 
-        List<Transaction> transactions = repository.search(
+        List<TransactionView> transactions = repository.search(
                 UUID.fromString(userId),
                 dto.status(),
                 dto.type(),
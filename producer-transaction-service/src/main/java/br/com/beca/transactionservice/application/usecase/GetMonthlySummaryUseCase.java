@@ -0,0 +1,33 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryData;
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryLineData;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+public record GetMonthlySummaryUseCase(UserTransactionSummaryRepository repository) {
+
+    public MonthlySummaryData execute(UUID requestedUserId, YearMonth requestedMonth, TokenInfoData tokenData) {
+        String userId = requestedUserId == null ? tokenData.userId() : requestedUserId.toString();
+
+        if ("ROLE_USER".equals(tokenData.role()) && !tokenData.userId().equals(userId)) {
+            throw new PermissionException("Permissão insuficiente para consultar o resumo de terceiros");
+        }
+
+        // meses do resumo são em UTC (V7)
+        YearMonth month = requestedMonth == null ? YearMonth.now(ZoneOffset.UTC) : requestedMonth;
+        List<MonthlySummaryLineData> lines = repository.findByUserAndMonth(UUID.fromString(userId), month);
+        BigDecimal totalBrl = lines.stream()
+                .map(MonthlySummaryLineData::totalBrl)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new MonthlySummaryData(userId, month, totalBrl, lines);
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
+import br.com.beca.transactionservice.domain.exception.NotFoundException;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+
+import java.util.UUID;
+
+public record GetTransactionStatusUseCase(TransactionStatusProjection projection, TransactionRepository repository) {
+
+    public TransactionStatusData execute(UUID id, TokenInfoData tokenData) {
+        if (id == null) throw new FieldIsException("Parametro de ID não pode ser nulo");
+
+        // projeção em memória primeiro; só o que ela não conhece (pendente ou antigo) vai ao banco
+        TransactionStatusData status = projection.find(id)
+                .orElseGet(() -> repository.findById(id)
+                        .map(TransactionStatusData::of)
+                        .orElseThrow(() -> new NotFoundException("Não foi possível encontrar transação com o id " + id)));
+
+        if ("ROLE_USER".equals(tokenData.role()) && !tokenData.userId().equals(status.userId().toString())) {
+            throw new PermissionException("Permissão insuficiente para ação");
+        }
+
+        return status;
+    }
+}
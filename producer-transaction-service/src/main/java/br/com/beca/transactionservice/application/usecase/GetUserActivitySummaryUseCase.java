@@ -0,0 +1,21 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.UserActivityQueryPort;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.UserActivitySummaryData;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+
+import java.util.UUID;
+
+public record GetUserActivitySummaryUseCase(UserActivityQueryPort query) {
+
+    public UserActivitySummaryData execute(UUID requestedUserId, TokenInfoData tokenData) {
+        String userId = requestedUserId == null ? tokenData.userId() : requestedUserId.toString();
+
+        if ("ROLE_USER".equals(tokenData.role()) && !tokenData.userId().equals(userId)) {
+            throw new PermissionException("Permissão insuficiente para consultar o resumo de terceiros");
+        }
+
+        return query.findByUserId(userId);
+    }
+}
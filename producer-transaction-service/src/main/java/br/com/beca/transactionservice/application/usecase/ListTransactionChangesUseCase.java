@@ -0,0 +1,64 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionChangesData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.pagination.PageCursor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ListTransactionChangesUseCase(
+        TransactionRepository repository,
+        int defaultPageSize,
+        int maxPageSize,
+        Duration settleDelay
+) {
+
+    public TransactionChangesData execute(UUID requestedUserId, String since, Integer size, TokenInfoData tokenData) {
+
+        String userId = requestedUserId != null ? requestedUserId.toString() : tokenData.userId();
+        validatePermission(userId, tokenData);
+        int pageSize = resolvePageSize(size);
+        PageCursor after = PageCursor.decode(since);
+
+        // lido antes das mudanças: uma partição arquivada no meio do caminho aparece na próxima chamada
+        LocalDateTime archivedBefore = repository.findArchivedBefore().orElse(null);
+
+        // o corte é calculado no banco a partir da escrita aberta mais antiga: uma transação que ainda não
+        // commitou com changed_at menor não pode aparecer depois que o cursor já passou dela
+        List<TransactionView> rows = repository.findChanges(UUID.fromString(userId), after, settleDelay, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TransactionView> items = hasMore ? rows.subList(0, pageSize) : rows;
+        if (items.isEmpty()) {
+            return new TransactionChangesData(items, since, false, archivedBefore);
+        }
+        TransactionView last = items.get(items.size() - 1);
+        return new TransactionChangesData(items, new PageCursor(last.changedAt(), last.id()).encode(), hasMore, archivedBefore);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size <= 0) {
+            throw new FieldIsException("Tamanho de página deve ser maior que zero");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private void validatePermission(String userId, TokenInfoData tokenData) {
+        if ("ROLE_USER".equals(tokenData.role())
+                && !tokenData.userId().equals(userId)) {
+            throw new PermissionException(
+                    "Permissão insuficiente para consultar transações de terceiros"
+            );
+        }
+    }
+}
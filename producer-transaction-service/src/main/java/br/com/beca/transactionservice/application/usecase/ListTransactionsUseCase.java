@@ -3,27 +3,51 @@ package br.com.beca.transactionservice.application.usecase;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
 import br.com.beca.transactionservice.domain.dto.FilterListTransactionData;
 import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
 import br.com.beca.transactionservice.domain.exception.PermissionException;
-import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.pagination.CursorPage;
+import br.com.beca.transactionservice.domain.pagination.PageCursor;
 
 import java.util.List;
 import java.util.UUID;
 
-public record ListTransactionsUseCase(TransactionRepository repository) {
+public record ListTransactionsUseCase(TransactionRepository repository, int defaultPageSize, int maxPageSize) {
 
 
-    public List<Transaction> execute(FilterListTransactionData dto, TokenInfoData tokenData) {
+    public CursorPage<TransactionView> execute(FilterListTransactionData dto, TokenInfoData tokenData) {
 
         String userId = resolveUserId(dto, tokenData);
         validatePermission(userId, tokenData);
+        int size = resolvePageSize(dto.size());
 
-        return repository.search(
+        // busca um a mais só para saber se existe próxima página
+        List<TransactionView> rows = repository.searchPage(
                 UUID.fromString(userId),
                 dto.status(),
                 dto.type(),
                 dto.startCreatedAt(),
-                dto.endCreatedAt()
+                dto.endCreatedAt(),
+                PageCursor.decode(dto.cursor()),
+                size + 1
         );
+
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<TransactionView> items = rows.subList(0, size);
+        TransactionView last = items.get(size - 1);
+        return new CursorPage<>(items, new PageCursor(last.createdAt(), last.id()).encode());
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size <= 0) {
+            throw new FieldIsException("Tamanho de página deve ser maior que zero");
+        }
+        return Math.min(size, maxPageSize);
     }
 
     private String resolveUserId(FilterListTransactionData dto, TokenInfoData tokenData) {
@@ -43,4 +67,3 @@ public record ListTransactionsUseCase(TransactionRepository repository) {
 
     }
 }
-
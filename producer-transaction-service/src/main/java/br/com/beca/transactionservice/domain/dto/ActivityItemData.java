@@ -0,0 +1,19 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ActivityItemData(
+        UUID transactionId,
+        TransactionType type,
+        TransactionStatus status,
+        BigDecimal amount,
+        String currency,
+        String category,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,13 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
+
+import java.util.List;
+
+// truncated indica que havia mais grupos que o limite; reduzir período ou dimensões
+public record AggregateResultData(
+        List<AggregateDimension> groupBy,
+        List<AggregateRowData> rows,
+        boolean truncated
+) {
+}
@@ -0,0 +1,20 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// dimensões fora do agrupamento pedido vêm nulas; sumAmount só vem agrupando por moeda (somar moedas diferentes não tem sentido)
+public record AggregateRowData(
+        TransactionType type,
+        TransactionStatus status,
+        String category,
+        String currency,
+        LocalDate day,
+        long count,
+        BigDecimal sumAmount,
+        BigDecimal sumBrl
+) {
+}
@@ -11,5 +11,7 @@ public record FilterListTransactionData(
         TransactionStatus status,
         TransactionType type,
         LocalDateTime startCreatedAt,
-        LocalDateTime endCreatedAt
+        LocalDateTime endCreatedAt,
+        String cursor,
+        Integer size
 ) { }
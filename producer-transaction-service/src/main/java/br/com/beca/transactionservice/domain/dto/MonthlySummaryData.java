@@ -0,0 +1,13 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public record MonthlySummaryData(
+        String userId,
+        YearMonth month,
+        BigDecimal totalBrl,
+        List<MonthlySummaryLineData> lines
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+
+public record MonthlySummaryLineData(
+        TransactionType type,
+        String category,
+        String currency,
+        BigDecimal totalAmount,
+        BigDecimal totalBrl,
+        long count
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// cursor sempre volta preenchido (salvo primeira chamada sem mudanças): guardar e mandar como since na próxima.
+// archivedBefore é o tombstone da retenção: partições arquivadas somem sem gerar mudança no feed, então
+// o cliente descarta o que guardou com createdAt anterior a ele (nulo enquanto nada foi arquivado)
+public record TransactionChangesData(
+        List<TransactionView> items,
+        String cursor,
+        boolean hasMore,
+        LocalDateTime archivedBefore
+) {
+}
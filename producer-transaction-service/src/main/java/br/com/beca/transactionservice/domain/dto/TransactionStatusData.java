@@ -0,0 +1,30 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TransactionStatusData(
+        UUID transactionId,
+        UUID userId,
+        TransactionStatus status,
+        BigDecimal brl,
+        BigDecimal fxRate,
+        String reason,
+        LocalDateTime processedAt
+) {
+    public static TransactionStatusData of(Transaction transaction) {
+        return new TransactionStatusData(
+                transaction.getId(),
+                transaction.getUserId(),
+                transaction.getStatus(),
+                transaction.getBrl(),
+                transaction.getFxRate(),
+                transaction.getRejectionReason(),
+                transaction.getProcessAt()
+        );
+    }
+}
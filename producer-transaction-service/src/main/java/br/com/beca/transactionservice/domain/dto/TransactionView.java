@@ -0,0 +1,32 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.BuyType;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.domain.model.TransferType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// leitura de listagem/exportação: só as colunas que esses caminhos mostram, sem passar pela entidade
+public record TransactionView(
+        UUID id,
+        UUID userId,
+        TransactionType type,
+        TransactionStatus status,
+        BigDecimal amount,
+        String currency,
+        UUID targetAccountId,
+        TransferType transferType,
+        BuyType buyType,
+        String description,
+        String category,
+        Boolean record,
+        BigDecimal brl,
+        BigDecimal fxRate,
+        String rejectionReason,
+        LocalDateTime createdAt,
+        LocalDateTime processedAt,
+        LocalDateTime changedAt
+) { }
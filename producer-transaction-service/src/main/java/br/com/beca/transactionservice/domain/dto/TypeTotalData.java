@@ -0,0 +1,9 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import java.math.BigDecimal;
+
+public record TypeTotalData(
+        long count,
+        BigDecimal totalBrl
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.beca.transactionservice.domain.dto;
+
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+public record UserActivitySummaryData(
+        String userId,
+        Map<String, BigDecimal> spendingByCategory,
+        Map<TransactionType, TypeTotalData> totalsByType,
+        List<ActivityItemData> recentActivity
+) {
+}
@@ -0,0 +1,40 @@
+package br.com.beca.transactionservice.domain.event;
+
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TransactionOutcomeEvent(
+        UUID transactionId,
+        UUID userId,
+        TransactionType type,
+        TransactionStatus status,
+        BigDecimal amount,
+        String currency,
+        BigDecimal amountBrl,
+        BigDecimal fxRate,
+        String category,
+        String rejectionReason,
+        LocalDateTime occurredAt
+) {
+    // mesmo formato que o MS3 publica; usado aqui para anunciar o cancelamento no tópico de resultados
+    public static TransactionOutcomeEvent from(Transaction transaction) {
+        return new TransactionOutcomeEvent(
+                transaction.getId(),
+                transaction.getUserId(),
+                transaction.getType(),
+                transaction.getStatus(),
+                transaction.getAmount().value(),
+                transaction.getAmount().currency(),
+                transaction.getBrl(),
+                transaction.getFxRate(),
+                transaction.getCategory(),
+                transaction.getRejectionReason(),
+                transaction.getProcessAt()
+        );
+    }
+}
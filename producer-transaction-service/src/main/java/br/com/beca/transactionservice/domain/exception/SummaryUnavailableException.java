@@ -0,0 +1,7 @@
+package br.com.beca.transactionservice.domain.exception;
+
+public class SummaryUnavailableException extends RuntimeException {
+    public SummaryUnavailableException(String message) {
+        super(message);
+    }
+}
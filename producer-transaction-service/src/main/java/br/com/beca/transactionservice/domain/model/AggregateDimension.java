@@ -0,0 +1,23 @@
+package br.com.beca.transactionservice.domain.model;
+
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// colunas permitidas no GROUP BY de /transactions/aggregate; nada além disso chega ao SQL
+public enum AggregateDimension {
+    TYPE,
+    STATUS,
+    CATEGORY,
+    CURRENCY,
+    DAY;
+
+    public static AggregateDimension from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new FieldIsException("Agrupamento inválido: " + value + " tente " + Arrays.toString(values()));
+        }
+    }
+}
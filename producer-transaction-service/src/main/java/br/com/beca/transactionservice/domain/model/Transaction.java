@@ -82,7 +82,7 @@ public class Transaction {
             BuyType buyType
     ){
         return new Transaction(
-                UUID.randomUUID(),
+                UuidV7.next(),
                 userId,
                 type,
                 amount,
@@ -94,7 +94,7 @@ public class Transaction {
                 null,
                 LocalDateTime.now(),
                 null,
-                UUID.randomUUID().toString(),
+                UuidV7.next().toString(),
                 null,
                 null,
                 record,
@@ -0,0 +1,41 @@
+package br.com.beca.transactionservice.domain.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUID versão 7 (RFC 9562): 48 bits de epoch em ms, depois 12 bits de contador
+ * (rand_a) e 62 bits aleatórios. Os ids saem em ordem crescente dentro da JVM, mesmo com várias
+ * threads ou com o relógio voltando, e novas linhas entram no fim do índice da PK em vez de
+ * espalhadas. O aleatório vem de ThreadLocalRandom (sem o custo do SecureRandom do randomUUID):
+ * serve para unicidade, não para sigilo.
+ */
+public final class UuidV7 {
+
+    private static final long COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    // (epoch ms << 12) | contador do último id emitido
+    private static final AtomicLong last = new AtomicLong();
+
+    private UuidV7() {}
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        long state = last.updateAndGet(prev -> Math.max(now, prev + 1));
+        return build(state >>> COUNTER_BITS, state & 0xFFF, ThreadLocalRandom.current().nextLong());
+    }
+
+    static UUID build(long epochMillis, long counter, long random) {
+        long msb = (epochMillis << 16) | VERSION | counter;
+        long lsb = VARIANT | (random & RAND_B_MASK);
+        return new UUID(msb, lsb);
+    }
+
+    public static long epochMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
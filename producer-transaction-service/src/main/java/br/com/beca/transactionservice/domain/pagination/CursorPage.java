@@ -0,0 +1,11 @@
+package br.com.beca.transactionservice.domain.pagination;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem por cursor. {@code nextCursor} nulo indica que não há mais itens.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) { }
@@ -0,0 +1,41 @@
+package br.com.beca.transactionservice.domain.pagination;
+
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição (instante, id) do último item entregue: created_at na listagem, changed_at no sync. Vai para o cliente como token opaco
+ * e volta na próxima chamada para continuar a partir dali (keyset), sem OFFSET.
+ */
+public record PageCursor(
+        LocalDateTime timestamp,
+        UUID id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new FieldIsException("Cursor de paginação inválido");
+        }
+    }
+}
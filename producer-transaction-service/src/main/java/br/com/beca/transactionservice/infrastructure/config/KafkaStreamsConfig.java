@@ -0,0 +1,72 @@
+package br.com.beca.transactionservice.infrastructure.config;
+
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.infrastructure.streams.UserActivityTopology;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.state.HostInfo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@EnableKafkaStreams
+@Configuration
+public class KafkaStreamsConfig {
+
+    /**
+     * host:porta desta instância para as consultas interativas. Sem configuração explícita usa o
+     * hostname real da máquina/contêiner: "localhost" seria igual em todas as instâncias e a
+     * checagem de dono da chave nunca mandaria o cliente para outra.
+     */
+    @Bean
+    public HostInfo streamsHostInfo(
+            @Value("${app.kafka.streams.application-server:}") String applicationServer,
+            @Value("${server.port:8080}") int serverPort
+    ) throws UnknownHostException {
+        if (applicationServer != null && !applicationServer.isBlank()) {
+            return HostInfo.buildFromEndpoint(applicationServer);
+        }
+        return new HostInfo(InetAddress.getLocalHost().getHostName(), serverPort);
+    }
+
+    @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+    public KafkaStreamsConfiguration kafkaStreamsConfiguration(
+            @Value("${spring.kafka.bootstrap-servers}") String bootstrap,
+            @Value("${app.kafka.streams.application-id:transaction-ms2-streams}") String applicationId,
+            @Value("${app.kafka.streams.state-dir:/tmp/kafka-streams}") String stateDir,
+            HostInfo streamsHostInfo,
+            @Value("${app.kafka.streams.processing-guarantee:exactly_once_v2}") String processingGuarantee
+    ) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrap);
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        // host:porta desta instância, usado para descobrir onde está a chave nas consultas interativas
+        props.put(StreamsConfig.APPLICATION_SERVER_CONFIG, streamsHostInfo.host() + ":" + streamsHostInfo.port());
+        props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, processingGuarantee);
+        props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        return new KafkaStreamsConfiguration(props);
+    }
+
+    @Bean
+    public KStream<String, TransactionOutcomeEvent> userActivityStream(
+            StreamsBuilder builder,
+            @Value("${app.kafka.topics.outcome}") String outcomeTopic,
+            @Value("${app.kafka.streams.recent-activity-size:20}") int recentSize,
+            @Value("${app.kafka.streams.dedupe-retention:7d}") Duration dedupeRetention
+    ) {
+        return UserActivityTopology.define(builder, outcomeTopic, recentSize, dedupeRetention);
+    }
+}
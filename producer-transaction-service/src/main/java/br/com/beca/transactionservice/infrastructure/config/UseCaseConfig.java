@@ -3,10 +3,16 @@ package br.com.beca.transactionservice.infrastructure.config;
 import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
 import br.com.beca.transactionservice.application.port.TransactionPdfWriterPort;
 import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
+import br.com.beca.transactionservice.application.port.UserActivityQueryPort;
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
 import br.com.beca.transactionservice.application.usecase.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class UseCaseConfig {
 
@@ -31,13 +37,37 @@ public class UseCaseConfig {
     }
 
     @Bean
-    public CancelTransactionUseCase cancelTransactionUseCase(TransactionRepository transactionRepository){
-        return new CancelTransactionUseCase(transactionRepository);
+    public CancelTransactionUseCase cancelTransactionUseCase(TransactionRepository transactionRepository, TransactionStatusProjection projection, TransactionEventPublisher publisher){
+        return new CancelTransactionUseCase(transactionRepository, projection, publisher);
+    }
+
+    @Bean
+    public GetTransactionStatusUseCase getTransactionStatusUseCase(TransactionStatusProjection projection, TransactionRepository transactionRepository){
+        return new GetTransactionStatusUseCase(projection, transactionRepository);
+    }
+
+    @Bean
+    public ListTransactionsUseCase listTransactionsUseCase(
+            TransactionRepository transactionRepository,
+            @Value("${app.pagination.default-size:50}") int defaultPageSize,
+            @Value("${app.pagination.max-size:200}") int maxPageSize){
+        return new ListTransactionsUseCase(transactionRepository, defaultPageSize, maxPageSize);
+    }
+
+    @Bean
+    public ListTransactionChangesUseCase listTransactionChangesUseCase(
+            TransactionRepository transactionRepository,
+            @Value("${app.pagination.default-size:50}") int defaultPageSize,
+            @Value("${app.pagination.max-size:200}") int maxPageSize,
+            @Value("${app.changes.settle-delay:2s}") Duration settleDelay){
+        return new ListTransactionChangesUseCase(transactionRepository, defaultPageSize, maxPageSize, settleDelay);
     }
 
     @Bean
-    public ListTransactionsUseCase listTransactionsUseCase(TransactionRepository transactionRepository){
-        return new ListTransactionsUseCase(transactionRepository);
+    public AggregateTransactionsUseCase aggregateTransactionsUseCase(
+            TransactionRepository transactionRepository,
+            @Value("${app.aggregate.max-rows:500}") int maxRows){
+        return new AggregateTransactionsUseCase(transactionRepository, maxRows);
     }
 
     @Bean
@@ -45,5 +75,15 @@ public class UseCaseConfig {
         return new ExportPdfTransactionsUseCase(transactionRepository, pdfWriter);
     }
 
+    @Bean
+    public GetUserActivitySummaryUseCase getUserActivitySummaryUseCase(UserActivityQueryPort query){
+        return new GetUserActivitySummaryUseCase(query);
+    }
+
+    @Bean
+    public GetMonthlySummaryUseCase getMonthlySummaryUseCase(UserTransactionSummaryRepository summaryRepository){
+        return new GetMonthlySummaryUseCase(summaryRepository);
+    }
+
 
 }
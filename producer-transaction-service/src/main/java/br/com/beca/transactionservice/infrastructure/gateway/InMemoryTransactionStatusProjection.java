@@ -0,0 +1,121 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Último status conhecido de cada transação, alimentado pelo tópico de resultados (MS3 e
+ * cancelamentos publicados pelo MS2) e pelos cancelamentos locais. Atende leituras de status sem ir ao Postgres e avisa os assinantes a cada
+ * mudança. Entradas saem após {@code app.status-projection.retention}; acima de
+ * {@code max-entries} o excedente sai em ordem arbitrária (a leitura volta a cair no banco).
+ */
+@Component
+public class InMemoryTransactionStatusProjection implements TransactionStatusProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryTransactionStatusProjection.class);
+
+    private final Map<UUID, Entry> statuses = new ConcurrentHashMap<>();
+    private final List<Consumer<TransactionStatusData>> listeners = new CopyOnWriteArrayList<>();
+    private final long retentionMillis;
+    private final int maxEntries;
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "status-projection-sweep");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public InMemoryTransactionStatusProjection(
+            @Value("${app.status-projection.retention:24h}") Duration retention,
+            @Value("${app.status-projection.max-entries:500000}") int maxEntries
+    ) {
+        this.retentionMillis = retention.toMillis();
+        this.maxEntries = maxEntries;
+        sweeper.scheduleWithFixedDelay(this::sweep, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public Optional<TransactionStatusData> find(UUID transactionId) {
+        Entry entry = statuses.get(transactionId);
+        return entry == null ? Optional.empty() : Optional.of(entry.status);
+    }
+
+    @Override
+    public void apply(TransactionStatusData status) {
+        Entry next = new Entry(status, System.currentTimeMillis());
+        Entry[] previous = new Entry[1];
+        Entry current = statuses.compute(status.transactionId(), (id, existing) -> {
+            previous[0] = existing;
+            // cancelamento é final: resultado do MS3 que chega depois (relay atrasado, replay do tópico) não o desfaz
+            if (existing != null && existing.status.status() == TransactionStatus.CANCELADA
+                    && status.status() != TransactionStatus.CANCELADA) {
+                return existing;
+            }
+            return next;
+        });
+        if (current != next) {
+            return;
+        }
+        // redelivery do mesmo resultado não gera nova notificação
+        if (previous[0] != null && previous[0].status.equals(status)) {
+            return;
+        }
+        for (Consumer<TransactionStatusData> listener : listeners) {
+            try {
+                listener.accept(status);
+            } catch (RuntimeException e) {
+                log.warn("Assinante da projeção de status falhou: {}", e.getMessage());
+            }
+        }
+    }
+
+    public void addListener(Consumer<TransactionStatusData> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<TransactionStatusData> listener) {
+        listeners.remove(listener);
+    }
+
+    void sweep() {
+        long cutoff = System.currentTimeMillis() - retentionMillis;
+        statuses.values().removeIf(entry -> entry.appliedAtMillis < cutoff);
+
+        int excess = statuses.size() - maxEntries;
+        Iterator<UUID> ids = statuses.keySet().iterator();
+        while (excess-- > 0 && ids.hasNext()) {
+            ids.next();
+            ids.remove();
+        }
+    }
+
+    int size() {
+        return statuses.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    private record Entry(TransactionStatusData status, long appliedAtMillis) {
+    }
+}
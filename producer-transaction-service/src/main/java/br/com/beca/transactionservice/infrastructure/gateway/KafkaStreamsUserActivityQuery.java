@@ -0,0 +1,77 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.UserActivityQueryPort;
+import br.com.beca.transactionservice.domain.dto.UserActivitySummaryData;
+import br.com.beca.transactionservice.domain.exception.SummaryUnavailableException;
+import br.com.beca.transactionservice.infrastructure.streams.CategorySpending;
+import br.com.beca.transactionservice.infrastructure.streams.RecentActivity;
+import br.com.beca.transactionservice.infrastructure.streams.TypeTotals;
+import br.com.beca.transactionservice.infrastructure.streams.UserActivityTopology;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyQueryMetadata;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.HostInfo;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class KafkaStreamsUserActivityQuery implements UserActivityQueryPort {
+
+    private final StreamsBuilderFactoryBean streamsFactory;
+    private final HostInfo localHost;
+
+    public KafkaStreamsUserActivityQuery(
+            StreamsBuilderFactoryBean streamsFactory,
+            HostInfo streamsHostInfo
+    ) {
+        this.streamsFactory = streamsFactory;
+        this.localHost = streamsHostInfo;
+    }
+
+    @Override
+    public UserActivitySummaryData findByUserId(String userId) {
+        KafkaStreams streams = streamsFactory.getKafkaStreams();
+        if (streams == null || streams.state() != KafkaStreams.State.RUNNING) {
+            throw new SummaryUnavailableException("Resumo indisponível: agregados ainda carregando");
+        }
+
+        // com mais de uma instância a chave pode estar em outro host; o resumo não é repassado
+        KeyQueryMetadata metadata = streams.queryMetadataForKey(
+                UserActivityTopology.RECENT_ACTIVITY, userId, Serdes.String().serializer());
+        if (metadata == null || metadata.activeHost() == null || metadata.activeHost().port() == -1) {
+            // dono da chave ainda indefinido (rebalance): responder vazio seria um resumo falso
+            throw new SummaryUnavailableException("Resumo indisponível durante rebalanceamento, tente novamente");
+        }
+        if (!metadata.activeHost().equals(localHost)) {
+            throw new SummaryUnavailableException("Resumo do usuário está na instância "
+                    + metadata.activeHost().host() + ":" + metadata.activeHost().port());
+        }
+
+        try {
+            CategorySpending spending = store(streams, UserActivityTopology.SPENDING_BY_CATEGORY, CategorySpending.class).get(userId);
+            TypeTotals totals = store(streams, UserActivityTopology.TOTALS_BY_TYPE, TypeTotals.class).get(userId);
+            RecentActivity recent = store(streams, UserActivityTopology.RECENT_ACTIVITY, RecentActivity.class).get(userId);
+
+            return new UserActivitySummaryData(
+                    userId,
+                    spending == null ? Map.of() : spending.totals(),
+                    totals == null ? Map.of() : totals.totals(),
+                    recent == null ? List.of() : recent.items()
+            );
+        } catch (InvalidStateStoreException e) {
+            // rebalance em andamento: o store local está sendo migrado ou restaurado
+            throw new SummaryUnavailableException("Resumo indisponível durante rebalanceamento, tente novamente");
+        }
+    }
+
+    private static <V> ReadOnlyKeyValueStore<String, V> store(KafkaStreams streams, String name, Class<V> valueType) {
+        return streams.store(StoreQueryParameters.fromNameAndType(name, QueryableStoreTypes.<String, V>keyValueStore()));
+    }
+}
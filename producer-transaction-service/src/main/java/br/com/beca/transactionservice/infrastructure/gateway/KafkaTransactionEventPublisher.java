@@ -1,7 +1,10 @@
 package br.com.beca.transactionservice.infrastructure.gateway;
 
 import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
 import br.com.beca.transactionservice.domain.event.TransactionRequestedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
@@ -9,19 +12,35 @@ import org.springframework.stereotype.Component;
 @Component
 public class KafkaTransactionEventPublisher implements TransactionEventPublisher {
 
+    private static final Logger log = LoggerFactory.getLogger(KafkaTransactionEventPublisher.class);
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final String requestTopic;
+    private final String outcomeTopic;
 
     public KafkaTransactionEventPublisher(
             KafkaTemplate<String, Object> kafkaTemplate,
-            @Value("${app.kafka.topics.requested}") String requestTopic
+            @Value("${app.kafka.topics.requested}") String requestTopic,
+            @Value("${app.kafka.topics.outcome}") String outcomeTopic
     ) {
         this.kafkaTemplate = kafkaTemplate;
         this.requestTopic = requestTopic;
+        this.outcomeTopic = outcomeTopic;
     }
 
     @Override
     public void publish(TransactionRequestedEvent event) {
         kafkaTemplate.send(requestTopic, event.transactionId().toString(), event);
     }
+
+    // chave userId como no relay do MS3: o resultado da mesma transação cai sempre na mesma partição
+    @Override
+    public void publish(TransactionOutcomeEvent event) {
+        kafkaTemplate.send(outcomeTopic, event.userId().toString(), event).whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("Falha ao publicar resultado {} da transação {}: {}",
+                        event.status(), event.transactionId(), e.getMessage());
+            }
+        });
+    }
 }
@@ -1,7 +1,7 @@
 package br.com.beca.transactionservice.infrastructure.gateway;
 
 import br.com.beca.transactionservice.application.port.TransactionPdfWriterPort;
-import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -60,10 +60,10 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
         final Align align;
         final BreakMode mode;
         final int maxCharsHint;  // dica de truncamento para UX
-        final Function<Transaction, String> valueFn;
+        final Function<TransactionView, String> valueFn;
 
         Col(String header, float rel, Align align, BreakMode mode, int maxCharsHint,
-            Function<Transaction, String> valueFn) {
+            Function<TransactionView, String> valueFn) {
             this.header = header;
             this.rel = rel;
             this.align = align;
@@ -98,10 +98,10 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
     // ENTRYPOINT
     // =====================================================================
     @Override
-    public byte[] write(List<Transaction> all) throws IOException {
+    public byte[] write(List<TransactionView> all) throws IOException {
         // Agrupa por tipo (categoria)
-        Map<String, List<Transaction>> porTipo = all.stream()
-                .collect(Collectors.groupingBy(t -> safe(enumOrString(t.getType()))));
+        Map<String, List<TransactionView>> porTipo = all.stream()
+                .collect(Collectors.groupingBy(t -> safe(enumOrString(t.type()))));
 
         // Ordem de seções
         List<String> ordem = List.of(TIPO_DEPOSITO, TIPO_SAQUE, TIPO_TRANSFERENCIA, TIPO_COMPRA);
@@ -127,7 +127,7 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
 
             // Para cada seção (categoria)
             for (String tipo : ordem) {
-                List<Transaction> lista = porTipo.getOrDefault(tipo, Collections.emptyList());
+                List<TransactionView> lista = porTipo.getOrDefault(tipo, Collections.emptyList());
                 if (lista.isEmpty()) continue;
 
                 // BRL/FX apenas se houver moeda ≠ BRL na seção
@@ -157,7 +157,7 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
                 // Linhas
                 float[] colW = absWidths(contentW, cols);
                 int rowIndex = 0; // zebra por seção
-                for (Transaction t : lista) {
+                for (TransactionView t : lista) {
                     float rowH = Math.max(ROW_MIN_H, LINE_SPACING); // 1 linha (ELLIPSIS)
 
                     // Quebra de página
@@ -229,35 +229,35 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
         List<Col> cols = new ArrayList<>();
 
         // Obrigatórias (todas as seções)
-        cols.add(new Col("ID",               0.12f, Align.LEFT,   BreakMode.ELLIPSIS, 30, t -> safe(t.getId())));
-        cols.add(new Col("Tipo",             0.06f, Align.CENTER, BreakMode.ELLIPSIS, 10, t -> safe(enumOrString(t.getType()))));
+        cols.add(new Col("ID",               0.12f, Align.LEFT,   BreakMode.ELLIPSIS, 30, t -> safe(t.id())));
+        cols.add(new Col("Tipo",             0.06f, Align.CENTER, BreakMode.ELLIPSIS, 10, t -> safe(enumOrString(t.type()))));
         cols.add(new Col("Valor",            0.08f, Align.RIGHT,  BreakMode.ELLIPSIS, 14, t -> formatAmountPlain(extractAmountValue(t))));
         cols.add(new Col("Moeda",            0.05f, Align.CENTER, BreakMode.ELLIPSIS,  6, t -> safe(extractAmountCurrency(t))));
-        cols.add(new Col("Status",           0.08f, Align.CENTER, BreakMode.ELLIPSIS, 14, t -> safe(enumOrString(t.getStatus()))));
-        cols.add(new Col("Criada em",        0.10f, Align.CENTER, BreakMode.ELLIPSIS, 19, t -> formatDateAny(t.getCreatedAt())));
+        cols.add(new Col("Status",           0.08f, Align.CENTER, BreakMode.ELLIPSIS, 14, t -> safe(enumOrString(t.status()))));
+        cols.add(new Col("Criada em",        0.10f, Align.CENTER, BreakMode.ELLIPSIS, 19, t -> formatDateAny(t.createdAt())));
 
         // Específicas por seção
         switch (tipo) {
             case TIPO_TRANSFERENCIA -> {
                 cols.add(new Col("Target Account", 0.14f, Align.LEFT,  BreakMode.ELLIPSIS, 24, this::extractTargetAccountAny));
-                cols.add(new Col("TRANSFERENCIA",  0.08f, Align.LEFT,  BreakMode.ELLIPSIS, 14, t -> safe(t.getTransferType())));
-                cols.add(new Col("REGISTRO",       0.06f, Align.LEFT,  BreakMode.ELLIPSIS, 10, t -> recordFlag(t.getRecord())));
+                cols.add(new Col("TRANSFERENCIA",  0.08f, Align.LEFT,  BreakMode.ELLIPSIS, 14, t -> safe(t.transferType())));
+                cols.add(new Col("REGISTRO",       0.06f, Align.LEFT,  BreakMode.ELLIPSIS, 10, t -> recordFlag(t.record())));
             }
             case TIPO_COMPRA -> {
-                cols.add(new Col("Categoria",      0.10f, Align.LEFT,  BreakMode.ELLIPSIS, 14, t -> safe(t.getCategory())));
-                cols.add(new Col("TIPO DE COMPRA", 0.08f, Align.LEFT,  BreakMode.ELLIPSIS, 14, t -> safe(t.getBuyType())));
-                cols.add(new Col("REGISTRO",       0.06f, Align.LEFT,  BreakMode.ELLIPSIS, 10, t -> recordFlag(t.getRecord())));
+                cols.add(new Col("Categoria",      0.10f, Align.LEFT,  BreakMode.ELLIPSIS, 14, t -> safe(t.category())));
+                cols.add(new Col("TIPO DE COMPRA", 0.08f, Align.LEFT,  BreakMode.ELLIPSIS, 14, t -> safe(t.buyType())));
+                cols.add(new Col("REGISTRO",       0.06f, Align.LEFT,  BreakMode.ELLIPSIS, 10, t -> recordFlag(t.record())));
             }
             case TIPO_DEPOSITO, TIPO_SAQUE -> {
-                cols.add(new Col("REGISTRO",       0.06f, Align.LEFT,  BreakMode.ELLIPSIS, 10, t -> recordFlag(t.getRecord())));
+                cols.add(new Col("REGISTRO",       0.06f, Align.LEFT,  BreakMode.ELLIPSIS, 10, t -> recordFlag(t.record())));
             }
             default -> { /* mantém apenas obrigatórias */ }
         }
 
         // BRL/CAMBIO somente se houver moeda ≠ BRL
         if (precisaFX) {
-            cols.add(new Col("BRL",     0.07f, Align.RIGHT, BreakMode.ELLIPSIS, 12, t -> formatTwoDecimals(t.getBrl())));
-            cols.add(new Col("CAMBIO",  0.07f, Align.RIGHT, BreakMode.ELLIPSIS, 12, t -> formatTwoDecimals(t.getFxRate())));
+            cols.add(new Col("BRL",     0.07f, Align.RIGHT, BreakMode.ELLIPSIS, 12, t -> formatTwoDecimals(t.brl())));
+            cols.add(new Col("CAMBIO",  0.07f, Align.RIGHT, BreakMode.ELLIPSIS, 12, t -> formatTwoDecimals(t.fxRate())));
         }
 
         normalizeRel(cols);
@@ -286,7 +286,7 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
     private float drawDocumentHeader(PDPageContentStream cs,
                                      org.apache.pdfbox.pdmodel.font.PDFont fTitle,
                                      org.apache.pdfbox.pdmodel.font.PDFont fBody,
-                                     float y, List<Transaction> txs) throws IOException {
+                                     float y, List<TransactionView> txs) throws IOException {
         float x = MARGIN;
 
         cs.beginText();
@@ -303,7 +303,7 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
         cs.endText();
         y -= 12f;
 
-        String user = (txs != null && !txs.isEmpty()) ? safe(txs.get(0).getUserId()) : "-";
+        String user = (txs != null && !txs.isEmpty()) ? safe(txs.get(0).userId()) : "-";
         cs.beginText();
         cs.setFont(fBody, 9f);
         cs.newLineAtOffset(x, y);
@@ -438,51 +438,16 @@ public class PdfBoxTransactionPdfWriter implements TransactionPdfWriterPort {
         }
     }
 
-    private BigDecimal extractAmountValue(Transaction t) {
-        if (t == null || t.getAmount() == null) return null;
-        try { return t.getAmount().value(); } catch (Throwable ignored) {
-            try { return (BigDecimal) t.getAmount().getClass().getMethod("value").invoke(t.getAmount()); }
-            catch (Throwable ignore2) { return null; }
-        }
+    private BigDecimal extractAmountValue(TransactionView t) {
+        return t == null ? null : t.amount();
     }
 
-    private String extractAmountCurrency(Transaction t) {
-        if (t == null || t.getAmount() == null) return null;
-        try { Object c = t.getAmount().currency(); return c==null?null:c.toString(); } catch (Throwable ignored) {
-            try { Object c = t.getAmount().getClass().getMethod("currency").invoke(t.getAmount()); return c==null?null:c.toString(); }
-            catch (Throwable ignore2) { return null; }
-        }
+    private String extractAmountCurrency(TransactionView t) {
+        return t == null ? null : t.currency();
     }
 
-    // Target Account: tenta ID direto no Transaction e, se não houver, ID dentro do objeto targetAccount
-    private String extractTargetAccountAny(Transaction t) {
-        if (t == null) return "-";
-
-        // IDs diretos (record / POJO)
-        try { Object v = t.getClass().getMethod("targetAccountId").invoke(t);
-            if (v != null && !v.toString().isBlank()) return v.toString(); } catch (Throwable ignored) { }
-        try { Object v = t.getClass().getMethod("getTargetAccountId").invoke(t);
-            if (v != null && !v.toString().isBlank()) return v.toString(); } catch (Throwable ignored) { }
-
-        // Objeto targetAccount
-        Object ta = null;
-        try { ta = t.getClass().getMethod("targetAccount").invoke(t); } catch (Throwable ignored) {
-            try { ta = t.getClass().getMethod("getTargetAccount").invoke(t); } catch (Throwable ignored2) { }
-        }
-        if (ta != null) {
-            try { Object v = ta.getClass().getMethod("getAccountId").invoke(ta);
-                if (v != null && !v.toString().isBlank()) return v.toString(); } catch (Throwable ignored) { }
-            try { Object v = ta.getClass().getMethod("accountId").invoke(ta);
-                if (v != null && !v.toString().isBlank()) return v.toString(); } catch (Throwable ignored) { }
-            try { Object v = ta.getClass().getMethod("getId").invoke(ta);
-                if (v != null && !v.toString().isBlank()) return v.toString(); } catch (Throwable ignored) { }
-            try { Object v = ta.getClass().getMethod("id").invoke(ta);
-                if (v != null && !v.toString().isBlank()) return v.toString(); } catch (Throwable ignored) { }
-
-            String s = ta.toString();
-            if (s != null && !s.isBlank() && !"null".equalsIgnoreCase(s)) return s;
-        }
-        return "-";
+    private String extractTargetAccountAny(TransactionView t) {
+        return (t == null || t.targetAccountId() == null) ? "-" : t.targetAccountId().toString();
     }
 
     private String formatAmountPlain(BigDecimal v) {
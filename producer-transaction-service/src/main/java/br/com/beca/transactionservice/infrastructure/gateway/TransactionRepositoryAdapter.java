@@ -1,13 +1,22 @@
 package br.com.beca.transactionservice.infrastructure.gateway;
 
 import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
 import br.com.beca.transactionservice.domain.model.Transaction;
 import br.com.beca.transactionservice.domain.model.TransactionStatus;
 import br.com.beca.transactionservice.domain.model.TransactionType;
-import br.com.beca.transactionservice.infrastructure.persistence.model.TransactionEntity;
+import br.com.beca.transactionservice.domain.pagination.PageCursor;
+import br.com.beca.transactionservice.infrastructure.persistence.converter.TransactionTypeConverter;
 import br.com.beca.transactionservice.infrastructure.persistence.repository.TransactionJpaRepository;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.UserTransactionSummaryJpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -15,12 +24,24 @@ import java.util.UUID;
 
 @Repository
 public class TransactionRepositoryAdapter implements TransactionRepository {
+    // categoria faz parte da PK do resumo; "sem categoria" é gravado como vazio
+    private static final String NO_CATEGORY = "";
+
     private final TransactionJpaRepository jpa;
     private final TransactionMapper mapper;
+    private final UserTransactionSummaryJpaRepository summary;
+    private final TransactionTypeConverter typeConverter = new TransactionTypeConverter();
 
-    public TransactionRepositoryAdapter(TransactionJpaRepository jpa, TransactionMapper mapper) {
+    public TransactionRepositoryAdapter(TransactionJpaRepository jpa, TransactionMapper mapper, UserTransactionSummaryJpaRepository summary) {
         this.jpa = jpa;
         this.mapper = mapper;
+        this.summary = summary;
+    }
+
+    @Override
+    public Transaction create(Transaction transaction) {
+        jpa.save(TransactionMapper.toEntity(transaction).markNew());
+        return transaction;
     }
 
     @Override
@@ -35,22 +56,105 @@ public class TransactionRepositoryAdapter implements TransactionRepository {
     }
 
     @Override
-    public List<Transaction> search(
+    @Transactional
+    public Optional<Transaction> cancel(UUID id) {
+        Optional<Transaction> locked = jpa.findByIdForUpdate(id).map(mapper::toDomain);
+        locked.ifPresent(transaction -> {
+            if (transaction.getStatus() == TransactionStatus.APROVADA) {
+                subtractFromSummary(transaction);
+            }
+            transaction.cancel();
+            jpa.save(TransactionMapper.toEntity(transaction));
+        });
+        return locked;
+    }
+
+    // mesma linha que o MS3 incrementou na aprovação: mês UTC de created_at, valor em BRL igual ao do evento
+    private void subtractFromSummary(Transaction transaction) {
+        LocalDate month = UserTransactionSummaryRepositoryAdapter.monthOf(transaction.getCreatedAt());
+        short type = typeConverter.convertToDatabaseColumn(transaction.getType());
+        String category = transaction.getCategory() != null ? transaction.getCategory() : NO_CATEGORY;
+        String currency = transaction.getAmount().currency();
+        BigDecimal amountBrl = transaction.getBrl() != null
+                ? transaction.getBrl()
+                : "BRL".equals(currency) ? transaction.getAmount().value() : null;
+
+        summary.subtract(transaction.getUserId(), month, type, category, currency, transaction.getAmount().value(), amountBrl);
+        summary.deleteIfEmpty(transaction.getUserId(), month, type, category, currency);
+    }
+
+    // read-only: com réplica configurada, listagem e exportação leem dela (ReadReplicaDataSourceConfig)
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionView> search(
             UUID userId,
             TransactionStatus status,
             TransactionType type,
             LocalDateTime startCreatedAt,
             LocalDateTime endCreatedAt
     ) {
-        List<TransactionEntity> transcationsEntity = jpa.search(
+        return jpa.search(
                 userId,
                 status,
                 type,
                 startCreatedAt,
                 endCreatedAt
                 );
-        return transcationsEntity.stream().map(mapper::toDomain).toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionView> searchPage(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt,
+            PageCursor after,
+            int limit
+    ) {
+        return jpa.searchPage(
+                userId,
+                status,
+                type,
+                startCreatedAt,
+                endCreatedAt,
+                after != null ? after.timestamp() : null,
+                after != null ? after.id() : null,
+                limit
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AggregateRowData> aggregate(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt,
+            List<AggregateDimension> groupBy,
+            int limit
+    ) {
+        return jpa.aggregate(userId, status, type, startCreatedAt, endCreatedAt, groupBy, limit);
+    }
+
+    // sem readOnly de propósito: vai ao primário, porque uma réplica atrasada faria o cursor pular linhas ainda não replicadas
+    @Override
+    @Transactional
+    public List<TransactionView> findChanges(UUID userId, PageCursor after, Duration settleDelay, int limit) {
+        return jpa.findChanges(
+                userId,
+                after != null ? after.timestamp() : null,
+                after != null ? after.id() : null,
+                settleDelay,
+                limit
+        );
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findArchivedBefore() {
+        return Optional.ofNullable(jpa.findArchivedBefore());
+    }
 }
@@ -0,0 +1,38 @@
+package br.com.beca.transactionservice.infrastructure.gateway;
+
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryLineData;
+import br.com.beca.transactionservice.infrastructure.persistence.repository.UserTransactionSummaryJpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class UserTransactionSummaryRepositoryAdapter implements UserTransactionSummaryRepository {
+    private final UserTransactionSummaryJpaRepository jpa;
+
+    public UserTransactionSummaryRepositoryAdapter(UserTransactionSummaryJpaRepository jpa) {
+        this.jpa = jpa;
+    }
+
+    /**
+     * Mês do resumo: primeiro dia do mês de created_at em UTC, como na carga da V7. O LocalDateTime
+     * lido do TIMESTAMPTZ está no fuso da JVM, então é convertido antes de truncar.
+     */
+    public static LocalDate monthOf(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(ZoneOffset.UTC).toLocalDate().withDayOfMonth(1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlySummaryLineData> findByUserAndMonth(UUID userId, YearMonth month) {
+        return jpa.findLines(userId, month.atDay(1));
+    }
+}
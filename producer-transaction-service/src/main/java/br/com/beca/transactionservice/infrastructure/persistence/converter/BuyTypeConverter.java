@@ -0,0 +1,33 @@
+package br.com.beca.transactionservice.infrastructure.persistence.converter;
+
+import br.com.beca.transactionservice.domain.model.BuyType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// smallint na coluna (V6); os códigos são fixos e iguais nos dois serviços, não dependem da ordem do enum
+@Converter
+public class BuyTypeConverter implements AttributeConverter<BuyType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(BuyType value) {
+        if (value == null) return null;
+        return (short) switch (value) {
+            case DEBITO -> 1;
+            case CREDITO -> 2;
+            case PIX -> 3;
+            case CEDULA -> 4;
+        };
+    }
+
+    @Override
+    public BuyType convertToEntityAttribute(Short code) {
+        if (code == null) return null;
+        return switch (code) {
+            case 1 -> BuyType.DEBITO;
+            case 2 -> BuyType.CREDITO;
+            case 3 -> BuyType.PIX;
+            case 4 -> BuyType.CEDULA;
+            default -> throw new IllegalArgumentException("Código de tipo de compra desconhecido: " + code);
+        };
+    }
+}
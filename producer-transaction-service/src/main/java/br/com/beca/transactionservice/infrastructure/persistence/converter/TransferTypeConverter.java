@@ -0,0 +1,33 @@
+package br.com.beca.transactionservice.infrastructure.persistence.converter;
+
+import br.com.beca.transactionservice.domain.model.TransferType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// smallint na coluna (V6); os códigos são fixos e iguais nos dois serviços, não dependem da ordem do enum
+@Converter
+public class TransferTypeConverter implements AttributeConverter<TransferType, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TransferType value) {
+        if (value == null) return null;
+        return (short) switch (value) {
+            case PIX -> 1;
+            case TED -> 2;
+            case DOC -> 3;
+            case TEF -> 4;
+        };
+    }
+
+    @Override
+    public TransferType convertToEntityAttribute(Short code) {
+        if (code == null) return null;
+        return switch (code) {
+            case 1 -> TransferType.PIX;
+            case 2 -> TransferType.TED;
+            case 3 -> TransferType.DOC;
+            case 4 -> TransferType.TEF;
+            default -> throw new IllegalArgumentException("Código de tipo de transferência desconhecido: " + code);
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package br.com.beca.transactionservice.infrastructure.persistence.maintenance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Manutenção das partições mensais de transactions (V5, DEFAULT em V11): cria os meses à frente
+ * e, se {@code app.partitions.retention-months} for configurado, arquiva os que saíram da retenção
+ * (DETACH + schema transactions_archive). Sem configuração nada é arquivado. A lógica fica nas
+ * funções do banco, que se serializam por advisory lock, então várias instâncias podem rodar o
+ * job ao mesmo tempo.
+ */
+@Component
+public class TransactionPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionPartitionMaintenance.class);
+
+    private final JdbcTemplate jdbc;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public TransactionPartitionMaintenance(
+            JdbcTemplate jdbc,
+            @Value("${app.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${app.partitions.retention-months:0}") int retentionMonths
+    ) {
+        this.jdbc = jdbc;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${app.partitions.cron:0 0 3 * * *}", zone = "UTC")
+    public void run() {
+        ensurePartitions();
+        archiveExpired();
+    }
+
+    void ensurePartitions() {
+        jdbc.queryForObject("SELECT transactions_ensure_partitions(?)", Integer.class, monthsAhead);
+    }
+
+    void archiveExpired() {
+        // retenção <= 0 (padrão) desliga o arquivamento
+        if (retentionMonths <= 0) {
+            return;
+        }
+        List<String> archived = jdbc.queryForList(
+                "SELECT * FROM transactions_archive_partitions(?)", String.class, retentionMonths);
+        archived.forEach(name -> log.info("Partição {} desanexada e movida para transactions_archive", name));
+    }
+}
@@ -4,7 +4,9 @@ import br.com.beca.transactionservice.domain.model.BuyType;
 import br.com.beca.transactionservice.domain.model.TransactionStatus;
 import br.com.beca.transactionservice.domain.model.TransactionType;
 import br.com.beca.transactionservice.domain.model.TransferType;
+import br.com.beca.transactionservice.infrastructure.persistence.converter.*;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -13,25 +15,25 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "transactions")
-public class TransactionEntity {
+public class TransactionEntity implements Persistable<UUID> {
     @Id
     private UUID id;
 
     @Column(nullable = false)
     private UUID userId;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransactionTypeConverter.class)
     @Column(nullable = false)
     private TransactionType type;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransactionStatusConverter.class)
     @Column(nullable = false)
     private TransactionStatus status;
 
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal amount;
 
-    @Column(nullable = false)
+    @Column(nullable = false, length = 3)
     private String currency;
 
     @Column(nullable = false)
@@ -47,6 +49,11 @@ public class TransactionEntity {
 
     private LocalDateTime processedAt;
 
+    // preenchido pelo trigger da V8 (criação e mudança de status/processed_at)
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    @Convert(converter = CorrelationIdConverter.class)
     @Column(nullable = false)
     private String correlationId;
 
@@ -58,12 +65,16 @@ public class TransactionEntity {
 
     private Boolean record;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TransferTypeConverter.class)
     private TransferType transferType;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = BuyTypeConverter.class)
     private BuyType buyType;
 
+    // id vem preenchido do domínio; sem isso o save() faria SELECT antes de todo INSERT (merge)
+    @Transient
+    private boolean isNew;
+
 
     public TransactionEntity() {}
 
@@ -109,10 +120,27 @@ public class TransactionEntity {
         this.buyType = buyType;
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    public TransactionEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public UUID getUserId() {
         return userId;
     }
@@ -157,6 +185,10 @@ public class TransactionEntity {
         return processedAt;
     }
 
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
     public String getCorrelationId() {
         return correlationId;
     }
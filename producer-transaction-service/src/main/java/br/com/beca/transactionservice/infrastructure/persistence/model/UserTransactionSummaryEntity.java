@@ -0,0 +1,52 @@
+package br.com.beca.transactionservice.infrastructure.persistence.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// só leitura no MS2; quem grava é o MS3 (upsert ao aprovar)
+@Entity
+@Table(name = "user_transaction_summary")
+public class UserTransactionSummaryEntity {
+    @EmbeddedId
+    private UserTransactionSummaryId id;
+
+    @Column(nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private BigDecimal totalBrl;
+
+    @Column(nullable = false)
+    private long txCount;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    protected UserTransactionSummaryEntity() {
+    }
+
+    public UserTransactionSummaryId getId() {
+        return id;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public BigDecimal getTotalBrl() {
+        return totalBrl;
+    }
+
+    public long getTxCount() {
+        return txCount;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
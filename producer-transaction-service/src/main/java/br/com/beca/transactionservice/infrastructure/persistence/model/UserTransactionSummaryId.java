@@ -0,0 +1,73 @@
+package br.com.beca.transactionservice.infrastructure.persistence.model;
+
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.infrastructure.persistence.converter.TransactionTypeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class UserTransactionSummaryId implements Serializable {
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    // primeiro dia do mês
+    @Column(nullable = false)
+    private LocalDate month;
+
+    @Convert(converter = TransactionTypeConverter.class)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    // '' quando a transação não tem categoria
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    protected UserTransactionSummaryId() {
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserTransactionSummaryId that)) return false;
+        return Objects.equals(userId, that.userId)
+                && Objects.equals(month, that.month)
+                && type == that.type
+                && Objects.equals(category, that.category)
+                && Objects.equals(currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, month, type, category, currency);
+    }
+}
@@ -1,32 +1,19 @@
 package br.com.beca.transactionservice.infrastructure.persistence.repository;
 
-import br.com.beca.transactionservice.domain.model.TransactionStatus;
-import br.com.beca.transactionservice.domain.model.TransactionType;
 import br.com.beca.transactionservice.infrastructure.persistence.model.TransactionEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface TransactionJpaRepository extends JpaRepository<TransactionEntity, UUID> {
+public interface TransactionJpaRepository extends JpaRepository<TransactionEntity, UUID>, TransactionSearchRepository {
 
-    @Query("""
-            SELECT t FROM TransactionEntity t
-            WHERE (:userId IS NULL OR t.userId = :userId)
-              AND (:status IS NULL OR t.status = :status)
-              AND (:type IS NULL OR t.type = :type)
-              AND (CAST(:startCreatedAt AS timestamp) IS NULL OR t.createdAt >= :startCreatedAt)
-              AND (CAST(:endCreatedAt AS timestamp) IS NULL OR t.createdAt <  :endCreatedAt)
-            """)
-    List<TransactionEntity> search(
-            @Param("userId") UUID userId,
-            @Param("status") TransactionStatus status,
-            @Param("type") TransactionType type,
-            @Param("startCreatedAt") LocalDateTime startCreatedAt,
-            @Param("endCreatedAt") LocalDateTime endCreatedAt
-    );
+    // SELECT ... FOR UPDATE: serializa com o MS3, que processa a transação sob o mesmo lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TransactionEntity t where t.id = :id")
+    Optional<TransactionEntity> findByIdForUpdate(@Param("id") UUID id);
 }
-
@@ -0,0 +1,61 @@
+package br.com.beca.transactionservice.infrastructure.persistence.repository;
+
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Buscas com filtros opcionais. O JPQL é montado só com os filtros informados, para o
+ * Postgres planejar cada combinação com o índice certo em vez de um plano genérico.
+ * O resultado é projetado direto em {@link TransactionView}, fora do contexto de persistência.
+ */
+public interface TransactionSearchRepository {
+
+    List<TransactionView> search(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt
+    );
+
+    List<TransactionView> searchPage(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt,
+            LocalDateTime afterCreatedAt,
+            UUID afterId,
+            int limit
+    );
+
+    List<AggregateRowData> aggregate(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt,
+            List<AggregateDimension> groupBy,
+            int limit
+    );
+
+    // corte calculado no banco (ver TransactionSearchRepositoryImpl#commitHorizon)
+    List<TransactionView> findChanges(
+            UUID userId,
+            LocalDateTime afterChangedAt,
+            UUID afterId,
+            Duration settleDelay,
+            int limit
+    );
+
+    // maior limite de created_at já arquivado (V13), nulo se nada foi arquivado
+    LocalDateTime findArchivedBefore();
+}
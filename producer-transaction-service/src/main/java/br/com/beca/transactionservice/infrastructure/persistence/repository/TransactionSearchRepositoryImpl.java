@@ -0,0 +1,247 @@
+package br.com.beca.transactionservice.infrastructure.persistence.repository;
+
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// fragmento do TransactionJpaRepository (sufixo Impl é o que o Spring Data procura)
+public class TransactionSearchRepositoryImpl implements TransactionSearchRepository {
+
+    // construtor no JPQL: Hibernate lê só essas colunas e não gerencia o resultado (sem snapshot nem dirty checking)
+    private static final String SELECT_VIEW = """
+            SELECT new br.com.beca.transactionservice.domain.dto.TransactionView(
+                t.id, t.userId, t.type, t.status, t.amount, t.currency, t.targetAccountId,
+                t.transferType, t.buyType, t.description, t.category, t.record, t.brl, t.fxRate,
+                t.rejectionReason, t.createdAt, t.processedAt, t.changedAt)
+            FROM TransactionEntity t""";
+
+    // brl só é gravado quando houve câmbio; transação já em BRL vale o próprio amount
+    static final String BRL_EQUIVALENT = "coalesce(t.brl, case when t.currency = 'BRL' then t.amount end)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TransactionView> search(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt
+    ) {
+        Where where = filters(userId, status, type, startCreatedAt, endCreatedAt);
+        return where.query(entityManager, SELECT_VIEW, "", TransactionView.class).getResultList();
+    }
+
+    @Override
+    public List<TransactionView> searchPage(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt,
+            LocalDateTime afterCreatedAt,
+            UUID afterId,
+            int limit
+    ) {
+        Where where = filters(userId, status, type, startCreatedAt, endCreatedAt);
+        if (afterCreatedAt != null && afterId != null) {
+            // comparação de tupla vira (created_at, id) < (?, ?) e o Postgres usa como faixa do índice;
+            // o Postgres não poda partição por tupla, o created_at <= redundante é o que descarta os meses seguintes
+            where.and("(t.createdAt, t.id) < (:afterCreatedAt, :afterId)")
+                    .and("t.createdAt <= :afterCreatedAt")
+                    .bind("afterCreatedAt", afterCreatedAt)
+                    .bind("afterId", afterId);
+        }
+        return where.query(entityManager, SELECT_VIEW, " ORDER BY t.createdAt DESC, t.id DESC", TransactionView.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<AggregateRowData> aggregate(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt,
+            List<AggregateDimension> groupBy,
+            int limit
+    ) {
+        Where where = filters(userId, status, type, startCreatedAt, endCreatedAt);
+        String columns = String.join(", ", groupBy.stream().map(TransactionSearchRepositoryImpl::column).toList());
+        // soma nominal só dentro de uma moeda; sem moeda no agrupamento o total comparável é o em BRL
+        boolean byCurrency = groupBy.contains(AggregateDimension.CURRENCY);
+        String select = "SELECT " + (columns.isEmpty() ? "" : columns + ", ")
+                + (byCurrency ? "count(t), sum(t.amount), sum(" + BRL_EQUIVALENT + ")" : "count(t), sum(" + BRL_EQUIVALENT + ")")
+                + " FROM TransactionEntity t";
+        String tail = columns.isEmpty() ? "" : " GROUP BY " + columns + " ORDER BY " + columns;
+
+        List<Object[]> tuples = where.query(entityManager, select, tail, Object[].class)
+                .setMaxResults(limit)
+                .getResultList();
+        return tuples.stream().map(tuple -> toRow(groupBy, tuple)).toList();
+    }
+
+    @Override
+    public List<TransactionView> findChanges(
+            UUID userId,
+            LocalDateTime afterChangedAt,
+            UUID afterId,
+            Duration settleDelay,
+            int limit
+    ) {
+        // o corte vem antes, em outro statement: o SELECT abaixo tira snapshot depois dele e
+        // enxerga tudo que já tinha commitado quando o corte foi calculado
+        LocalDateTime settledBefore = commitHorizon(settleDelay);
+        Where where = new Where()
+                .and("t.userId = :userId").bind("userId", userId)
+                .and("t.changedAt < :settledBefore").bind("settledBefore", settledBefore);
+        if (afterChangedAt != null && afterId != null) {
+            // mesma ideia da listagem, no sentido crescente: faixa (changed_at, id) > (?, ?) do idx_transactions_user_changed_id
+            where.and("(t.changedAt, t.id) > (:afterChangedAt, :afterId)")
+                    .bind("afterChangedAt", afterChangedAt)
+                    .bind("afterId", afterId);
+        }
+        return where.query(entityManager, SELECT_VIEW, " ORDER BY t.changedAt, t.id", TransactionView.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * changed_at é o clock_timestamp() do UPDATE, mas a linha só aparece no commit. Toda escrita
+     * ainda aberta começou em xact_start <= changed_at, então o menor xact_start entre as transações
+     * de escrita abertas (ou com statement rodando, antes de ganhar xid) é um corte seguro, medido no
+     * relógio do banco, não da aplicação. Precisa ver as sessões do MS3: mesmo usuário do banco ou
+     * pg_read_all_stats.
+     */
+    private LocalDateTime commitHorizon(Duration settleDelay) {
+        Number epochSeconds = (Number) entityManager.createNativeQuery(COMMIT_HORIZON)
+                .setParameter("delaySeconds", settleDelay.toMillis() / 1000.0)
+                .getSingleResult();
+        long micros = Math.round(epochSeconds.doubleValue() * 1_000_000);
+        return LocalDateTime.ofInstant(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), ZoneId.systemDefault());
+    }
+
+    private static final String COMMIT_HORIZON = """
+            SELECT EXTRACT(EPOCH FROM LEAST(clock_timestamp(), COALESCE(min(xact_start), clock_timestamp()))
+                   - make_interval(secs => :delaySeconds))
+            FROM pg_stat_activity
+            WHERE backend_type = 'client backend'
+              AND pid <> pg_backend_pid()
+              AND xact_start IS NOT NULL
+              AND (backend_xid IS NOT NULL OR state = 'active')
+            """;
+
+    @Override
+    public LocalDateTime findArchivedBefore() {
+        Number epochSeconds = (Number) entityManager
+                .createNativeQuery("SELECT EXTRACT(EPOCH FROM max(created_before)) FROM transactions_archived_ranges")
+                .getSingleResult();
+        if (epochSeconds == null) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSeconds.longValue()), ZoneId.systemDefault());
+    }
+
+    // só expressões fixas daqui entram no GROUP BY
+    private static String column(AggregateDimension dimension) {
+        return switch (dimension) {
+            case TYPE -> "t.type";
+            case STATUS -> "t.status";
+            case CATEGORY -> "t.category";
+            case CURRENCY -> "t.currency";
+            case DAY -> "cast(t.createdAt as LocalDate)";
+        };
+    }
+
+    private static AggregateRowData toRow(List<AggregateDimension> groupBy, Object[] tuple) {
+        TransactionType type = null;
+        TransactionStatus status = null;
+        String category = null;
+        String currency = null;
+        LocalDate day = null;
+        for (int i = 0; i < groupBy.size(); i++) {
+            Object value = tuple[i];
+            switch (groupBy.get(i)) {
+                case TYPE -> type = (TransactionType) value;
+                case STATUS -> status = (TransactionStatus) value;
+                case CATEGORY -> category = (String) value;
+                case CURRENCY -> currency = (String) value;
+                case DAY -> day = (LocalDate) value;
+            }
+        }
+        int metrics = groupBy.size();
+        boolean byCurrency = groupBy.contains(AggregateDimension.CURRENCY);
+        return new AggregateRowData(
+                type, status, category, currency, day,
+                ((Number) tuple[metrics]).longValue(),
+                byCurrency ? (BigDecimal) tuple[metrics + 1] : null,
+                (BigDecimal) tuple[byCurrency ? metrics + 2 : metrics + 1]
+        );
+    }
+
+    private static Where filters(
+            UUID userId,
+            TransactionStatus status,
+            TransactionType type,
+            LocalDateTime startCreatedAt,
+            LocalDateTime endCreatedAt
+    ) {
+        Where where = new Where();
+        if (userId != null) {
+            where.and("t.userId = :userId").bind("userId", userId);
+        }
+        if (status != null) {
+            where.and("t.status = :status").bind("status", status);
+        }
+        if (type != null) {
+            where.and("t.type = :type").bind("type", type);
+        }
+        if (startCreatedAt != null) {
+            where.and("t.createdAt >= :startCreatedAt").bind("startCreatedAt", startCreatedAt);
+        }
+        if (endCreatedAt != null) {
+            where.and("t.createdAt < :endCreatedAt").bind("endCreatedAt", endCreatedAt);
+        }
+        return where;
+    }
+
+    private static final class Where {
+        private final StringBuilder clauses = new StringBuilder();
+        private final Map<String, Object> params = new LinkedHashMap<>();
+
+        Where and(String clause) {
+            clauses.append(clauses.isEmpty() ? " WHERE " : " AND ").append(clause);
+            return this;
+        }
+
+        Where bind(String name, Object value) {
+            params.put(name, value);
+            return this;
+        }
+
+        <R> TypedQuery<R> query(EntityManager entityManager, String select, String tail, Class<R> resultType) {
+            TypedQuery<R> query = entityManager.createQuery(select + clauses + tail, resultType);
+            params.forEach(query::setParameter);
+            return query;
+        }
+    }
+}
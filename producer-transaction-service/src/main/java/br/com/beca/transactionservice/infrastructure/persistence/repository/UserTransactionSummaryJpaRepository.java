@@ -0,0 +1,61 @@
+package br.com.beca.transactionservice.infrastructure.persistence.repository;
+
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryLineData;
+import br.com.beca.transactionservice.infrastructure.persistence.model.UserTransactionSummaryEntity;
+import br.com.beca.transactionservice.infrastructure.persistence.model.UserTransactionSummaryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface UserTransactionSummaryJpaRepository extends JpaRepository<UserTransactionSummaryEntity, UserTransactionSummaryId> {
+
+    // prefixo (user_id, month) da PK: lê uma linha por tipo/categoria/moeda do mês
+    @Query("""
+            SELECT new br.com.beca.transactionservice.domain.dto.MonthlySummaryLineData(
+                s.id.type, NULLIF(s.id.category, ''), s.id.currency, s.totalAmount, s.totalBrl, s.txCount)
+            FROM UserTransactionSummaryEntity s
+            WHERE s.id.userId = :userId AND s.id.month = :month
+            ORDER BY s.id.type, s.totalBrl DESC
+            """)
+    List<MonthlySummaryLineData> findLines(@Param("userId") UUID userId, @Param("month") LocalDate month);
+
+    // aprovada que foi cancelada sai do resumo; a linha que zera é removida em seguida
+    @Modifying
+    @Query(value = """
+            UPDATE user_transaction_summary SET
+                total_amount = total_amount - :amount,
+                total_brl = total_brl - COALESCE(:amountBrl, 0),
+                tx_count = tx_count - 1,
+                updated_at = now()
+            WHERE user_id = :userId AND month = :month AND type = :type AND category = :category AND currency = :currency
+            """, nativeQuery = true)
+    int subtract(
+            @Param("userId") UUID userId,
+            @Param("month") LocalDate month,
+            @Param("type") short type,
+            @Param("category") String category,
+            @Param("currency") String currency,
+            @Param("amount") BigDecimal amount,
+            @Param("amountBrl") BigDecimal amountBrl
+    );
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM user_transaction_summary
+            WHERE user_id = :userId AND month = :month AND type = :type AND category = :category AND currency = :currency
+              AND tx_count <= 0
+            """, nativeQuery = true)
+    int deleteIfEmpty(
+            @Param("userId") UUID userId,
+            @Param("month") LocalDate month,
+            @Param("type") short type,
+            @Param("category") String category,
+            @Param("currency") String currency
+    );
+}
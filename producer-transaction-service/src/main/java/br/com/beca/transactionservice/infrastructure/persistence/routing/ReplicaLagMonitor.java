@@ -0,0 +1,90 @@
+package br.com.beca.transactionservice.infrastructure.persistence.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede periodicamente o atraso de replay da réplica. Enquanto a medição falhar ou passar de
+ * {@code maxLag}, a réplica é considerada indisponível e as leituras voltam para o primário.
+ * Começa indisponível até a primeira medição dar certo.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // réplica em dia (tudo que recebeu já aplicou) conta como atraso zero, mesmo com o primário ocioso;
+    // só vale com o WAL receiver em streaming: desconectada, "aplicou tudo que recebeu" não diz nada
+    // e a consulta devolve NULL. O usuário da réplica precisa de pg_read_all_stats para ver o status
+    // do receiver; sem ela a réplica nunca é usada
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "replica-lag-monitor");
+        t.setDaemon(true);
+        return t;
+    });
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    void check() {
+        boolean nowAvailable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+            rs.next();
+            double lagSeconds = rs.getDouble(1);
+            if (rs.wasNull()) {
+                nowAvailable = false;
+                if (available) {
+                    log.warn("Réplica sem streaming do primário; leituras voltam para o primário");
+                }
+            } else {
+                nowAvailable = lagSeconds <= maxLagSeconds;
+                if (!nowAvailable && available) {
+                    log.warn("Réplica com atraso de {}s (limite {}s); leituras voltam para o primário", lagSeconds, maxLagSeconds);
+                }
+            }
+        } catch (Exception e) {
+            nowAvailable = false;
+            if (available) {
+                log.warn("Réplica indisponível, leituras voltam para o primário: {}", e.getMessage());
+            }
+        }
+        if (nowAvailable && !available) {
+            log.info("Réplica disponível para leituras");
+        }
+        available = nowAvailable;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
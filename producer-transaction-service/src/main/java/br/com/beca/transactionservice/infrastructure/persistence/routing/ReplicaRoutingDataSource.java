@@ -0,0 +1,29 @@
+package br.com.beca.transactionservice.infrastructure.persistence.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Transações {@code readOnly} vão para a réplica quando o {@link ReplicaLagMonitor} a considera em dia;
+ * todo o resto (escritas, leituras fora de transação read-only) fica no primário.
+ * Precisa estar atrás de um {@code LazyConnectionDataSourceProxy}, senão a conexão é obtida antes
+ * de a transação ser marcada como read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && monitor.isAvailable()) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+
+// valor do store user-spending-by-category: total em BRL gasto por categoria
+public record CategorySpending(Map<String, BigDecimal> totals) {
+
+    public static CategorySpending empty() {
+        return new CategorySpending(new TreeMap<>());
+    }
+
+    public CategorySpending add(String category, BigDecimal amountBrl) {
+        Map<String, BigDecimal> next = new TreeMap<>(totals);
+        next.merge(category, amountBrl, BigDecimal::add);
+        return new CategorySpending(next);
+    }
+}
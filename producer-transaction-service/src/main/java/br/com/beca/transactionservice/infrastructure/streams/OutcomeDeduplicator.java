@@ -0,0 +1,53 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.WindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+
+import java.time.Duration;
+
+/**
+ * Descarta o resultado de uma transação já visto dentro da retenção. O MS3 publica pelo outbox
+ * (pelo menos uma vez), então o mesmo transactionId pode chegar de novo; como a chave é o userId,
+ * repetições caem na mesma partição e o store local basta.
+ */
+class OutcomeDeduplicator implements FixedKeyProcessor<String, TransactionOutcomeEvent, TransactionOutcomeEvent> {
+
+    private final String storeName;
+    private final long retentionMillis;
+
+    private FixedKeyProcessorContext<String, TransactionOutcomeEvent> context;
+    private WindowStore<String, Long> seen;
+
+    OutcomeDeduplicator(String storeName, Duration retention) {
+        this.storeName = storeName;
+        this.retentionMillis = retention.toMillis();
+    }
+
+    @Override
+    public void init(FixedKeyProcessorContext<String, TransactionOutcomeEvent> context) {
+        this.context = context;
+        this.seen = context.getStateStore(storeName);
+    }
+
+    @Override
+    public void process(FixedKeyRecord<String, TransactionOutcomeEvent> record) {
+        TransactionOutcomeEvent event = record.value();
+        if (event == null || event.transactionId() == null) {
+            return;
+        }
+        String transactionId = event.transactionId().toString();
+        long timestamp = record.timestamp();
+        try (WindowStoreIterator<Long> previous = seen.fetch(transactionId,
+                timestamp - retentionMillis, timestamp + retentionMillis)) {
+            if (previous.hasNext()) {
+                return;
+            }
+        }
+        seen.put(transactionId, timestamp, timestamp);
+        context.forward(record);
+    }
+}
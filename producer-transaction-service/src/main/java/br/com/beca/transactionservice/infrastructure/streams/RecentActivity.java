@@ -0,0 +1,28 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.dto.ActivityItemData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// valor do store user-recent-activity: últimas N transações finalizadas, mais recente primeiro
+public record RecentActivity(List<ActivityItemData> items) {
+
+    public static RecentActivity empty() {
+        return new RecentActivity(List.of());
+    }
+
+    public RecentActivity push(ActivityItemData item, int maxSize) {
+        List<ActivityItemData> next = new ArrayList<>(Math.min(items.size() + 1, maxSize));
+        next.add(item);
+        for (ActivityItemData existing : items) {
+            if (next.size() >= maxSize) {
+                break;
+            }
+            if (!existing.transactionId().equals(item.transactionId())) {
+                next.add(existing);
+            }
+        }
+        return new RecentActivity(next);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.dto.TypeTotalData;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+
+// valor do store user-totals-by-type: quantidade e soma em BRL das transações aprovadas por tipo
+public record TypeTotals(Map<TransactionType, TypeTotalData> totals) {
+
+    public static TypeTotals empty() {
+        return new TypeTotals(new EnumMap<>(TransactionType.class));
+    }
+
+    public TypeTotals add(TransactionType type, BigDecimal amountBrl) {
+        Map<TransactionType, TypeTotalData> next = totals.isEmpty()
+                ? new EnumMap<>(TransactionType.class)
+                : new EnumMap<>(totals);
+        next.merge(type, new TypeTotalData(1, amountBrl),
+                (current, increment) -> new TypeTotalData(
+                        current.count() + increment.count(),
+                        current.totalBrl().add(increment.totalBrl())));
+        return new TypeTotals(next);
+    }
+}
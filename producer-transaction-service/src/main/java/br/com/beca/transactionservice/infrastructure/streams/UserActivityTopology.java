@@ -0,0 +1,114 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.dto.ActivityItemData;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.Stores;
+import org.springframework.kafka.support.serializer.JacksonJsonSerde;
+
+import java.time.Duration;
+
+/**
+ * Agregados por usuário a partir de {@code transaction.outcome} (chave = userId, já particionado
+ * pelo MS3, então não há repartition). Cada KTable fica num store RocksDB local consultado
+ * pelo endpoint de resumo. Antes de agregar, resultados repetidos do mesmo transactionId são
+ * descartados ({@link #OUTCOME_DEDUPE}), então reenvio do outbox não soma duas vezes:
+ * <ul>
+ *   <li>{@link #SPENDING_BY_CATEGORY}: saídas aprovadas (saque, transferência, compra) por categoria</li>
+ *   <li>{@link #TOTALS_BY_TYPE}: quantidade e soma em BRL das aprovadas por tipo</li>
+ *   <li>{@link #RECENT_ACTIVITY}: últimas N finalizadas, aprovadas ou rejeitadas</li>
+ * </ul>
+ */
+public final class UserActivityTopology {
+
+    public static final String SPENDING_BY_CATEGORY = "user-spending-by-category";
+    public static final String TOTALS_BY_TYPE = "user-totals-by-type";
+    public static final String RECENT_ACTIVITY = "user-recent-activity";
+    public static final String OUTCOME_DEDUPE = "transaction-outcome-dedupe";
+
+    static final String NO_CATEGORY = "SEM_CATEGORIA";
+
+    private UserActivityTopology() {
+    }
+
+    public static KStream<String, TransactionOutcomeEvent> define(
+            StreamsBuilder builder, String outcomeTopic, int recentSize, Duration dedupeRetention) {
+        builder.addStateStore(Stores.windowStoreBuilder(
+                Stores.persistentWindowStore(OUTCOME_DEDUPE, dedupeRetention, dedupeRetention, false),
+                Serdes.String(), Serdes.Long()));
+
+        KStream<String, TransactionOutcomeEvent> outcomes = builder
+                .stream(outcomeTopic, Consumed.with(Serdes.String(), jsonSerde(TransactionOutcomeEvent.class)))
+                .processValues(() -> new OutcomeDeduplicator(OUTCOME_DEDUPE, dedupeRetention), OUTCOME_DEDUPE);
+
+        KStream<String, TransactionOutcomeEvent> approved = outcomes
+                .filter((userId, event) -> event != null
+                        && event.status() == TransactionStatus.APROVADA
+                        && event.amountBrl() != null);
+
+        approved
+                .filter((userId, event) -> event.type() != TransactionType.DEPOSITO)
+                .groupByKey(Grouped.with(Serdes.String(), jsonSerde(TransactionOutcomeEvent.class)))
+                .aggregate(
+                        CategorySpending::empty,
+                        (userId, event, spending) -> spending.add(categoryOf(event), event.amountBrl()),
+                        Materialized.<String, CategorySpending, KeyValueStore<Bytes, byte[]>>as(SPENDING_BY_CATEGORY)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(jsonSerde(CategorySpending.class)));
+
+        approved
+                .groupByKey(Grouped.with(Serdes.String(), jsonSerde(TransactionOutcomeEvent.class)))
+                .aggregate(
+                        TypeTotals::empty,
+                        (userId, event, totals) -> totals.add(event.type(), event.amountBrl()),
+                        Materialized.<String, TypeTotals, KeyValueStore<Bytes, byte[]>>as(TOTALS_BY_TYPE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(jsonSerde(TypeTotals.class)));
+
+        outcomes
+                .filter((userId, event) -> event != null)
+                .groupByKey(Grouped.with(Serdes.String(), jsonSerde(TransactionOutcomeEvent.class)))
+                .aggregate(
+                        RecentActivity::empty,
+                        (userId, event, recent) -> recent.push(toActivity(event), recentSize),
+                        Materialized.<String, RecentActivity, KeyValueStore<Bytes, byte[]>>as(RECENT_ACTIVITY)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(jsonSerde(RecentActivity.class)));
+
+        return outcomes;
+    }
+
+    static <T> Serde<T> jsonSerde(Class<T> type) {
+        // payload sem header de tipo: o MS3 publica a própria classe, aqui o tipo é fixo por tópico/store
+        return new JacksonJsonSerde<>(type).noTypeInfo().ignoreTypeHeaders();
+    }
+
+    private static String categoryOf(TransactionOutcomeEvent event) {
+        if (event.category() != null && !event.category().isBlank()) {
+            return event.category();
+        }
+        return event.type() == TransactionType.COMPRA ? NO_CATEGORY : event.type().name();
+    }
+
+    private static ActivityItemData toActivity(TransactionOutcomeEvent event) {
+        return new ActivityItemData(
+                event.transactionId(),
+                event.type(),
+                event.status(),
+                event.amount(),
+                event.currency(),
+                event.category(),
+                event.occurredAt()
+        );
+    }
+}
@@ -3,15 +3,19 @@ package br.com.beca.transactionservice.infrastructure.web.controller;
 import br.com.beca.transactionservice.application.usecase.*;
 import br.com.beca.transactionservice.domain.dto.*;
 import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.pagination.CursorPage;
 import br.com.beca.transactionservice.infrastructure.web.service.ExtractInfoFromToken;
+import br.com.beca.transactionservice.infrastructure.web.sse.TransactionStatusStreamHub;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,6 +31,12 @@ public class TransactionController {
     private final CancelTransactionUseCase cancelTransactionUseCase;
     private final ListTransactionsUseCase listTransactionsUseCase;
     private final ExportPdfTransactionsUseCase exportPdfTransactionsUseCase;
+    private final GetUserActivitySummaryUseCase getUserActivitySummaryUseCase;
+    private final GetTransactionStatusUseCase getTransactionStatusUseCase;
+    private final TransactionStatusStreamHub statusStreamHub;
+    private final GetMonthlySummaryUseCase getMonthlySummaryUseCase;
+    private final AggregateTransactionsUseCase aggregateTransactionsUseCase;
+    private final ListTransactionChangesUseCase listTransactionChangesUseCase;
 
     public TransactionController(
             CreateDepositUseCase createDepositUseCase,
@@ -34,7 +44,13 @@ public class TransactionController {
             CreateTransferUseCase createTransferUseCase,
             CreateBuyUseCase createBuyUseCase,
             ExtractInfoFromToken extractInfoFromToken,
-            CancelTransactionUseCase cancelTransactionUseCase, ListTransactionsUseCase listTransactionsUseCase, ExportPdfTransactionsUseCase exportPdfTransactionsUseCase
+            CancelTransactionUseCase cancelTransactionUseCase, ListTransactionsUseCase listTransactionsUseCase, ExportPdfTransactionsUseCase exportPdfTransactionsUseCase,
+            GetUserActivitySummaryUseCase getUserActivitySummaryUseCase,
+            GetTransactionStatusUseCase getTransactionStatusUseCase,
+            TransactionStatusStreamHub statusStreamHub,
+            GetMonthlySummaryUseCase getMonthlySummaryUseCase,
+            AggregateTransactionsUseCase aggregateTransactionsUseCase,
+            ListTransactionChangesUseCase listTransactionChangesUseCase
     ) {
         this.createDepositUseCase = createDepositUseCase;
         this.createWithdrawalUseCase = createWithdrawalUseCase;
@@ -44,6 +60,12 @@ public class TransactionController {
         this.cancelTransactionUseCase = cancelTransactionUseCase;
         this.listTransactionsUseCase = listTransactionsUseCase;
         this.exportPdfTransactionsUseCase = exportPdfTransactionsUseCase;
+        this.getUserActivitySummaryUseCase = getUserActivitySummaryUseCase;
+        this.getTransactionStatusUseCase = getTransactionStatusUseCase;
+        this.statusStreamHub = statusStreamHub;
+        this.getMonthlySummaryUseCase = getMonthlySummaryUseCase;
+        this.aggregateTransactionsUseCase = aggregateTransactionsUseCase;
+        this.listTransactionChangesUseCase = listTransactionChangesUseCase;
     }
 
     @PostMapping("/deposit")
@@ -82,12 +104,51 @@ public class TransactionController {
     }
 
     @GetMapping()
-    public ResponseEntity<List<Transaction>> listTransactionsTransaction(@RequestBody FilterListTransactionData body, HttpServletRequest request) {
+    public ResponseEntity<CursorPage<TransactionView>> listTransactionsTransaction(@RequestBody FilterListTransactionData body, HttpServletRequest request) {
         TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
-        List<Transaction> list = listTransactionsUseCase.execute(body, tokenData);
-        return ResponseEntity.ok(list);
+        CursorPage<TransactionView> page = listTransactionsUseCase.execute(body, tokenData);
+        return ResponseEntity.ok(page);
     }
 
+    // mesmos filtros da listagem, agrupados no banco: groupBy=type,status,category,currency,day
+    @GetMapping("/aggregate")
+    public ResponseEntity<AggregateResultData> aggregateTransactions(@RequestParam(required = false) List<String> groupBy, @RequestBody FilterListTransactionData body, HttpServletRequest request) {
+        TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
+        return ResponseEntity.ok(aggregateTransactionsUseCase.execute(body, groupBy, tokenData));
+    }
+
+    @GetMapping("/{id}/status")
+    public ResponseEntity<TransactionStatusData> transactionStatus(@PathVariable UUID id, HttpServletRequest request) {
+        TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
+        return ResponseEntity.ok(getTransactionStatusUseCase.execute(id, tokenData));
+    }
+
+    // mudanças de status do usuário autenticado; reconexão com Last-Event-ID reenvia o que ficou para trás
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter statusStream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId, HttpServletRequest request) {
+        TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
+        return statusStreamHub.subscribe(UUID.fromString(tokenData.userId()), lastEventId);
+    }
+
+    // servido dos stores locais do Kafka Streams, sem consulta à tabela transactions
+    @GetMapping("/summary")
+    public ResponseEntity<UserActivitySummaryData> userActivitySummary(@RequestParam(required = false) UUID userId, HttpServletRequest request) {
+        TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
+        return ResponseEntity.ok(getUserActivitySummaryUseCase.execute(userId, tokenData));
+    }
+    // sync incremental: criadas ou alteradas depois de since (cursor devolvido pela chamada anterior)
+    @GetMapping("/changes")
+    public ResponseEntity<TransactionChangesData> transactionChanges(@RequestParam(required = false) String since, @RequestParam(required = false) Integer size, @RequestParam(required = false) UUID userId, HttpServletRequest request) {
+        TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
+        return ResponseEntity.ok(listTransactionChangesUseCase.execute(userId, since, size, tokenData));
+    }
+
+    // totais do mês lidos do read model user_transaction_summary (month=AAAA-MM, padrão mês corrente)
+    @GetMapping("/summary/monthly")
+    public ResponseEntity<MonthlySummaryData> monthlySummary(@RequestParam(required = false) UUID userId, @RequestParam(required = false) YearMonth month, HttpServletRequest request) {
+        TokenInfoData tokenData = extractInfoFromToken.tokenInfo(request);
+        return ResponseEntity.ok(getMonthlySummaryUseCase.execute(userId, month, tokenData));
+    }
 
     @PostMapping(
             path = "/export",
@@ -3,7 +3,9 @@ package br.com.beca.transactionservice.infrastructure.web.globalexceptions;
 import br.com.beca.transactionservice.domain.exception.FieldIsException;
 import br.com.beca.transactionservice.domain.exception.NotFoundException;
 import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.exception.SummaryUnavailableException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -62,9 +64,12 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.NOT_FOUND)
                 .body(ex.getMessage());
     }
-}
-
-
-
-
 
+    @ExceptionHandler(SummaryUnavailableException.class)
+    public ResponseEntity<String> summaryUnavailableException(SummaryUnavailableException ex) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+}
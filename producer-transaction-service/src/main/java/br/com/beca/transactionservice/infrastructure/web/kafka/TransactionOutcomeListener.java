@@ -0,0 +1,54 @@
+package br.com.beca.transactionservice.infrastructure.web.kafka;
+
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cada instância lê todas as partições de {@code transaction.outcome} (group id próprio por
+ * instância, sem commit de offset) e, ao subir, volta até o início da retenção da projeção.
+ */
+@Component
+public class TransactionOutcomeListener implements ConsumerSeekAware {
+
+    private final TransactionStatusProjection projection;
+    private final Duration warmup;
+
+    public TransactionOutcomeListener(
+            TransactionStatusProjection projection,
+            @Value("${app.status-projection.retention:24h}") Duration warmup
+    ) {
+        this.projection = projection;
+        this.warmup = warmup;
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToTimestamp(assignments.keySet(), System.currentTimeMillis() - warmup.toMillis());
+    }
+
+    @KafkaListener(
+            topics = "${app.kafka.topics.outcome}",
+            groupId = "${app.status-projection.group-id}",
+            containerFactory = "outcomeListenerContainerFactory"
+    )
+    public void onMessage(TransactionOutcomeEvent event) {
+        projection.apply(new TransactionStatusData(
+                event.transactionId(),
+                event.userId(),
+                event.status(),
+                event.amountBrl(),
+                event.fxRate(),
+                event.rejectionReason(),
+                event.occurredAt()
+        ));
+    }
+}
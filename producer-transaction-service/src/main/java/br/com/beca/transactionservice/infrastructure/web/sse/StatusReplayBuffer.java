@@ -0,0 +1,58 @@
+package br.com.beca.transactionservice.infrastructure.web.sse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Últimos eventos de status de um usuário, para reenviar a quem reconecta com Last-Event-ID.
+ * Se o id informado é anterior ao que já foi descartado, {@link Replay#gap()} avisa que há
+ * buraco e o cliente precisa reconsultar o status.
+ */
+final class StatusReplayBuffer {
+
+    private final int maxSize;
+    private final Deque<StatusStreamEvent> events = new ArrayDeque<>();
+    private long droppedUpToId;
+
+    StatusReplayBuffer(int maxSize) {
+        this(maxSize, Long.MIN_VALUE);
+    }
+
+    // coversAfterId: último id que este buffer nunca viu; Last-Event-ID anterior a ele é buraco
+    StatusReplayBuffer(int maxSize, long coversAfterId) {
+        this.maxSize = maxSize;
+        this.droppedUpToId = coversAfterId;
+    }
+
+    synchronized void add(StatusStreamEvent event) {
+        events.addLast(event);
+        while (events.size() > maxSize) {
+            droppedUpToId = events.removeFirst().id();
+        }
+    }
+
+    synchronized Replay since(long lastEventId) {
+        List<StatusStreamEvent> missed = new ArrayList<>();
+        for (StatusStreamEvent event : events) {
+            if (event.id() > lastEventId) {
+                missed.add(event);
+            }
+        }
+        return new Replay(lastEventId < droppedUpToId, missed);
+    }
+
+    synchronized void expireBefore(long cutoffMillis) {
+        while (!events.isEmpty() && events.peekFirst().createdAtMillis() < cutoffMillis) {
+            droppedUpToId = events.removeFirst().id();
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return events.isEmpty();
+    }
+
+    record Replay(boolean gap, List<StatusStreamEvent> events) {
+    }
+}
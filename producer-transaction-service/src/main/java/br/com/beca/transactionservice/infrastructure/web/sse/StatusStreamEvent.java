@@ -0,0 +1,6 @@
+package br.com.beca.transactionservice.infrastructure.web.sse;
+
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+
+record StatusStreamEvent(long id, TransactionStatusData status, long createdAtMillis) {
+}
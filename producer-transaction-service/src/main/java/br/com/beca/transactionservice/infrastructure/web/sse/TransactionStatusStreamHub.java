@@ -0,0 +1,245 @@
+package br.com.beca.transactionservice.infrastructure.web.sse;
+
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.infrastructure.gateway.InMemoryTransactionStatusProjection;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Distribui as mudanças da projeção de status para as conexões SSE do dono da transação.
+ * A conexão não prende thread do Tomcat (request assíncrono); os envios saem de um pool pequeno,
+ * com fila por conexão para manter a ordem e isolar cliente lento: quem acumula mais que
+ * {@code app.sse.max-pending} eventos é desconectado e retoma pelo Last-Event-ID.
+ * Ids começam no relógio em microssegundos, então continuam crescendo depois de um restart,
+ * mas são desta instância: o Last-Event-ID só é retomado aqui se um buffer local cobre o id;
+ * reconexão que cai em outra instância, ou depois de o buffer expirar, recebe {@code reset}.
+ */
+@Component
+public class TransactionStatusStreamHub {
+
+    private final Map<UUID, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<UUID, StatusReplayBuffer> replay = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Duration timeout;
+    private final Duration replayWindow;
+    private final int replaySize;
+    private final int maxConnections;
+    private final int maxPending;
+    private final ExecutorService senders;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "sse-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public TransactionStatusStreamHub(
+            InMemoryTransactionStatusProjection projection,
+            @Value("${app.sse.timeout:30m}") Duration timeout,
+            @Value("${app.sse.heartbeat:15s}") Duration heartbeat,
+            @Value("${app.sse.replay-window:15m}") Duration replayWindow,
+            @Value("${app.sse.replay-size:50}") int replaySize,
+            @Value("${app.sse.max-connections:10000}") int maxConnections,
+            @Value("${app.sse.max-pending:100}") int maxPending,
+            @Value("${app.sse.sender-threads:4}") int senderThreads
+    ) {
+        this.timeout = timeout;
+        this.replayWindow = replayWindow;
+        this.replaySize = replaySize;
+        this.maxConnections = maxConnections;
+        this.maxPending = maxPending;
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "sse-sender");
+            t.setDaemon(true);
+            return t;
+        });
+        projection.addListener(this::publish);
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::expireReplay, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Limite de conexões de status atingido");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscription subscription = new Subscription(userId, emitter);
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            Set<Subscription> target = userSubscriptions == null ? ConcurrentHashMap.newKeySet() : userSubscriptions;
+            target.add(subscription);
+            return target;
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        // primeiro envio abre o stream mesmo atrás de proxy e informa o intervalo de reconexão
+        subscription.enqueue(SseEmitter.event().comment("conectado").reconnectTime(3000));
+        replayMissed(subscription, lastEventId);
+        return emitter;
+    }
+
+    void publish(TransactionStatusData status) {
+        StatusStreamEvent event = new StatusStreamEvent(sequence.incrementAndGet(), status, System.currentTimeMillis());
+        // buffer novo só responde por ids a partir deste evento; Last-Event-ID anterior é buraco
+        replay.computeIfAbsent(status.userId(), id -> new StatusReplayBuffer(replaySize, event.id() - 1)).add(event);
+
+        Set<Subscription> targets = subscriptions.get(status.userId());
+        if (targets == null) {
+            return;
+        }
+        for (Subscription subscription : targets) {
+            subscription.enqueue(toSse(event));
+        }
+    }
+
+    private void replayMissed(Subscription subscription, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            subscription.enqueue(reset());
+            return;
+        }
+
+        StatusReplayBuffer buffer = replay.get(subscription.userId);
+        // sem buffer (expirado, restart) ou id à frente do contador local (veio de outra instância):
+        // nada aqui garante que o cliente viu tudo
+        if (buffer == null || lastId > sequence.get()) {
+            subscription.enqueue(reset());
+            return;
+        }
+        StatusReplayBuffer.Replay missed = buffer.since(lastId);
+        if (missed.gap()) {
+            subscription.enqueue(reset());
+        }
+        for (StatusStreamEvent event : missed.events()) {
+            subscription.enqueue(toSse(event));
+        }
+    }
+
+    // histórico incompleto: cliente deve reconsultar GET /transactions/{id}/status
+    private static SseEmitter.SseEventBuilder reset() {
+        return SseEmitter.event().name("reset").data("historico-incompleto");
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(StatusStreamEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name("status")
+                .data(event.status(), MediaType.APPLICATION_JSON);
+    }
+
+    private void heartbeat() {
+        for (Set<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.enqueue(SseEmitter.event().comment("hb"));
+            }
+        }
+    }
+
+    private void expireReplay() {
+        long cutoff = System.currentTimeMillis() - replayWindow.toMillis();
+        replay.values().forEach(buffer -> buffer.expireBefore(cutoff));
+        replay.values().removeIf(StatusReplayBuffer::isEmpty);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(s -> s.emitter.complete()));
+        senders.shutdown();
+    }
+
+    private final class Subscription {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > maxPending) {
+                // cliente lento: encerra e deixa reconectar com Last-Event-ID
+                close();
+                emitter.complete();
+                return;
+            }
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // evento que chegou entre o último poll e a liberação do flag
+            if (!closed.get() && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            connections.decrementAndGet();
+            pending.clear();
+            subscriptions.computeIfPresent(userId, (id, userSubscriptions) -> {
+                userSubscriptions.remove(this);
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- outbox do MS3: o resultado da transação é gravado na mesma transação do status e publicado
+-- depois em transaction.outcome; a linha só sai daqui quando o broker confirma o envio
+CREATE TABLE transaction_outcome_outbox (
+    transaction_id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_transaction_outcome_outbox_created_at ON transaction_outcome_outbox (created_at);
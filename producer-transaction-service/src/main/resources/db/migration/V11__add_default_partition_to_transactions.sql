@@ -0,0 +1,30 @@
+-- linha com created_at fora dos meses criados (job de partições parado, relógio adiantado)
+-- cai na DEFAULT em vez de falhar o INSERT
+CREATE TABLE IF NOT EXISTS transactions_default PARTITION OF transactions DEFAULT;
+
+-- com DEFAULT, criar a partição de um mês exige que a DEFAULT não tenha linhas desse mês:
+-- a tabela nova nasce solta, recebe as linhas do mês que estavam na DEFAULT e só então é anexada
+CREATE OR REPLACE FUNCTION transactions_create_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_month DATE := date_trunc('month', p_month)::DATE;
+    v_name TEXT := 'transactions_' || to_char(v_month, 'YYYY_MM');
+    v_from TIMESTAMPTZ := v_month::TIMESTAMP AT TIME ZONE 'UTC';
+    v_to TIMESTAMPTZ := (v_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC';
+BEGIN
+    IF to_regclass(quote_ident(v_name)) IS NOT NULL THEN
+        RETURN v_name;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE transactions INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_name);
+    EXECUTE format(
+            'WITH moved AS (DELETE FROM transactions_default WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                || 'INSERT INTO %I SELECT * FROM moved',
+            v_from, v_to, v_name
+    );
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)', v_name, v_from, v_to);
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Poda de partições: só acontece com predicado em created_at (filtro de datas, exportação com
+-- intervalo, páginas seguintes do keyset). A primeira página da listagem e as buscas só por id
+-- não têm esse predicado e passam por todas as partições (um index scan por mês).
@@ -0,0 +1,39 @@
+-- O resumo da V7 só é incrementado pelo MS3 a partir da versão que o conhece: aprovações feitas
+-- pelo MS3 antigo entre a V7 e o deploy ficaram fora, e aprovadas canceladas antes desta versão
+-- continuaram somadas. O pedido abaixo é atendido uma vez pelo MS3 no startup
+-- (UserTransactionSummaryRebuild), quando ele já grava o resumo.
+CREATE TABLE user_transaction_summary_rebuild (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    requested_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+INSERT INTO user_transaction_summary_rebuild (id, requested_at) VALUES (1, now());
+
+-- refaz o resumo a partir de transactions se houver pedido pendente; devolve se refez.
+-- O lock EXCLUSIVE espera as aprovações em voo commitarem e segura as próximas até o fim,
+-- então nenhuma é contada duas vezes nem fica de fora.
+CREATE FUNCTION user_transaction_summary_rebuild() RETURNS BOOLEAN AS $$
+BEGIN
+    LOCK TABLE user_transaction_summary IN EXCLUSIVE MODE;
+    DELETE FROM user_transaction_summary_rebuild WHERE id = 1;
+    IF NOT FOUND THEN
+        RETURN FALSE;
+    END IF;
+
+    DELETE FROM user_transaction_summary;
+    INSERT INTO user_transaction_summary (user_id, month, type, category, currency, total_amount, total_brl, tx_count, updated_at)
+    SELECT user_id,
+           date_trunc('month', created_at AT TIME ZONE 'UTC')::DATE,
+           type,
+           COALESCE(category, ''),
+           currency,
+           sum(amount),
+           sum(COALESCE(brl, CASE WHEN currency = 'BRL' THEN amount ELSE 0 END)),
+           count(*),
+           now()
+    FROM transactions
+    WHERE status = 2
+    GROUP BY 1, 2, 3, 4, 5;
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
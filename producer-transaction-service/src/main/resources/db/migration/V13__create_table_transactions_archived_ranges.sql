@@ -0,0 +1,35 @@
+-- tombstones do GET /transactions/changes: cada partição arquivada some das consultas de uma vez,
+-- sem UPDATE que o feed enxergue. Uma linha por partição com o limite superior de created_at;
+-- o cliente descarta o que guardou com created_at anterior a max(created_before)
+CREATE TABLE transactions_archived_ranges (
+    partition_name TEXT PRIMARY KEY,
+    created_before TIMESTAMP WITH TIME ZONE NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE OR REPLACE FUNCTION transactions_archive_partitions(p_keep_months INT) RETURNS SETOF TEXT AS $$
+DECLARE
+    v_cutoff DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') - make_interval(months => p_keep_months))::DATE;
+    v_partition RECORD;
+    v_month DATE;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('transactions_partitions'));
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+          AND c.relname ~ '^transactions_\d{4}_\d{2}$'
+          AND to_date(substring(c.relname FROM '\d{4}_\d{2}$'), 'YYYY_MM') < v_cutoff
+        ORDER BY c.relname
+    LOOP
+        v_month := to_date(substring(v_partition.relname FROM '\d{4}_\d{2}$'), 'YYYY_MM');
+        EXECUTE format('ALTER TABLE transactions DETACH PARTITION %I', v_partition.relname);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA transactions_archive', v_partition.relname);
+        INSERT INTO transactions_archived_ranges (partition_name, created_before, archived_at)
+        VALUES (v_partition.relname, (v_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC', now())
+        ON CONFLICT (partition_name) DO NOTHING;
+        RETURN NEXT v_partition.relname;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,7 @@
+-- cerca de idempotência do consumer (modo exactly-once): um registro por evento já processado
+CREATE TABLE processed_events (
+    transaction_id UUID PRIMARY KEY,
+    processed_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_processed_events_processed_at ON processed_events (processed_at);
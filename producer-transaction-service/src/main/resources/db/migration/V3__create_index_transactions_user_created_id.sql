@@ -0,0 +1,2 @@
+-- suporta a listagem por cursor: WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_transactions_user_created_id ON transactions (user_id, created_at DESC, id DESC);
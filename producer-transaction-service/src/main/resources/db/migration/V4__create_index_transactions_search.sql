@@ -0,0 +1,5 @@
+-- listagem/exportação filtrando status e/ou tipo dentro do período de um usuário
+CREATE INDEX idx_transactions_user_status_type_created ON transactions (user_id, status, type, created_at DESC);
+
+-- (user_id, created_at DESC, id DESC) da V3 já cobre buscas só por user_id
+DROP INDEX IF EXISTS idx_transactions_user_id;
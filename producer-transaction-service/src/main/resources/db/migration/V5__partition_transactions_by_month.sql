@@ -0,0 +1,121 @@
+-- transactions passa a ser particionada por mês em created_at (limites em UTC).
+-- A PK precisa conter a chave de partição, por isso vira (id, created_at).
+
+ALTER TABLE transactions RENAME TO transactions_legacy;
+ALTER TABLE transactions_legacy RENAME CONSTRAINT transactions_pkey TO transactions_legacy_pkey;
+DROP INDEX idx_transactions_correlation_id;
+DROP INDEX idx_transactions_created_at;
+DROP INDEX idx_transactions_user_created_id;
+DROP INDEX idx_transactions_user_status_type_created;
+
+CREATE TABLE transactions (
+    id UUID NOT NULL,
+    user_id UUID NOT NULL,
+
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    transfer_type VARCHAR(50),
+    buy_type VARCHAR(50),
+
+    amount NUMERIC(19, 4) NOT NULL,
+    brl NUMERIC(19, 4),
+    fx_rate NUMERIC(19, 8),
+
+    source_account_id UUID NOT NULL,
+    target_account_id UUID,
+
+    currency VARCHAR(10) NOT NULL,
+
+    description TEXT,
+    category VARCHAR(100),
+    rejection_reason TEXT,
+
+    record BOOLEAN DEFAULT FALSE,
+
+    correlation_id VARCHAR(100) NOT NULL,
+
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE,
+
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- partições antigas são desanexadas e movidas para cá, sem DELETE linha a linha
+CREATE SCHEMA IF NOT EXISTS transactions_archive;
+
+-- cria (se faltar) a partição do mês que contém p_month: transactions_AAAA_MM
+CREATE FUNCTION transactions_create_partition(p_month DATE) RETURNS TEXT AS $$
+DECLARE
+    v_month DATE := date_trunc('month', p_month)::DATE;
+    v_name TEXT := 'transactions_' || to_char(v_month, 'YYYY_MM');
+BEGIN
+    IF to_regclass(quote_ident(v_name)) IS NULL THEN
+        EXECUTE format(
+                'CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                v_name,
+                v_month::TIMESTAMP AT TIME ZONE 'UTC',
+                (v_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC'
+        );
+    END IF;
+    RETURN v_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- garante o mês corrente e os p_months_ahead seguintes; devolve quantas partições foram verificadas
+CREATE FUNCTION transactions_ensure_partitions(p_months_ahead INT) RETURNS INT AS $$
+DECLARE
+    v_current DATE := date_trunc('month', now() AT TIME ZONE 'UTC')::DATE;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('transactions_partitions'));
+    FOR i IN 0..p_months_ahead LOOP
+        PERFORM transactions_create_partition((v_current + make_interval(months => i))::DATE);
+    END LOOP;
+    RETURN p_months_ahead + 1;
+END;
+$$ LANGUAGE plpgsql;
+
+-- desanexa e arquiva as partições cujo mês inteiro é anterior aos p_keep_months mais recentes
+CREATE FUNCTION transactions_archive_partitions(p_keep_months INT) RETURNS SETOF TEXT AS $$
+DECLARE
+    v_cutoff DATE := (date_trunc('month', now() AT TIME ZONE 'UTC') - make_interval(months => p_keep_months))::DATE;
+    v_partition RECORD;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('transactions_partitions'));
+    FOR v_partition IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'transactions'::regclass
+          AND c.relname ~ '^transactions_\d{4}_\d{2}$'
+          AND to_date(substring(c.relname FROM '\d{4}_\d{2}$'), 'YYYY_MM') < v_cutoff
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE transactions DETACH PARTITION %I', v_partition.relname);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA transactions_archive', v_partition.relname);
+        RETURN NEXT v_partition.relname;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- meses já existentes + folga à frente, depois copia os dados
+DO $$
+DECLARE
+    v_month DATE;
+BEGIN
+    SELECT date_trunc('month', min(created_at) AT TIME ZONE 'UTC')::DATE INTO v_month FROM transactions_legacy;
+    WHILE v_month IS NOT NULL AND v_month < date_trunc('month', now() AT TIME ZONE 'UTC') LOOP
+        PERFORM transactions_create_partition(v_month);
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+    PERFORM transactions_ensure_partitions(3);
+END;
+$$;
+
+INSERT INTO transactions SELECT * FROM transactions_legacy;
+DROP TABLE transactions_legacy;
+
+-- índices no pai são replicados em cada partição (inclusive nas criadas depois)
+CREATE INDEX idx_transactions_user_created_id ON transactions (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_user_status_type_created ON transactions (user_id, status, type, created_at DESC);
+CREATE INDEX idx_transactions_correlation_id ON transactions (correlation_id);
+CREATE INDEX idx_transactions_created_at ON transactions (created_at);
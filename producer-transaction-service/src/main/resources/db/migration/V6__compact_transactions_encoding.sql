@@ -0,0 +1,32 @@
+-- enums em smallint, moeda em char(3) e correlation_id em uuid nativo.
+-- Códigos fixos, os mesmos dos converters em infrastructure/persistence/converter (MS2 e MS3):
+--   type:          1 DEPOSITO, 2 SAQUE, 3 TRANSFERENCIA, 4 COMPRA, 5 PIX
+--   status:        1 PENDENTE, 2 APROVADA, 3 REJEITADA, 4 CANCELADA
+--   transfer_type: 1 PIX, 2 TED, 3 DOC, 4 TEF
+--   buy_type:      1 DEBITO, 2 CREDITO, 3 PIX, 4 CEDULA
+-- Volta: db/undo/U6__compact_transactions_encoding.sql.
+-- Partições já arquivadas (schema transactions_archive) ficam no formato antigo.
+
+ALTER TABLE transactions
+    ALTER COLUMN type TYPE SMALLINT USING CASE type
+        WHEN 'DEPOSITO' THEN 1 WHEN 'SAQUE' THEN 2 WHEN 'TRANSFERENCIA' THEN 3 WHEN 'COMPRA' THEN 4 WHEN 'PIX' THEN 5
+    END,
+    ALTER COLUMN status TYPE SMALLINT USING CASE status
+        WHEN 'PENDENTE' THEN 1 WHEN 'APROVADA' THEN 2 WHEN 'REJEITADA' THEN 3 WHEN 'CANCELADA' THEN 4
+    END,
+    ALTER COLUMN transfer_type TYPE SMALLINT USING CASE transfer_type
+        WHEN 'PIX' THEN 1 WHEN 'TED' THEN 2 WHEN 'DOC' THEN 3 WHEN 'TEF' THEN 4
+    END,
+    ALTER COLUMN buy_type TYPE SMALLINT USING CASE buy_type
+        WHEN 'DEBITO' THEN 1 WHEN 'CREDITO' THEN 2 WHEN 'PIX' THEN 3 WHEN 'CEDULA' THEN 4
+    END,
+    ALTER COLUMN currency TYPE CHAR(3) USING upper(trim(currency)),
+    -- falha se existir correlation_id que não seja uuid, em vez de perder o valor
+    ALTER COLUMN correlation_id TYPE UUID USING correlation_id::UUID;
+
+-- valor fora da tabela de códigos (ex.: string desconhecida no CASE acima) não passa em silêncio
+ALTER TABLE transactions
+    ADD CONSTRAINT ck_transactions_type CHECK (type BETWEEN 1 AND 5),
+    ADD CONSTRAINT ck_transactions_status CHECK (status BETWEEN 1 AND 4),
+    ADD CONSTRAINT ck_transactions_transfer_type CHECK (transfer_type BETWEEN 1 AND 4),
+    ADD CONSTRAINT ck_transactions_buy_type CHECK (buy_type BETWEEN 1 AND 4);
@@ -0,0 +1,32 @@
+-- read model por usuário/mês/tipo/categoria/moeda, mantido pelo MS3 a cada transação aprovada (upsert)
+-- month = primeiro dia do mês de created_at; category '' = sem categoria; type usa os códigos da V6
+CREATE TABLE user_transaction_summary (
+    user_id UUID NOT NULL,
+    month DATE NOT NULL,
+    type SMALLINT NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    currency CHAR(3) NOT NULL,
+
+    total_amount NUMERIC(19, 4) NOT NULL,
+    total_brl NUMERIC(19, 4) NOT NULL,
+    tx_count BIGINT NOT NULL,
+
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    PRIMARY KEY (user_id, month, type, category, currency)
+);
+
+-- carga inicial com o que já foi aprovado (status 2); daqui para frente só incremento
+INSERT INTO user_transaction_summary (user_id, month, type, category, currency, total_amount, total_brl, tx_count, updated_at)
+SELECT user_id,
+       date_trunc('month', created_at AT TIME ZONE 'UTC')::DATE,
+       type,
+       COALESCE(category, ''),
+       currency,
+       sum(amount),
+       sum(COALESCE(brl, CASE WHEN currency = 'BRL' THEN amount ELSE 0 END)),
+       count(*),
+       now()
+FROM transactions
+WHERE status = 2
+GROUP BY 1, 2, 3, 4, 5;
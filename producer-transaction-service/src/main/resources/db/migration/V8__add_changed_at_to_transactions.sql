@@ -0,0 +1,31 @@
+-- changed_at: momento da última mudança visível ao cliente (criação, status ou processed_at).
+-- Base do GET /transactions/changes; mantido por trigger para cobrir também os updates do MS3.
+ALTER TABLE transactions ADD COLUMN changed_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE transactions SET changed_at = COALESCE(processed_at, created_at);
+
+ALTER TABLE transactions
+    ALTER COLUMN changed_at SET DEFAULT clock_timestamp(),
+    ALTER COLUMN changed_at SET NOT NULL;
+
+-- clock_timestamp e não now(): now() é o início da transação e ficaria mais longe do commit
+CREATE FUNCTION transactions_touch_changed_at() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT'
+            OR NEW.status IS DISTINCT FROM OLD.status
+            OR NEW.processed_at IS DISTINCT FROM OLD.processed_at THEN
+        NEW.changed_at := clock_timestamp();
+    ELSE
+        NEW.changed_at := OLD.changed_at;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- declarado no pai: vale para as partições atuais e para as criadas por transactions_create_partition
+CREATE TRIGGER trg_transactions_changed_at
+    BEFORE INSERT OR UPDATE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION transactions_touch_changed_at();
+
+-- suporta o sync: WHERE user_id = ? AND (changed_at, id) > (?, ?) ORDER BY changed_at, id
+CREATE INDEX idx_transactions_user_changed_id ON transactions (user_id, changed_at, id);
@@ -0,0 +1,3 @@
+-- filtro de duplicados do MS3: ids finalizados na última janela, WHERE processed_at >= ? AND status IN (...)
+-- parcial: só linhas finalizadas têm processed_at
+CREATE INDEX idx_transactions_processed_at ON transactions (processed_at DESC) WHERE processed_at IS NOT NULL;
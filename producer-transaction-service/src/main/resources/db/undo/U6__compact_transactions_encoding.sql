@@ -0,0 +1,18 @@
+-- Desfaz a V6 (volta para os tipos texto da V1). Fora do caminho do Flyway: rodar à mão com psql
+-- e depois remover a linha da versão 6 do flyway_schema_history antes de subir a versão anterior.
+
+ALTER TABLE transactions
+    DROP CONSTRAINT ck_transactions_type,
+    DROP CONSTRAINT ck_transactions_status,
+    DROP CONSTRAINT ck_transactions_transfer_type,
+    DROP CONSTRAINT ck_transactions_buy_type;
+
+ALTER TABLE transactions
+    ALTER COLUMN type TYPE VARCHAR(50) USING (ARRAY['DEPOSITO', 'SAQUE', 'TRANSFERENCIA', 'COMPRA', 'PIX'])[type],
+    ALTER COLUMN status TYPE VARCHAR(50) USING (ARRAY['PENDENTE', 'APROVADA', 'REJEITADA', 'CANCELADA'])[status],
+    ALTER COLUMN transfer_type TYPE VARCHAR(50) USING (ARRAY['PIX', 'TED', 'DOC', 'TEF'])[transfer_type],
+    ALTER COLUMN buy_type TYPE VARCHAR(50) USING (ARRAY['DEBITO', 'CREDITO', 'PIX', 'CEDULA'])[buy_type],
+    ALTER COLUMN currency TYPE VARCHAR(10) USING trim(currency),
+    ALTER COLUMN correlation_id TYPE VARCHAR(100) USING correlation_id::TEXT;
+
+-- DELETE FROM flyway_schema_history WHERE version = '6';
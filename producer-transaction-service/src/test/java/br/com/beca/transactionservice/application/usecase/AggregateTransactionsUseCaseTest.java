@@ -0,0 +1,77 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.dto.AggregateResultData;
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.dto.FilterListTransactionData;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AggregateTransactionsUseCase:
+ *  - groupBy aceita só as dimensões da whitelist (case-insensitive, sem repetição)
+ *  - pede maxRows + 1 ao repositório e marca truncated quando passa do limite
+ */
+@ExtendWith(MockitoExtension.class)
+class AggregateTransactionsUseCaseTest {
+
+    @Mock private TransactionRepository repository;
+
+    private final UUID userId = UUID.randomUUID();
+    private final FilterListTransactionData filter = new FilterListTransactionData(null, null, null, null, null, null, null);
+
+    private TokenInfoData token() {
+        return new TokenInfoData(userId.toString(), "ROLE_USER");
+    }
+
+    private AggregateRowData row(TransactionType type) {
+        return new AggregateRowData(type, null, null, null, null, 1, BigDecimal.TEN, BigDecimal.TEN);
+    }
+
+    @Test
+    void shouldParseDimensionsAndReturnRows() {
+        List<AggregateDimension> expected = List.of(AggregateDimension.TYPE, AggregateDimension.DAY);
+        when(repository.aggregate(eq(userId), any(), any(), any(), any(), eq(expected), eq(3)))
+                .thenReturn(List.of(row(TransactionType.COMPRA)));
+
+        AggregateResultData result = new AggregateTransactionsUseCase(repository, 2)
+                .execute(filter, List.of("type", " DAY ", "Type"), token());
+
+        assertEquals(expected, result.groupBy());
+        assertEquals(1, result.rows().size());
+        assertFalse(result.truncated());
+    }
+
+    @Test
+    void shouldFlagTruncatedResult() {
+        when(repository.aggregate(any(), any(), any(), any(), any(), anyList(), anyInt()))
+                .thenReturn(List.of(row(TransactionType.COMPRA), row(TransactionType.SAQUE), row(TransactionType.DEPOSITO)));
+
+        AggregateResultData result = new AggregateTransactionsUseCase(repository, 2)
+                .execute(filter, List.of("type"), token());
+
+        assertEquals(2, result.rows().size());
+        assertTrue(result.truncated());
+    }
+
+    @Test
+    void shouldRejectUnknownDimension() {
+        assertThrows(FieldIsException.class, () -> new AggregateTransactionsUseCase(repository, 2)
+                .execute(filter, List.of("user_id; drop table transactions"), token()));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CancelTransactionUseCase:
+ *  - cancela pelo repositório (lock da linha + ajuste do resumo) e projeta o estado cancelado
+ *  - publica o cancelamento no tópico de resultados para as outras instâncias
+ *  - ROLE_USER não cancela transação de terceiros
+ */
+@ExtendWith(MockitoExtension.class)
+class CancelTransactionUseCaseTest {
+
+    @Mock private TransactionRepository repository;
+    @Mock private TransactionStatusProjection projection;
+    @Mock private TransactionEventPublisher publisher;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private CancelTransactionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CancelTransactionUseCase(repository, projection, publisher);
+    }
+
+    @Test
+    void shouldCancelThroughRepositoryAndProjectResult() {
+        Transaction approved = mock(Transaction.class);
+        when(approved.getUserId()).thenReturn(userId);
+        Transaction cancelled = mock(Transaction.class);
+        when(cancelled.getId()).thenReturn(transactionId);
+        when(cancelled.getUserId()).thenReturn(userId);
+        when(cancelled.getStatus()).thenReturn(TransactionStatus.CANCELADA);
+        when(cancelled.getAmount()).thenReturn(new Money(BigDecimal.TEN, "BRL"));
+        when(repository.findById(transactionId)).thenReturn(Optional.of(approved));
+        when(repository.cancel(transactionId)).thenReturn(Optional.of(cancelled));
+
+        useCase.execute(transactionId, new TokenInfoData(userId.toString(), "ROLE_USER"));
+
+        ArgumentCaptor<TransactionStatusData> projected = ArgumentCaptor.forClass(TransactionStatusData.class);
+        verify(projection).apply(projected.capture());
+        assertEquals(TransactionStatus.CANCELADA, projected.getValue().status());
+        ArgumentCaptor<TransactionOutcomeEvent> published = ArgumentCaptor.forClass(TransactionOutcomeEvent.class);
+        verify(publisher).publish(published.capture());
+        assertEquals(transactionId, published.getValue().transactionId());
+        assertEquals(userId, published.getValue().userId());
+        assertEquals(TransactionStatus.CANCELADA, published.getValue().status());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void userCannotCancelSomeoneElse() {
+        Transaction other = mock(Transaction.class);
+        when(other.getUserId()).thenReturn(UUID.randomUUID());
+        when(repository.findById(transactionId)).thenReturn(Optional.of(other));
+
+        assertThrows(PermissionException.class,
+                () -> useCase.execute(transactionId, new TokenInfoData(userId.toString(), "ROLE_USER")));
+        verify(repository, never()).cancel(any());
+        verifyNoInteractions(projection, publisher);
+    }
+}
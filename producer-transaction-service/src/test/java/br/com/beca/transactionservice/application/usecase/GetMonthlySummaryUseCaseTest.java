@@ -0,0 +1,70 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.UserTransactionSummaryRepository;
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryData;
+import br.com.beca.transactionservice.domain.dto.MonthlySummaryLineData;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GetMonthlySummaryUseCase:
+ *  - soma o total em BRL das linhas do read model do mês pedido
+ *  - sem mês informado usa o mês corrente em UTC
+ *  - ROLE_USER não lê o resumo de terceiros
+ */
+@ExtendWith(MockitoExtension.class)
+class GetMonthlySummaryUseCaseTest {
+
+    @Mock private UserTransactionSummaryRepository repository;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void shouldSumLinesOfRequestedMonth() {
+        YearMonth month = YearMonth.of(2026, 3);
+        when(repository.findByUserAndMonth(userId, month)).thenReturn(List.of(
+                new MonthlySummaryLineData(TransactionType.COMPRA, "mercado", "BRL", new BigDecimal("120.00"), new BigDecimal("120.00"), 3),
+                new MonthlySummaryLineData(TransactionType.COMPRA, "viagem", "USD", new BigDecimal("10.00"), new BigDecimal("55.00"), 1)
+        ));
+
+        MonthlySummaryData result = new GetMonthlySummaryUseCase(repository)
+                .execute(null, month, new TokenInfoData(userId.toString(), "ROLE_USER"));
+
+        assertEquals(month, result.month());
+        assertEquals(0, new BigDecimal("175.00").compareTo(result.totalBrl()));
+        assertEquals(2, result.lines().size());
+    }
+
+    @Test
+    void shouldDefaultToCurrentMonth() {
+        when(repository.findByUserAndMonth(eq(userId), any())).thenReturn(List.of());
+
+        MonthlySummaryData result = new GetMonthlySummaryUseCase(repository)
+                .execute(userId, null, new TokenInfoData(userId.toString(), "ROLE_ADMIN"));
+
+        assertEquals(YearMonth.now(ZoneOffset.UTC), result.month());
+        assertEquals(0, BigDecimal.ZERO.compareTo(result.totalBrl()));
+    }
+
+    @Test
+    void shouldDenyOtherUsersSummary() {
+        assertThrows(PermissionException.class, () -> new GetMonthlySummaryUseCase(repository)
+                .execute(UUID.randomUUID(), null, new TokenInfoData(userId.toString(), "ROLE_USER")));
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.port.TransactionStatusProjection;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionStatusData;
+import br.com.beca.transactionservice.domain.exception.NotFoundException;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GetTransactionStatusUseCase:
+ *  - status presente na projeção não consulta o banco
+ *  - fora da projeção cai no banco; inexistente vira NotFoundException
+ *  - ROLE_USER não lê status de transação de terceiros
+ */
+@ExtendWith(MockitoExtension.class)
+class GetTransactionStatusUseCaseTest {
+
+    @Mock private TransactionStatusProjection projection;
+    @Mock private TransactionRepository repository;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+    private GetTransactionStatusUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetTransactionStatusUseCase(projection, repository);
+    }
+
+    @Test
+    void shouldAnswerFromProjection() {
+        TransactionStatusData approved = new TransactionStatusData(transactionId, userId, TransactionStatus.APROVADA,
+                new BigDecimal("10.00"), null, null, LocalDateTime.now());
+        when(projection.find(transactionId)).thenReturn(Optional.of(approved));
+
+        TransactionStatusData result = useCase.execute(transactionId, new TokenInfoData(userId.toString(), "ROLE_USER"));
+
+        assertEquals(TransactionStatus.APROVADA, result.status());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void shouldFallBackToRepository() {
+        Transaction pending = mock(Transaction.class);
+        when(pending.getId()).thenReturn(transactionId);
+        when(pending.getUserId()).thenReturn(userId);
+        when(pending.getStatus()).thenReturn(TransactionStatus.PENDENTE);
+        when(projection.find(transactionId)).thenReturn(Optional.empty());
+        when(repository.findById(transactionId)).thenReturn(Optional.of(pending));
+
+        TransactionStatusData result = useCase.execute(transactionId, new TokenInfoData(userId.toString(), "ROLE_USER"));
+
+        assertEquals(TransactionStatus.PENDENTE, result.status());
+    }
+
+    @Test
+    void shouldThrowWhenUnknown() {
+        when(projection.find(transactionId)).thenReturn(Optional.empty());
+        when(repository.findById(transactionId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+                () -> useCase.execute(transactionId, new TokenInfoData(userId.toString(), "ROLE_USER")));
+    }
+
+    @Test
+    void shouldDenyOtherUsersTransaction() {
+        TransactionStatusData approved = new TransactionStatusData(transactionId, userId, TransactionStatus.APROVADA,
+                null, null, null, LocalDateTime.now());
+        when(projection.find(transactionId)).thenReturn(Optional.of(approved));
+
+        assertThrows(PermissionException.class,
+                () -> useCase.execute(transactionId, new TokenInfoData(UUID.randomUUID().toString(), "ROLE_USER")));
+    }
+}
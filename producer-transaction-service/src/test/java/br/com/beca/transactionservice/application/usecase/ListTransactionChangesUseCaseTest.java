@@ -0,0 +1,111 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionChangesData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.exception.PermissionException;
+import br.com.beca.transactionservice.domain.pagination.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ListTransactionChangesUseCase:
+ *  - pede size + 1 a partir do since e devolve cursor (changed_at, id) do último item
+ *  - sem mudanças, o since volta como cursor para o cliente continuar do mesmo ponto
+ *  - repassa settleDelay para o corte calculado no banco
+ *  - devolve o limite das partições arquivadas como tombstone, mesmo sem mudanças
+ *  - ROLE_USER não sincroniza transações de outro usuário
+ */
+@ExtendWith(MockitoExtension.class)
+class ListTransactionChangesUseCaseTest {
+
+    @Mock private TransactionRepository repository;
+
+    private final UUID userId = UUID.randomUUID();
+    private ListTransactionChangesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ListTransactionChangesUseCase(repository, 2, 5, Duration.ofSeconds(2));
+    }
+
+    private TokenInfoData token() {
+        return new TokenInfoData(userId.toString(), "ROLE_USER");
+    }
+
+    private TransactionView view(LocalDateTime changedAt) {
+        return new TransactionView(UUID.randomUUID(), userId, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, changedAt, null, changedAt);
+    }
+
+    @Test
+    void returnsCursorOfLastChangeAndFlagsMore() {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 10, 12, 0);
+        TransactionView second = view(base.plusSeconds(1));
+        when(repository.findChanges(eq(userId), isNull(), any(), eq(3)))
+                .thenReturn(List.of(view(base), second, view(base.plusSeconds(2))));
+
+        TransactionChangesData changes = useCase.execute(null, null, null, token());
+
+        assertEquals(2, changes.items().size());
+        assertTrue(changes.hasMore());
+        PageCursor cursor = PageCursor.decode(changes.cursor());
+        assertEquals(second.changedAt(), cursor.timestamp());
+        assertEquals(second.id(), cursor.id());
+    }
+
+    @Test
+    void keepsSinceWhenNothingChanged() {
+        String since = new PageCursor(LocalDateTime.of(2026, 1, 10, 12, 0), UUID.randomUUID()).encode();
+        when(repository.findChanges(eq(userId), any(PageCursor.class), any(), anyInt())).thenReturn(List.of());
+
+        TransactionChangesData changes = useCase.execute(null, since, 10, token());
+
+        assertTrue(changes.items().isEmpty());
+        assertFalse(changes.hasMore());
+        assertEquals(since, changes.cursor());
+        verify(repository).findChanges(eq(userId), any(PageCursor.class), any(), eq(6));
+    }
+
+    @Test
+    void onlyAsksForSettledChanges() {
+        when(repository.findChanges(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(null, null, null, token());
+
+        verify(repository).findChanges(eq(userId), isNull(), eq(Duration.ofSeconds(2)), anyInt());
+    }
+
+    @Test
+    void returnsArchivedBoundaryAsTombstone() {
+        LocalDateTime archivedBefore = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(repository.findArchivedBefore()).thenReturn(Optional.of(archivedBefore));
+        when(repository.findChanges(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        TransactionChangesData changes = useCase.execute(null, null, null, token());
+
+        assertEquals(archivedBefore, changes.archivedBefore());
+        assertTrue(changes.items().isEmpty());
+    }
+
+    @Test
+    void userCannotSyncSomeoneElse() {
+        assertThrows(PermissionException.class,
+                () -> useCase.execute(UUID.randomUUID(), null, null, token()));
+        verifyNoInteractions(repository);
+    }
+}
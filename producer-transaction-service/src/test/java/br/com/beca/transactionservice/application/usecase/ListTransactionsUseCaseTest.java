@@ -0,0 +1,99 @@
+package br.com.beca.transactionservice.application.usecase;
+
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.domain.dto.FilterListTransactionData;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.dto.TransactionView;
+import br.com.beca.transactionservice.domain.exception.FieldIsException;
+import br.com.beca.transactionservice.domain.pagination.CursorPage;
+import br.com.beca.transactionservice.domain.pagination.PageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ListTransactionsUseCase:
+ *  - pede size + 1 ao repositório e devolve cursor do último item quando há próxima página
+ *  - última página vem sem cursor
+ *  - size acima do máximo é truncado; cursor adulterado vira FieldIsException
+ */
+@ExtendWith(MockitoExtension.class)
+class ListTransactionsUseCaseTest {
+
+    @Mock private TransactionRepository repository;
+
+    private final UUID userId = UUID.randomUUID();
+    private ListTransactionsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ListTransactionsUseCase(repository, 2, 5);
+    }
+
+    private TokenInfoData token() {
+        return new TokenInfoData(userId.toString(), "ROLE_USER");
+    }
+
+    private FilterListTransactionData filter(String cursor, Integer size) {
+        return new FilterListTransactionData(null, null, null, null, null, cursor, size);
+    }
+
+    private TransactionView transaction(LocalDateTime createdAt) {
+        return new TransactionView(UUID.randomUUID(), userId, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, createdAt, null, null);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenThereIsMore() {
+        LocalDateTime now = LocalDateTime.now();
+        TransactionView first = transaction(now);
+        TransactionView second = transaction(now.minusMinutes(1));
+        TransactionView extra = transaction(now.minusMinutes(2));
+        when(repository.searchPage(eq(userId), any(), any(), any(), any(), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        CursorPage<TransactionView> page = useCase.execute(filter(null, null), token());
+
+        assertEquals(List.of(first, second), page.items());
+        PageCursor cursor = PageCursor.decode(page.nextCursor());
+        assertEquals(second.createdAt(), cursor.timestamp());
+        assertEquals(second.id(), cursor.id());
+    }
+
+    @Test
+    void shouldOmitCursorOnLastPage() {
+        PageCursor after = new PageCursor(LocalDateTime.now(), UUID.randomUUID());
+        when(repository.searchPage(eq(userId), any(), any(), any(), any(), eq(after), eq(3)))
+                .thenReturn(List.of(transaction(LocalDateTime.now())));
+
+        CursorPage<TransactionView> page = useCase.execute(filter(after.encode(), null), token());
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void shouldCapPageSize() {
+        when(repository.searchPage(any(), any(), any(), any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(filter(null, 1000), token());
+
+        verify(repository).searchPage(eq(userId), any(), any(), any(), any(), isNull(), eq(6));
+    }
+
+    @Test
+    void shouldRejectTamperedCursor() {
+        assertThrows(FieldIsException.class, () -> useCase.execute(filter("nao-e-um-cursor", null), token()));
+        verifyNoInteractions(repository);
+    }
+}
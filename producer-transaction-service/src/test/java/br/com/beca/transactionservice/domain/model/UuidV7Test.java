@@ -0,0 +1,48 @@
+package br.com.beca.transactionservice.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UuidV7:
+ *  - versão 7 e variante RFC nos bits certos, com o epoch em ms nos 48 bits do topo
+ *  - ids sucessivos são estritamente crescentes, inclusive dentro do mesmo milissegundo
+ */
+class UuidV7Test {
+
+    @Test
+    void shouldSetVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        // pode adiantar alguns ms se o contador estourou em rajada, nunca atrasar
+        assertTrue(UuidV7.epochMillis(id) >= before && UuidV7.epochMillis(id) - before < 1000);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // compareTo de UUID é com sinal; o toString compara como o Postgres ordena uuid
+            assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+        }
+    }
+
+    @Test
+    void shouldKeepCounterInRandA() {
+        UUID id = UuidV7.build(1L, 0xABC, -1L);
+
+        assertEquals("00000000-0001-7abc-bfff-ffffffffffff", id.toString());
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.beca.transactionservice.infrastructure.persistence.converter;
+
+import br.com.beca.transactionservice.domain.model.BuyType;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.domain.model.TransferType;
+import jakarta.persistence.AttributeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Converters smallint das colunas de enum (V6):
+ *  - todo valor do enum vai e volta sem perda, com código único
+ *  - códigos já gravados não mudam (mesma tabela da migration)
+ *  - código desconhecido falha em vez de virar null
+ */
+class SmallintEnumConvertersTest {
+
+    private static <E extends Enum<E>> void assertRoundTrip(AttributeConverter<E, Short> converter, Class<E> type) {
+        Set<Short> codes = new HashSet<>();
+        for (E value : type.getEnumConstants()) {
+            Short code = converter.convertToDatabaseColumn(value);
+            assertTrue(codes.add(code), "código repetido: " + code);
+            assertEquals(value, converter.convertToEntityAttribute(code));
+        }
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void shouldRoundTripEveryValue() {
+        assertRoundTrip(new TransactionTypeConverter(), TransactionType.class);
+        assertRoundTrip(new TransactionStatusConverter(), TransactionStatus.class);
+        assertRoundTrip(new TransferTypeConverter(), TransferType.class);
+        assertRoundTrip(new BuyTypeConverter(), BuyType.class);
+    }
+
+    @Test
+    void shouldKeepMigrationCodes() {
+        assertEquals((short) 4, new TransactionTypeConverter().convertToDatabaseColumn(TransactionType.COMPRA));
+        assertEquals((short) 4, new TransactionStatusConverter().convertToDatabaseColumn(TransactionStatus.CANCELADA));
+        assertEquals((short) 4, new TransferTypeConverter().convertToDatabaseColumn(TransferType.TEF));
+        assertEquals((short) 1, new BuyTypeConverter().convertToDatabaseColumn(BuyType.DEBITO));
+    }
+
+    @Test
+    void shouldRejectUnknownCode() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionStatusConverter().convertToEntityAttribute((short) 99));
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.beca.transactionservice.infrastructure.persistence.repository;
+
+import br.com.beca.transactionservice.domain.dto.AggregateRowData;
+import br.com.beca.transactionservice.domain.model.AggregateDimension;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionSearchRepositoryImpl.aggregate:
+ *  - o total em BRL soma o amount das linhas já em BRL (brl nulo) e o brl das convertidas
+ *  - agrupando por moeda, linhas BRL e USD saem separadas, cada uma com nominal e total em BRL
+ *  - sem moeda no agrupamento não há soma nominal
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchRepositoryImplTest {
+
+    @Mock private EntityManager entityManager;
+    @Mock private TypedQuery<Object[]> query;
+
+    @InjectMocks private TransactionSearchRepositoryImpl repository;
+
+    private List<AggregateRowData> rows;
+
+    private String aggregate(List<AggregateDimension> groupBy, List<Object[]> tuples) {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        when(entityManager.createQuery(jpql.capture(), eq(Object[].class))).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.getResultList()).thenReturn(tuples);
+        rows = repository.aggregate(null, null, null, null, null, groupBy, 100);
+        return jpql.getValue();
+    }
+
+    @Test
+    void shouldSumBrlNativeAmountsIntoBrlTotal() {
+        String jpql = aggregate(List.of(), List.<Object[]>of(new Object[]{3L, new BigDecimal("350.00")}));
+
+        assertTrue(jpql.contains("sum(" + TransactionSearchRepositoryImpl.BRL_EQUIVALENT + ")"), jpql);
+        assertFalse(jpql.contains("sum(t.brl)"), jpql);
+        assertFalse(jpql.contains("sum(t.amount)"), jpql);
+        assertNull(rows.get(0).sumAmount());
+        assertEquals(new BigDecimal("350.00"), rows.get(0).sumBrl());
+    }
+
+    @Test
+    void shouldKeepBrlAndUsdRowsApartWhenGroupingByCurrency() {
+        // 100 BRL (brl nulo no banco) + 50 USD a 5,00 (brl 250)
+        String jpql = aggregate(List.of(AggregateDimension.CURRENCY), List.of(
+                new Object[]{"BRL", 1L, new BigDecimal("100.00"), new BigDecimal("100.00")},
+                new Object[]{"USD", 1L, new BigDecimal("50.00"), new BigDecimal("250.00")}));
+
+        assertTrue(jpql.contains("sum(t.amount), sum(" + TransactionSearchRepositoryImpl.BRL_EQUIVALENT + ")"), jpql);
+        assertTrue(jpql.contains("GROUP BY t.currency"), jpql);
+        assertEquals(2, rows.size());
+        assertEquals("BRL", rows.get(0).currency());
+        assertEquals(new BigDecimal("100.00"), rows.get(0).sumAmount());
+        assertEquals(new BigDecimal("100.00"), rows.get(0).sumBrl());
+        assertEquals("USD", rows.get(1).currency());
+        assertEquals(new BigDecimal("50.00"), rows.get(1).sumAmount());
+        assertEquals(new BigDecimal("250.00"), rows.get(1).sumBrl());
+        verify(query, never()).setParameter(any(String.class), any());
+    }
+}
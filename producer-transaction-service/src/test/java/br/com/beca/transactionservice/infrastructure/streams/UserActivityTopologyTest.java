@@ -0,0 +1,122 @@
+package br.com.beca.transactionservice.infrastructure.streams;
+
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserActivityTopology:
+ *  - gasto por categoria soma só saídas aprovadas, em BRL
+ *  - totais por tipo contam e somam aprovadas
+ *  - atividade recente guarda as últimas N (aprovadas e rejeitadas), mais recente primeiro
+ *  - resultado repetido do mesmo transactionId (reenvio do outbox) não soma de novo
+ */
+class UserActivityTopologyTest {
+
+    private static final String TOPIC = "transaction.outcome";
+
+    private final UUID userId = UUID.randomUUID();
+
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, TransactionOutcomeEvent> outcomes;
+
+    @BeforeEach
+    void setUp() {
+        StreamsBuilder builder = new StreamsBuilder();
+        UserActivityTopology.define(builder, TOPIC, 2, Duration.ofDays(7));
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "user-activity-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        outcomes = driver.createInputTopic(TOPIC, Serdes.String().serializer(),
+                UserActivityTopology.jsonSerde(TransactionOutcomeEvent.class).serializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    private void send(TransactionType type, TransactionStatus status, String amountBrl, String category) {
+        BigDecimal amount = new BigDecimal(amountBrl);
+        outcomes.pipeInput(userId.toString(), new TransactionOutcomeEvent(UUID.randomUUID(), userId, type, status,
+                amount, "BRL", amount, null, category, null, LocalDateTime.now()));
+    }
+
+    @Test
+    void shouldAggregateSpendingByCategory() {
+        send(TransactionType.COMPRA, TransactionStatus.APROVADA, "100.00", "MERCADO");
+        send(TransactionType.COMPRA, TransactionStatus.APROVADA, "50.50", "MERCADO");
+        send(TransactionType.COMPRA, TransactionStatus.REJEITADA, "999.00", "MERCADO");
+        send(TransactionType.SAQUE, TransactionStatus.APROVADA, "20.00", null);
+        send(TransactionType.DEPOSITO, TransactionStatus.APROVADA, "500.00", null);
+
+        KeyValueStore<String, CategorySpending> store = driver.getKeyValueStore(UserActivityTopology.SPENDING_BY_CATEGORY);
+        CategorySpending spending = store.get(userId.toString());
+
+        assertEquals(0, new BigDecimal("150.50").compareTo(spending.totals().get("MERCADO")));
+        assertEquals(0, new BigDecimal("20.00").compareTo(spending.totals().get("SAQUE")));
+        assertFalse(spending.totals().containsKey("DEPOSITO"));
+    }
+
+    @Test
+    void shouldCountAndSumApprovedByType() {
+        send(TransactionType.DEPOSITO, TransactionStatus.APROVADA, "500.00", null);
+        send(TransactionType.DEPOSITO, TransactionStatus.APROVADA, "250.00", null);
+        send(TransactionType.DEPOSITO, TransactionStatus.REJEITADA, "1.00", null);
+
+        KeyValueStore<String, TypeTotals> store = driver.getKeyValueStore(UserActivityTopology.TOTALS_BY_TYPE);
+        TypeTotals totals = store.get(userId.toString());
+
+        assertEquals(2, totals.totals().get(TransactionType.DEPOSITO).count());
+        assertEquals(0, new BigDecimal("750.00").compareTo(totals.totals().get(TransactionType.DEPOSITO).totalBrl()));
+    }
+
+    @Test
+    void shouldKeepLastNActivities() {
+        send(TransactionType.DEPOSITO, TransactionStatus.APROVADA, "1.00", null);
+        send(TransactionType.SAQUE, TransactionStatus.REJEITADA, "2.00", null);
+        send(TransactionType.COMPRA, TransactionStatus.APROVADA, "3.00", "LAZER");
+
+        KeyValueStore<String, RecentActivity> store = driver.getKeyValueStore(UserActivityTopology.RECENT_ACTIVITY);
+        RecentActivity recent = store.get(userId.toString());
+
+        assertEquals(2, recent.items().size());
+        assertEquals(TransactionType.COMPRA, recent.items().get(0).type());
+        assertEquals(TransactionStatus.REJEITADA, recent.items().get(1).status());
+    }
+
+    @Test
+    void shouldIgnoreRepeatedOutcomeOfSameTransaction() {
+        TransactionOutcomeEvent event = new TransactionOutcomeEvent(UUID.randomUUID(), userId, TransactionType.COMPRA,
+                TransactionStatus.APROVADA, new BigDecimal("40.00"), "BRL", new BigDecimal("40.00"), null, "LAZER",
+                null, LocalDateTime.now());
+        outcomes.pipeInput(userId.toString(), event);
+        outcomes.pipeInput(userId.toString(), event);
+
+        TypeTotals totals = driver.<String, TypeTotals>getKeyValueStore(UserActivityTopology.TOTALS_BY_TYPE).get(userId.toString());
+        CategorySpending spending = driver.<String, CategorySpending>getKeyValueStore(UserActivityTopology.SPENDING_BY_CATEGORY).get(userId.toString());
+
+        assertEquals(1, totals.totals().get(TransactionType.COMPRA).count());
+        assertEquals(0, new BigDecimal("40.00").compareTo(spending.totals().get("LAZER")));
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.beca.transactionservice.infrastructure.web.kafka;
+
+import br.com.beca.transactionservice.application.port.TransactionEventPublisher;
+import br.com.beca.transactionservice.application.port.TransactionRepository;
+import br.com.beca.transactionservice.application.usecase.CancelTransactionUseCase;
+import br.com.beca.transactionservice.domain.dto.TokenInfoData;
+import br.com.beca.transactionservice.domain.event.TransactionOutcomeEvent;
+import br.com.beca.transactionservice.domain.model.Transaction;
+import br.com.beca.transactionservice.domain.model.TransactionStatus;
+import br.com.beca.transactionservice.domain.model.TransactionType;
+import br.com.beca.transactionservice.domain.valueobject.Money;
+import br.com.beca.transactionservice.infrastructure.gateway.InMemoryTransactionStatusProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * TransactionOutcomeListener + projeção de status:
+ *  - cancelada aqui, a transação continua CANCELADA quando o resultado do MS3 é relido do tópico
+ *  - outra instância (ou esta depois de reiniciar) chega a CANCELADA relendo o tópico
+ */
+class TransactionOutcomeListenerTest {
+
+    private final UUID transactionId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    private InMemoryTransactionStatusProjection projection;
+    private TransactionOutcomeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        projection = new InMemoryTransactionStatusProjection(Duration.ofHours(24), 1000);
+        listener = new TransactionOutcomeListener(projection, Duration.ofHours(24));
+    }
+
+    private TransactionOutcomeEvent outcome(TransactionStatus status) {
+        return new TransactionOutcomeEvent(transactionId, userId, TransactionType.SAQUE, status,
+                new BigDecimal("50.00"), "BRL", new BigDecimal("50.00"), null, null, null, LocalDateTime.now());
+    }
+
+    private TransactionOutcomeEvent cancel() {
+        Transaction approved = mock(Transaction.class);
+        when(approved.getUserId()).thenReturn(userId);
+        Transaction cancelled = mock(Transaction.class);
+        when(cancelled.getId()).thenReturn(transactionId);
+        when(cancelled.getUserId()).thenReturn(userId);
+        when(cancelled.getStatus()).thenReturn(TransactionStatus.CANCELADA);
+        when(cancelled.getAmount()).thenReturn(new Money(new BigDecimal("50.00"), "BRL"));
+        TransactionRepository repository = mock(TransactionRepository.class);
+        when(repository.findById(transactionId)).thenReturn(Optional.of(approved));
+        when(repository.cancel(transactionId)).thenReturn(Optional.of(cancelled));
+        TransactionEventPublisher publisher = mock(TransactionEventPublisher.class);
+
+        new CancelTransactionUseCase(repository, projection, publisher)
+                .execute(transactionId, new TokenInfoData(userId.toString(), "ROLE_USER"));
+
+        ArgumentCaptor<TransactionOutcomeEvent> published = ArgumentCaptor.forClass(TransactionOutcomeEvent.class);
+        verify(publisher).publish(published.capture());
+        return published.getValue();
+    }
+
+    private TransactionStatus status() {
+        return projection.find(transactionId).orElseThrow().status();
+    }
+
+    @Test
+    void shouldStayCancelledWhenOutcomeIsReplayed() {
+        listener.onMessage(outcome(TransactionStatus.APROVADA));
+        cancel();
+
+        listener.onMessage(outcome(TransactionStatus.APROVADA));
+
+        assertEquals(TransactionStatus.CANCELADA, status());
+    }
+
+    @Test
+    void shouldRebuildCancellationFromTopic() {
+        TransactionOutcomeEvent cancellation = cancel();
+
+        InMemoryTransactionStatusProjection restarted = new InMemoryTransactionStatusProjection(Duration.ofHours(24), 1000);
+        TransactionOutcomeListener replay = new TransactionOutcomeListener(restarted, Duration.ofHours(24));
+        replay.onMessage(outcome(TransactionStatus.APROVADA));
+        replay.onMessage(cancellation);
+
+        assertEquals(TransactionStatus.CANCELADA, restarted.find(transactionId).orElseThrow().status());
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.beca.transactionservice.infrastructure.web.sse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StatusReplayBuffer:
+ *  - reenvia só o que veio depois do Last-Event-ID
+ *  - sinaliza buraco quando o id informado já saiu do buffer (tamanho ou idade)
+ *  - buffer criado depois do Last-Event-ID também sinaliza buraco (eventos anteriores à criação)
+ */
+class StatusReplayBufferTest {
+
+    private static StatusStreamEvent event(long id, long createdAtMillis) {
+        return new StatusStreamEvent(id, null, createdAtMillis);
+    }
+
+    @Test
+    void shouldReplayEventsAfterLastId() {
+        StatusReplayBuffer buffer = new StatusReplayBuffer(10);
+        buffer.add(event(1, 0));
+        buffer.add(event(2, 0));
+        buffer.add(event(3, 0));
+
+        StatusReplayBuffer.Replay replay = buffer.since(1);
+
+        assertFalse(replay.gap());
+        assertEquals(2, replay.events().size());
+        assertEquals(2, replay.events().get(0).id());
+    }
+
+    @Test
+    void shouldFlagGapWhenHistoryWasTruncated() {
+        StatusReplayBuffer buffer = new StatusReplayBuffer(2);
+        buffer.add(event(1, 0));
+        buffer.add(event(2, 0));
+        buffer.add(event(3, 0));
+
+        assertTrue(buffer.since(0).gap());
+        assertFalse(buffer.since(1).gap());
+    }
+
+    @Test
+    void shouldExpireOldEvents() {
+        StatusReplayBuffer buffer = new StatusReplayBuffer(10);
+        buffer.add(event(1, 100));
+        buffer.add(event(2, 200));
+
+        buffer.expireBefore(150);
+
+        assertTrue(buffer.since(0).gap());
+        assertEquals(1, buffer.since(0).events().size());
+        buffer.expireBefore(300);
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void shouldFlagGapBeforeBufferWasCreated() {
+        StatusReplayBuffer buffer = new StatusReplayBuffer(10, 41);
+        buffer.add(event(42, 0));
+
+        assertTrue(buffer.since(30).gap());
+        assertFalse(buffer.since(41).gap());
+        assertEquals(1, buffer.since(41).events().size());
+    }
+}
@@ -0,0 +1,99 @@
+-- Roteiro para capturar os planos da busca de transações antes (filtros opcionais com
+-- "IS NULL OR") e depois (JPQL montado só com os filtros presentes + índices da V3/V4).
+-- Nenhuma saída de EXPLAIN ANALYZE foi registrada no repositório: a melhora da V4 não tem
+-- medição publicada até alguém rodar isto e anexar o resultado.
+--
+-- Rodar num banco descartável:  psql -d bench -f transaction_search_plans.sql
+-- Popula ~5 milhões de linhas em 20 mil usuários, espalhadas por 2 anos. A tabela é a da época
+-- da V4 (status/type em texto, sem partições); a V5/V6 mudam o formato, não os índices comparados.
+
+\timing on
+
+DROP TABLE IF EXISTS transactions;
+CREATE TABLE transactions (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    transfer_type VARCHAR(50),
+    buy_type VARCHAR(50),
+    amount NUMERIC(19, 4) NOT NULL,
+    brl NUMERIC(19, 4),
+    fx_rate NUMERIC(19, 8),
+    source_account_id UUID NOT NULL,
+    target_account_id UUID,
+    currency VARCHAR(10) NOT NULL,
+    description TEXT,
+    category VARCHAR(100),
+    rejection_reason TEXT,
+    record BOOLEAN DEFAULT FALSE,
+    correlation_id VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    processed_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE TEMP TABLE bench_users AS
+SELECT gen_random_uuid() AS user_id, row_number() OVER () AS n FROM generate_series(1, 20000);
+
+INSERT INTO transactions (id, user_id, type, status, amount, source_account_id, currency, correlation_id, created_at)
+SELECT gen_random_uuid(),
+       u.user_id,
+       (ARRAY['DEPOSITO', 'SAQUE', 'TRANSFERENCIA', 'COMPRA'])[1 + (g % 4)],
+       (ARRAY['APROVADA', 'APROVADA', 'APROVADA', 'REJEITADA', 'PENDENTE', 'CANCELADA'])[1 + (g % 6)],
+       round((random() * 1000)::numeric, 2),
+       gen_random_uuid(),
+       'BRL',
+       gen_random_uuid()::text,
+       now() - random() * interval '730 days'
+FROM generate_series(1, 5000000) g
+JOIN bench_users u ON u.n = 1 + (g % 20000);
+
+-- índices da V1
+CREATE INDEX idx_transactions_user_id ON transactions (user_id);
+CREATE INDEX idx_transactions_correlation_id ON transactions (correlation_id);
+CREATE INDEX idx_transactions_created_at ON transactions (created_at);
+ANALYZE transactions;
+
+SELECT user_id AS bench_user FROM bench_users WHERE n = 42 \gset
+
+-- ANTES: a query antiga, preparada como o Hibernate faz. Depois de 5 execuções o Postgres
+-- passa a usar o plano genérico; force_generic_plan mostra esse plano direto.
+SET plan_cache_mode = force_generic_plan;
+PREPARE old_search(uuid, varchar, varchar, timestamptz, timestamptz) AS
+SELECT * FROM transactions t
+WHERE ($1 IS NULL OR t.user_id = $1)
+  AND ($2 IS NULL OR t.status = $2)
+  AND ($3 IS NULL OR t.type = $3)
+  AND ($4::timestamp IS NULL OR t.created_at >= $4)
+  AND ($5::timestamp IS NULL OR t.created_at < $5);
+
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE old_search(:'bench_user', NULL, NULL, NULL, NULL);
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE old_search(:'bench_user', 'APROVADA', 'COMPRA', now() - interval '30 days', now());
+DEALLOCATE old_search;
+RESET plan_cache_mode;
+
+-- DEPOIS: índices da V3/V4 e só os predicados informados
+CREATE INDEX idx_transactions_user_created_id ON transactions (user_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_user_status_type_created ON transactions (user_id, status, type, created_at DESC);
+DROP INDEX idx_transactions_user_id;
+ANALYZE transactions;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM transactions t
+WHERE t.user_id = :'bench_user';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM transactions t
+WHERE t.user_id = :'bench_user'
+  AND t.status = 'APROVADA'
+  AND t.type = 'COMPRA'
+  AND t.created_at >= now() - interval '30 days'
+  AND t.created_at < now();
+
+-- página por cursor (GET /transactions): deve ser um Index Scan com Limit, sem Sort
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM transactions t
+WHERE t.user_id = :'bench_user'
+  AND (t.created_at, t.id) < (now() - interval '365 days', 'ffffffff-ffff-ffff-ffff-ffffffffffff'::uuid)
+ORDER BY t.created_at DESC, t.id DESC
+LIMIT 51;
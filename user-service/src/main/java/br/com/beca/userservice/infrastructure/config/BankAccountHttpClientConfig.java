@@ -0,0 +1,106 @@
+package br.com.beca.userservice.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Chamadas do MS1 à MockAPI são poucas e vêm de requisições web, então aqui bastam os binders
+ * prontos do Micrometer: ocupação do pool e latência por uri template (http.client.requests).
+ * O prazo total com abort fica no MS3, onde uma chamada presa segura thread de listener.
+ */
+@Configuration
+public class BankAccountHttpClientConfig {
+
+    private static final String POOL = "mockapi";
+
+    @Bean
+    public RestClient bankAccountRestClient(
+            @Value("${mockapi.base-url}") String baseUrl,
+            @Value("${mockapi.http.max-connections-per-host:20}") int maxPerHost,
+            @Value("${mockapi.http.max-connections-total:50}") int maxTotal,
+            @Value("${mockapi.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${mockapi.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${mockapi.http.pool-wait-timeout:1s}") Duration poolWaitTimeout,
+            @Value("${mockapi.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${mockapi.http.connection-ttl:5m}") Duration connectionTtl,
+            @Value("${mockapi.http.http2-enabled:false}") boolean http2,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry
+    ) {
+        ClientHttpRequestFactory requestFactory = http2
+                ? http2RequestFactory(connectTimeout, readTimeout)
+                : pooledRequestFactory(maxPerHost, maxTotal, connectTimeout, readTimeout, poolWaitTimeout, keepAlive, connectionTtl, meterRegistry);
+
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .observationRegistry(observationRegistry)
+                .build();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(
+            int maxPerHost,
+            int maxTotal,
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration poolWaitTimeout,
+            Duration keepAlive,
+            Duration connectionTtl,
+            MeterRegistry meterRegistry
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnPerRoute(maxPerHost)
+                .setMaxConnTotal(maxTotal)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL).bindTo(meterRegistry);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolWaitTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .build();
+
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    // HTTP/2 usa o HttpClient do JDK, que multiplexa em uma conexão por host; o pool é gerenciado pelo JDK
+    private ClientHttpRequestFactory http2RequestFactory(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+}
@@ -3,6 +3,7 @@ package br.com.beca.userservice.infrastructure.gateway;
 import br.com.beca.userservice.application.port.BankAccountPort;
 import br.com.beca.userservice.domain.dto.BankAccount;
 import br.com.beca.userservice.domain.exception.NotFoundException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
@@ -15,10 +16,10 @@ public class MockApiAdapter implements BankAccountPort {
     private final String endpoint;
 
     public MockApiAdapter(
-            @Value("${mockapi.base-url}") String baseUrl,
+            @Qualifier("bankAccountRestClient") RestClient client,
             @Value("${mockapi.resource}") String endpoint
-            ) {
-        this.client = RestClient.builder().baseUrl(baseUrl).build();
+    ) {
+        this.client = client;
         this.endpoint = endpoint;
     }
 
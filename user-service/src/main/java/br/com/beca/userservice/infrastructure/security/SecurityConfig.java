@@ -35,6 +35,7 @@ public class SecurityConfig {
                         .authorizeHttpRequests(req -> {
                             req.requestMatchers(HttpMethod.POST, "/login", "/usuarios/criar").permitAll();
                             req.requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll();
+                            req.requestMatchers("/actuator/health").permitAll();
                             req.anyRequest().authenticated();
                         })
                         .addFilterBefore(securityFilter, UsernamePasswordAuthenticationFilter.class)